@@ -164,6 +164,11 @@ public interface Arbitrary<T> {
 	 * Create a new arbitrary of the same type {@code T} that creates and shrinks the original arbitrary but will
 	 * never generate the same value twice.
 	 *
+	 * <p>
+	 * When used for a property's parameters values are unique per try. A generator that is used
+	 * directly remembers all values it has generated as long as the generator is in use.
+	 * </p>
+	 *
 	 * @throws JqwikException if filtering will fail to come up with a value after 10000 tries
 	 */
 	default Arbitrary<T> unique() {
@@ -0,0 +1,22 @@
+package net.jqwik.api;
+
+import java.lang.annotation.*;
+
+import org.apiguardian.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * Use {@code @ConcurrentProperties} to mark a container class whose properties and examples
+ * can safely be executed at the same time. This only has an effect if parallel execution
+ * has been switched on through {@code executionParallelism} in {@code jqwik.properties}.
+ *
+ * Without this annotation the properties of a container class are executed one after the other,
+ * but still concurrently with properties of other container classes.
+ */
+@Target({ ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@API(status = EXPERIMENTAL, since = "1.1.1")
+public @interface ConcurrentProperties {
+}
@@ -34,6 +34,9 @@ public @interface Property {
 	int MAX_DISCARD_RATIO_NOT_SET = 0;
 	String SEED_NOT_SET = "";
 	String DEFAULT_STEREOTYPE = "Property";
+	int PARALLELISM_NOT_SET = 0;
+	String SHRINKING_TIMEOUT_NOT_SET = "";
+	int EDGE_CASE_TRIES_NOT_SET = -1;
 
 	int tries() default TRIES_NOT_SET;
 
@@ -50,4 +53,65 @@ public @interface Property {
 
 	@API(status = MAINTAINED, since = "1.0")
 	AfterFailureMode afterFailure() default AfterFailureMode.NOT_SET;
+
+	/**
+	 * The number of threads used to evaluate tries. Values greater than 1
+	 * switch on parallel evaluation. Each randomized try is generated
+	 * from its own seed derived from the property's seed and the try's index,
+	 * also on a single thread. A failing property
+	 * reports the falsified sample with the lowest try index, so the same seed
+	 * produces the same sample regardless of the number of threads.
+	 *
+	 * <p>
+	 * Shrinking evaluates the candidates of each shrinking step concurrently, too.
+	 * It always continues with the smallest falsifying candidate and thereby ends
+	 * with the same sample as shrinking on a single thread.
+	 * Numbers are an exception: they are shrunk by bisection, which tries one value per thread
+	 * in each step. If a property does not fail for all values above some threshold
+	 * the shrunk number can differ from the one found on a single thread.
+	 * </p>
+	 *
+	 * <p>
+	 * The property method, its container instance and all arbitraries
+	 * used must be safe to be called from several threads.
+	 * </p>
+	 */
+	@API(status = EXPERIMENTAL, since = "1.1.1")
+	int parallelism() default PARALLELISM_NOT_SET;
+
+	/**
+	 * The maximum time spent on shrinking a falsified sample, e.g. {@code "500ms"}, {@code "30s"} or {@code "2m"}.
+	 * When the time is up shrinking stops with the smallest falsifying sample found so far
+	 * and reports how far it got. {@code "0"} means no time limit.
+	 *
+	 * <p>
+	 * The timeout applies in addition to {@linkplain #shrinking()}.
+	 * </p>
+	 */
+	@API(status = EXPERIMENTAL, since = "1.1.1")
+	String shrinkingTimeout() default SHRINKING_TIMEOUT_NOT_SET;
+
+	/**
+	 * The maximum number of tries that combine the parameters' edge cases, e.g. {@code 0},
+	 * {@code Integer.MIN_VALUE} or an empty list, before randomized generation starts.
+	 * If there are more combinations than that they are sampled evenly.
+	 * {@code 0} switches off this phase.
+	 *
+	 * <p>
+	 * Edge case tries count as tries and only happen with randomized generation.
+	 * </p>
+	 */
+	@API(status = EXPERIMENTAL, since = "1.1.1")
+	int edgeCaseTries() default EDGE_CASE_TRIES_NOT_SET;
+
+	/**
+	 * How falsified samples are shrunk. With {@linkplain ShrinkingEngine#CHOICE_SEQUENCE}
+	 * the random choices behind a sample are shrunk instead of the sample's values.
+	 *
+	 * <p>
+	 * The engine applies in addition to {@linkplain #shrinking()} and {@linkplain #shrinkingTimeout()}.
+	 * </p>
+	 */
+	@API(status = EXPERIMENTAL, since = "1.1.1")
+	ShrinkingEngine shrinkingEngine() default ShrinkingEngine.SHRINKABLES;
 }
@@ -19,9 +19,16 @@ public interface RandomGenerator<T> {
 			implementation = FacadeLoader.load(RandomGeneratorFacade.class);
 		}
 
-		public abstract <T, U> Shrinkable<U> flatMap(Shrinkable<T> self, Function<T, RandomGenerator<U>> mapper, long nextLong);
+		/**
+		 * Before version 1.1.1 both {@code flatMap} methods received a seed of type {@code long}
+		 * instead of the {@code random} that generated {@code self}.
+		 * The random is needed to regenerate flat mapped values with the same random algorithm during shrinking.
+		 */
+		public abstract <T, U> Shrinkable<U> flatMap(Shrinkable<T> self, Function<T, RandomGenerator<U>> mapper, Random random);
 
-		public abstract <T, U> Shrinkable<U> flatMap(Shrinkable<T> wrappedShrinkable, Function<T, Arbitrary<U>> mapper, int genSize, long nextLong);
+		public abstract <T, U> Shrinkable<U> flatMap(Shrinkable<T> wrappedShrinkable, Function<T, Arbitrary<U>> mapper, int genSize, Random random);
+
+		public abstract <T, U> RandomGenerator<U> map(RandomGenerator<T> self, Function<T, U> mapper);
 
 		public abstract <T> RandomGenerator<T> filter(RandomGenerator<T> self, Predicate<T> filterPredicate);
 
@@ -40,20 +47,20 @@ public interface RandomGenerator<T> {
 	Shrinkable<T> next(Random random);
 
 	default <U> RandomGenerator<U> map(Function<T, U> mapper) {
-		return random -> RandomGenerator.this.next(random).map(mapper);
+		return RandomGeneratorFacade.implementation.map(this, mapper);
 	}
 
 	default <U> RandomGenerator<U> flatMap(Function<T, RandomGenerator<U>> mapper) {
 		return random -> {
 			Shrinkable<T> wrappedShrinkable = RandomGenerator.this.next(random);
-			return RandomGeneratorFacade.implementation.flatMap(wrappedShrinkable, mapper, random.nextLong());
+			return RandomGeneratorFacade.implementation.flatMap(wrappedShrinkable, mapper, random);
 		};
 	}
 
 	default <U> RandomGenerator<U> flatMap(Function<T, Arbitrary<U>> mapper, int genSize) {
 		return random -> {
 			Shrinkable<T> wrappedShrinkable = RandomGenerator.this.next(random);
-			return RandomGeneratorFacade.implementation.flatMap(wrappedShrinkable, mapper, genSize, random.nextLong());
+			return RandomGeneratorFacade.implementation.flatMap(wrappedShrinkable, mapper, genSize, random);
 		};
 	}
 
@@ -72,6 +79,15 @@ public interface RandomGenerator<T> {
 		return RandomGeneratorFacade.implementation.withEdgeCases(this, genSize, edgeCases);
 	}
 
+	/**
+	 * @return the edge cases this generator mixes into its values, e.g. as added by {@linkplain #withEdgeCases(int, List)}.
+	 * Jqwik combines the edge cases of all parameters before it starts with random tries.
+	 */
+	@API(status = EXPERIMENTAL, since = "1.1.1")
+	default List<Shrinkable<T>> edgeCases() {
+		return Collections.emptyList();
+	}
+
 	@SuppressWarnings("unchecked")
 	default RandomGenerator<T> withSamples(T... samples) {
 		return RandomGeneratorFacade.implementation.withSamples(this, samples);
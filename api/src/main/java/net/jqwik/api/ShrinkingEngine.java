@@ -0,0 +1,37 @@
+package net.jqwik.api;
+
+import org.apiguardian.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * The shrinking engine defines how a falsified sample is made smaller.
+ * It can be set in {@linkplain Property#shrinkingEngine()} for any property method; default is {@linkplain #SHRINKABLES}.
+ *
+ * @see Property
+ * @see ShrinkingMode
+ */
+@API(status = EXPERIMENTAL, since = "1.1.1")
+public enum ShrinkingEngine {
+
+	/**
+	 * Each parameter is shrunk through the {@linkplain Shrinkable} its generator created.
+	 */
+	SHRINKABLES,
+
+	/**
+	 * All random choices made while generating a try's parameters are recorded.
+	 * Shrinking works on this sequence of choices - it deletes spans, lowers or raises values and sorts blocks -
+	 * and generates the parameters again from each shorter or smaller sequence.
+	 * Thereby any combination of {@code map}, {@code flatMap}, {@code filter} and combinators
+	 * shrinks without its own shrinkable.
+	 *
+	 * <p>
+	 * Only samples of randomized generation are shrunk this way; edge case tries
+	 * and samples from data-driven or exhaustive generation are shrunk through their shrinkables.
+	 * The candidates are evaluated one after the other, also when {@linkplain Property#parallelism()} is set.
+	 * A seed produces different samples with this engine than with {@linkplain #SHRINKABLES}.
+	 * </p>
+	 */
+	CHOICE_SEQUENCE
+}
@@ -34,4 +34,21 @@ public interface DoubleArbitrary extends Arbitrary<Double> {
 	 */
 	DoubleArbitrary ofScale(int scale);
 
+	/**
+	 * Add {@code special} value to the values that are injected as edge cases.
+	 * In contrast to regular values a special value does not have to be within the range
+	 * and will not be shrunk, e.g. {@code Double.NaN}.
+	 */
+	@API(status = EXPERIMENTAL, since = "1.1.1")
+	DoubleArbitrary withSpecialValue(double special);
+
+	/**
+	 * Add {@code NaN}, {@code -0.0}, {@code MIN_VALUE}, {@code MIN_NORMAL}, {@code POSITIVE_INFINITY}
+	 * and {@code NEGATIVE_INFINITY} of type {@linkplain Double} to the values that are injected as edge cases.
+	 *
+	 * @see #withSpecialValue(double)
+	 */
+	@API(status = EXPERIMENTAL, since = "1.1.1")
+	DoubleArbitrary withStandardSpecialValues();
+
 }
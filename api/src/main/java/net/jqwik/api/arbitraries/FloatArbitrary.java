@@ -33,4 +33,21 @@ public interface FloatArbitrary extends Arbitrary<Float> {
 	 * Set the scale (maximum number of decimal places) to {@code scale}.
 	 */
 	FloatArbitrary ofScale(int scale);
+
+	/**
+	 * Add {@code special} value to the values that are injected as edge cases.
+	 * In contrast to regular values a special value does not have to be within the range
+	 * and will not be shrunk, e.g. {@code Float.NaN}.
+	 */
+	@API(status = EXPERIMENTAL, since = "1.1.1")
+	FloatArbitrary withSpecialValue(float special);
+
+	/**
+	 * Add {@code NaN}, {@code -0.0}, {@code MIN_VALUE}, {@code MIN_NORMAL}, {@code POSITIVE_INFINITY}
+	 * and {@code NEGATIVE_INFINITY} of type {@linkplain Float} to the values that are injected as edge cases.
+	 *
+	 * @see #withSpecialValue(float)
+	 */
+	@API(status = EXPERIMENTAL, since = "1.1.1")
+	FloatArbitrary withStandardSpecialValues();
 }
@@ -28,4 +28,13 @@ public interface IntegerArbitrary extends Arbitrary<Integer> {
 	 * Set the allowed upper {@code max} (included) bounder of generated numbers.
 	 */
 	IntegerArbitrary lessOrEqual(int max);
+
+	/**
+	 * Only generate multiples of {@code divisor} within the allowed range.
+	 * In contrast to filtering with {@code x % divisor == 0} no generated values have to be thrown away.
+	 *
+	 * @throws JqwikException if {@code divisor} is not positive
+	 */
+	@API(status = EXPERIMENTAL, since = "1.1.1")
+	IntegerArbitrary multipleOf(int divisor);
 }
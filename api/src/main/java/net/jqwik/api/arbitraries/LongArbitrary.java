@@ -28,4 +28,13 @@ public interface LongArbitrary extends Arbitrary<Long> {
 	 * Set the allowed upper {@code max} (included) bounder of generated numbers.
 	 */
 	LongArbitrary lessOrEqual(long max);
+
+	/**
+	 * Only generate multiples of {@code divisor} within the allowed range.
+	 * In contrast to filtering with {@code x % divisor == 0} no generated values have to be thrown away.
+	 *
+	 * @throws JqwikException if {@code divisor} is not positive
+	 */
+	@API(status = EXPERIMENTAL, since = "1.1.1")
+	LongArbitrary multipleOf(long divisor);
 }
@@ -0,0 +1,101 @@
+package net.jqwik.benchmarks;
+
+import java.math.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Cost of generating a single value with the default arbitraries.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ArbitraryGenerationBenchmarks {
+
+	private static final int GEN_SIZE = 1000;
+
+	private Random random;
+
+	private RandomGenerator<Integer> integers;
+	private RandomGenerator<Long> longs;
+	private RandomGenerator<Short> shorts;
+	private RandomGenerator<Byte> bytes;
+	private RandomGenerator<Double> doubles;
+	private RandomGenerator<Float> floats;
+	private RandomGenerator<BigInteger> bigIntegers;
+	private RandomGenerator<BigDecimal> bigDecimals;
+	private RandomGenerator<Character> chars;
+	private RandomGenerator<String> strings;
+
+	@Setup
+	public void setup() {
+		random = new Random(42);
+		integers = Arbitraries.integers().generator(GEN_SIZE);
+		longs = Arbitraries.longs().generator(GEN_SIZE);
+		shorts = Arbitraries.shorts().generator(GEN_SIZE);
+		bytes = Arbitraries.bytes().generator(GEN_SIZE);
+		doubles = Arbitraries.doubles().generator(GEN_SIZE);
+		floats = Arbitraries.floats().generator(GEN_SIZE);
+		bigIntegers = Arbitraries.bigIntegers().generator(GEN_SIZE);
+		bigDecimals = Arbitraries.bigDecimals().generator(GEN_SIZE);
+		chars = Arbitraries.chars().generator(GEN_SIZE);
+		strings = Arbitraries.strings().generator(GEN_SIZE);
+	}
+
+	@Benchmark
+	public Integer integers() {
+		return integers.next(random).value();
+	}
+
+	@Benchmark
+	public Long longs() {
+		return longs.next(random).value();
+	}
+
+	@Benchmark
+	public Short shorts() {
+		return shorts.next(random).value();
+	}
+
+	@Benchmark
+	public Byte bytes() {
+		return bytes.next(random).value();
+	}
+
+	@Benchmark
+	public Double doubles() {
+		return doubles.next(random).value();
+	}
+
+	@Benchmark
+	public Float floats() {
+		return floats.next(random).value();
+	}
+
+	@Benchmark
+	public BigInteger bigIntegers() {
+		return bigIntegers.next(random).value();
+	}
+
+	@Benchmark
+	public BigDecimal bigDecimals() {
+		return bigDecimals.next(random).value();
+	}
+
+	@Benchmark
+	public Character chars() {
+		return chars.next(random).value();
+	}
+
+	@Benchmark
+	public String strings() {
+		return strings.next(random).value();
+	}
+}
@@ -0,0 +1,52 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Cost of generating lists, sets and strings of a fixed size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ContainerGenerationBenchmarks {
+
+	@Param({"10", "100", "1000"})
+	public int size;
+
+	private Random random;
+
+	private RandomGenerator<List<Integer>> lists;
+	private RandomGenerator<Set<Integer>> sets;
+	private RandomGenerator<String> strings;
+
+	@Setup
+	public void setup() {
+		random = new Random(42);
+		lists = Arbitraries.integers().list().ofSize(size).generator(size);
+		sets = Arbitraries.integers().set().ofSize(size).generator(size);
+		strings = Arbitraries.strings().ofLength(size).generator(size);
+	}
+
+	@Benchmark
+	public List<Integer> lists() {
+		return lists.next(random).value();
+	}
+
+	@Benchmark
+	public Set<Integer> sets() {
+		return sets.next(random).value();
+	}
+
+	@Benchmark
+	public String strings() {
+		return strings.next(random).value();
+	}
+}
@@ -0,0 +1,76 @@
+package net.jqwik.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.junit.platform.engine.*;
+import org.junit.platform.engine.reporting.*;
+import org.junit.platform.launcher.*;
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.engine.*;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.*;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.*;
+
+/**
+ * End-to-end overhead of discovering and executing {@linkplain SyntheticSuite} with {@linkplain JqwikTestEngine}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EngineBenchmarks {
+
+	private JqwikTestEngine engine;
+
+	@Setup
+	public void setup() {
+		engine = new JqwikTestEngine();
+	}
+
+	@Benchmark
+	public TestDescriptor discover() {
+		return engine.discover(discoveryRequest(), engineId());
+	}
+
+	@Benchmark
+	public TestDescriptor discoverAndExecute() {
+		LauncherDiscoveryRequest discoveryRequest = discoveryRequest();
+		TestDescriptor engineDescriptor = engine.discover(discoveryRequest, engineId());
+		engine.execute(new ExecutionRequest(engineDescriptor, new NoopExecutionListener(), discoveryRequest.getConfigurationParameters()));
+		return engineDescriptor;
+	}
+
+	// A new request every time, otherwise the engine would return its cached descriptor
+	private static LauncherDiscoveryRequest discoveryRequest() {
+		return request().selectors(selectClass(SyntheticSuite.class)).build();
+	}
+
+	private static UniqueId engineId() {
+		return UniqueId.forEngine(JqwikTestEngine.ENGINE_ID);
+	}
+
+	private static class NoopExecutionListener implements EngineExecutionListener {
+		@Override
+		public void dynamicTestRegistered(TestDescriptor testDescriptor) {
+		}
+
+		@Override
+		public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+		}
+
+		@Override
+		public void executionStarted(TestDescriptor testDescriptor) {
+		}
+
+		@Override
+		public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+		}
+
+		@Override
+		public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+		}
+	}
+}
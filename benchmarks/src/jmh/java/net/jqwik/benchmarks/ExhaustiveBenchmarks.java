@@ -0,0 +1,60 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Throughput of iterating through exhaustive generators.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ExhaustiveBenchmarks {
+
+	private ExhaustiveGenerator<Integer> integers;
+	private ExhaustiveGenerator<String> combined;
+	private ExhaustiveGenerator<List<Integer>> lists;
+
+	@Setup
+	public void setup() {
+		integers = exhaustive(Arbitraries.integers().between(0, 99_999));
+		combined = exhaustive(Combinators.combine(
+			Arbitraries.integers().between(0, 999),
+			Arbitraries.chars().between('a', 'z')
+		).as((i, c) -> c + i.toString()));
+		lists = exhaustive(Arbitraries.integers().between(0, 9).list().ofMaxSize(5));
+	}
+
+	private static <T> ExhaustiveGenerator<T> exhaustive(Arbitrary<T> arbitrary) {
+		return arbitrary.exhaustive().orElseThrow(() -> new JqwikException("Arbitrary is not exhaustive"));
+	}
+
+	@Benchmark
+	public void integers(Blackhole blackhole) {
+		iterate(integers, blackhole);
+	}
+
+	@Benchmark
+	public void combined(Blackhole blackhole) {
+		iterate(combined, blackhole);
+	}
+
+	@Benchmark
+	public void lists(Blackhole blackhole) {
+		iterate(lists, blackhole);
+	}
+
+	private static <T> void iterate(ExhaustiveGenerator<T> generator, Blackhole blackhole) {
+		for (T value : generator) {
+			blackhole.consume(value);
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+
+/**
+ * Cost of generating a value through chains of map and filter stages.
+ * Fused chains are built with {@code map()} and {@code filter()}; nested chains
+ * wrap a generator and a shrinkable per stage as it was done before stages were fused.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MapFilterChainBenchmarks {
+
+	private static final int GEN_SIZE = 1000;
+
+	private Random random;
+
+	private RandomGenerator<Integer> fusedThreeStages;
+	private RandomGenerator<Integer> nestedThreeStages;
+	private RandomGenerator<Integer> fusedFiveStages;
+	private RandomGenerator<Integer> nestedFiveStages;
+
+	@Setup
+	public void setup() {
+		random = new Random(42);
+		RandomGenerator<Integer> integers = Arbitraries.integers().between(0, 10000).generator(GEN_SIZE);
+
+		fusedThreeStages = integers.filter(i -> i % 2 == 0).map(i -> i * 3).map(i -> i + 1);
+		nestedThreeStages = nestedMap(nestedMap(new FilteredGenerator<>(integers, i -> i % 2 == 0), i -> i * 3), i -> i + 1);
+
+		fusedFiveStages = integers.map(i -> i + 1).filter(i -> i % 3 != 0).map(i -> i * 2).map(i -> i - 1).filter(i -> i > 5);
+		nestedFiveStages = new FilteredGenerator<>(
+			nestedMap(nestedMap(new FilteredGenerator<>(nestedMap(integers, i -> i + 1), i -> i % 3 != 0), i -> i * 2), i -> i - 1),
+			i -> i > 5
+		);
+	}
+
+	private static <T, U> RandomGenerator<U> nestedMap(RandomGenerator<T> generator, Function<T, U> mapper) {
+		return random -> generator.next(random).map(mapper);
+	}
+
+	@Benchmark
+	public Integer fusedThreeStages() {
+		return fusedThreeStages.next(random).value();
+	}
+
+	@Benchmark
+	public Integer nestedThreeStages() {
+		return nestedThreeStages.next(random).value();
+	}
+
+	@Benchmark
+	public Integer fusedFiveStages() {
+		return fusedFiveStages.next(random).value();
+	}
+
+	@Benchmark
+	public Integer nestedFiveStages() {
+		return nestedFiveStages.next(random).value();
+	}
+}
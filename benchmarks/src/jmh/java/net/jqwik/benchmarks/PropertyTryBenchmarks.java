@@ -0,0 +1,90 @@
+package net.jqwik.benchmarks;
+
+import java.math.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+import net.jqwik.api.domains.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Cost of generating the parameters of a single try compared to generating the same values directly.
+ * The difference between a try and its direct counterpart is the per-try overhead,
+ * which should not depend on how expensive it is to create an arbitrary's generator.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PropertyTryBenchmarks {
+
+	private static final int GEN_SIZE = 1000;
+
+	private Random random;
+
+	private ShrinkablesGenerator simpleTries;
+	private ShrinkablesGenerator complexTries;
+
+	private RandomGenerator<Integer> integers;
+	private RandomGenerator<String> strings;
+	private RandomGenerator<BigDecimal> bigDecimals;
+
+	@Setup
+	public void setup() {
+		random = new Random(42);
+		simpleTries = triesFor("simple");
+		complexTries = triesFor("complex");
+		integers = Arbitraries.integers().generator(GEN_SIZE);
+		strings = Arbitraries.strings().alpha().ofMaxLength(20).generator(GEN_SIZE);
+		bigDecimals = Arbitraries.bigDecimals().ofScale(5).generator(GEN_SIZE);
+	}
+
+	private ShrinkablesGenerator triesFor(String methodName) {
+		PropertyMethodArbitraryResolver arbitraryResolver =
+			new PropertyMethodArbitraryResolver(Parameters.class, new Parameters(), DomainContext.global());
+		List<MethodParameter> parameters = Arrays.asList(JqwikReflectionSupport.getMethodParameters(method(methodName), Parameters.class));
+		return RandomizedShrinkablesGenerator.forParameters(parameters, arbitraryResolver, random, GEN_SIZE);
+	}
+
+	private static java.lang.reflect.Method method(String methodName) {
+		return Arrays.stream(Parameters.class.getDeclaredMethods())
+					 .filter(method -> method.getName().equals(methodName))
+					 .findFirst().orElseThrow(() -> new IllegalArgumentException(methodName));
+	}
+
+	@Benchmark
+	public List<Shrinkable> simpleTry() {
+		return simpleTries.next();
+	}
+
+	@Benchmark
+	public Integer simpleDirect() {
+		return integers.next(random).value();
+	}
+
+	@Benchmark
+	public List<Shrinkable> complexTry() {
+		return complexTries.next();
+	}
+
+	@Benchmark
+	public Object[] complexDirect() {
+		return new Object[]{strings.next(random).value(), bigDecimals.next(random).value()};
+	}
+
+	private static class Parameters {
+
+		public void simple(@ForAll int anInt) {
+		}
+
+		public void complex(@ForAll @AlphaChars @StringLength(max = 20) String aString, @ForAll @Scale(5) BigDecimal aDecimal) {
+		}
+	}
+}
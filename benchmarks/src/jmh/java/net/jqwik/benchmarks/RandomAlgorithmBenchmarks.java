@@ -0,0 +1,51 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.engine.properties.*;
+
+/**
+ * Cost of drawing random values from the available {@linkplain RandomAlgorithm random algorithms}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RandomAlgorithmBenchmarks {
+
+	@Param({"SPLIT_MIX", "JAVA_UTIL_RANDOM"})
+	public String algorithm;
+
+	private Random random;
+
+	@Setup
+	public void setup() {
+		SourceOfRandomness.useAlgorithm(RandomAlgorithm.valueOf(algorithm));
+		random = SourceOfRandomness.newRandom(42);
+	}
+
+	@Benchmark
+	public int nextBoundedInt() {
+		return random.nextInt(1000);
+	}
+
+	@Benchmark
+	public long nextLong() {
+		return random.nextLong();
+	}
+
+	@Benchmark
+	public double nextDouble() {
+		return random.nextDouble();
+	}
+
+	@Benchmark
+	public Random split() {
+		return SourceOfRandomness.split(random);
+	}
+}
@@ -0,0 +1,154 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.stateful.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Time to fully shrink the first falsifying sample of canonical failing properties.
+ * Samples are generated once per trial so that every invocation shrinks the same value.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ShrinkingBenchmarks {
+
+	private static final int GEN_SIZE = 1000;
+
+	private FailingProperty<List<Integer>> largeList;
+	private FailingProperty<List<Integer>> nestedFlatMap;
+	private FailingProperty<ActionSequence<List<Integer>>> actionSequence;
+
+	@Setup
+	public void setup() {
+		largeList = FailingProperty.of(
+			Arbitraries.integers().between(0, 1000).list().ofMaxSize(1000),
+			list -> list.stream().allMatch(i -> i < 900)
+		);
+		nestedFlatMap = FailingProperty.of(
+			Arbitraries.integers().between(1, 50).flatMap(
+				size -> Arbitraries.integers().between(0, 1000).flatMap(
+					max -> Arbitraries.integers().between(0, max).list().ofSize(size)
+				)
+			),
+			list -> list.stream().mapToInt(i -> i).sum() < 5000
+		);
+		actionSequence = FailingProperty.of(
+			Arbitraries.sequences(Arbitraries.oneOf(pushes(), pops())).ofMaxSize(100),
+			sequence -> {
+				sequence.run(new ArrayList<>());
+				return true;
+			}
+		);
+	}
+
+	@Benchmark
+	public PropertyShrinkingResult largeList() {
+		return largeList.shrink();
+	}
+
+	@Benchmark
+	public PropertyShrinkingResult nestedFlatMap() {
+		return nestedFlatMap.shrink();
+	}
+
+	@Benchmark
+	public PropertyShrinkingResult actionSequence() {
+		return actionSequence.shrink();
+	}
+
+	private static Arbitrary<Action<List<Integer>>> pushes() {
+		return Arbitraries.integers().between(0, 100).map(PushAction::new);
+	}
+
+	private static Arbitrary<Action<List<Integer>>> pops() {
+		return Arbitraries.constant(new PopAction());
+	}
+
+	private static class FailingProperty<T> {
+
+		private final Shrinkable<T> falsifiedSample;
+		private final Falsifier<List> falsifier;
+		private final Throwable originalError;
+
+		@SuppressWarnings("unchecked")
+		static <T> FailingProperty<T> of(Arbitrary<T> arbitrary, Falsifier<T> property) {
+			RandomGenerator<T> generator = arbitrary.generator(GEN_SIZE);
+			Random random = new Random(42);
+			Falsifier<List> falsifier = params -> property.test((T) params.get(0));
+			while (true) {
+				Shrinkable<T> sample = generator.next(random);
+				FalsificationResult<List> result = falsifier.falsify(Shrinkable.unshrinkable(Collections.singletonList(sample.value())));
+				if (result.status() == FalsificationResult.Status.FALSIFIED) {
+					return new FailingProperty<>(sample, falsifier, result.throwable().orElse(null));
+				}
+			}
+		}
+
+		private FailingProperty(Shrinkable<T> falsifiedSample, Falsifier<List> falsifier, Throwable originalError) {
+			this.falsifiedSample = falsifiedSample;
+			this.falsifier = falsifier;
+			this.originalError = originalError;
+		}
+
+		PropertyShrinkingResult shrink() {
+			PropertyShrinker shrinker = new PropertyShrinker(
+				Collections.singletonList(falsifiedSample),
+				ShrinkingMode.FULL,
+				ignore -> {},
+				new Reporting[0]
+			);
+			return shrinker.shrink(falsifier, originalError);
+		}
+	}
+
+	private static class PushAction implements Action<List<Integer>> {
+
+		private final int element;
+
+		private PushAction(int element) {
+			this.element = element;
+		}
+
+		@Override
+		public List<Integer> run(List<Integer> stack) {
+			stack.add(element);
+			if (stack.size() > 10) {
+				throw new AssertionError("Stack must not contain more than 10 elements");
+			}
+			return stack;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("push(%s)", element);
+		}
+	}
+
+	private static class PopAction implements Action<List<Integer>> {
+
+		@Override
+		public boolean precondition(List<Integer> stack) {
+			return !stack.isEmpty();
+		}
+
+		@Override
+		public List<Integer> run(List<Integer> stack) {
+			stack.remove(stack.size() - 1);
+			return stack;
+		}
+
+		@Override
+		public String toString() {
+			return "pop";
+		}
+	}
+}
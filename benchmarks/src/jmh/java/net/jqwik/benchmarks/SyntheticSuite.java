@@ -0,0 +1,65 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+
+/**
+ * A small, always succeeding container tree used by {@linkplain EngineBenchmarks}.
+ */
+public class SyntheticSuite {
+
+	@Example
+	void anExample() {
+	}
+
+	@Property(tries = 100)
+	boolean absoluteValueIsNotNegative(@ForAll @IntRange(min = -1000, max = 1000) int anInt) {
+		return Math.abs(anInt) >= 0;
+	}
+
+	@Property(tries = 100)
+	boolean reversingTwiceIsIdentity(@ForAll List<@AlphaChars String> aList) {
+		List<String> reversed = new ArrayList<>(aList);
+		Collections.reverse(reversed);
+		Collections.reverse(reversed);
+		return reversed.equals(aList);
+	}
+
+	@Group
+	class Strings {
+
+		@Property(tries = 100)
+		boolean concatenationAddsLengths(@ForAll String first, @ForAll String second) {
+			return (first + second).length() == first.length() + second.length();
+		}
+
+		@Property(tries = 100)
+		boolean exhaustiveBooleans(@ForAll boolean aBoolean) {
+			return aBoolean || !aBoolean;
+		}
+	}
+
+	@Group
+	class Combinations {
+
+		@Provide
+		Arbitrary<String> ids() {
+			return Combinators.combine(
+				Arbitraries.strings().withCharRange('A', 'Z').ofLength(3),
+				Arbitraries.integers().between(0, 999)
+			).as((prefix, number) -> prefix + "-" + number);
+		}
+
+		@Property(tries = 100)
+		boolean idsContainSeparator(@ForAll("ids") String id) {
+			return id.contains("-");
+		}
+
+		@Property(tries = 100)
+		boolean setsHaveNoDuplicates(@ForAll @Size(max = 20) Set<Integer> aSet) {
+			return new HashSet<>(aSet).size() == aSet.size();
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.platform.engine.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
+import net.jqwik.engine.recording.*;
+
+/**
+ * Cost of looking up every stored test run by its unique id.
+ * Discovery does one such lookup per property. That lookups do not visit the stored runs
+ * is checked deterministically by {@code TestRunDataTests.lookupsDoNotVisitStoredRuns}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TestRunDataBenchmarks {
+
+	@Param({"1000", "10000", "20000"})
+	public int numberOfRuns;
+
+	private TestRunData testRunData;
+	private List<UniqueId> uniqueIds;
+
+	@Setup
+	public void setup() {
+		uniqueIds = new ArrayList<>();
+		List<TestRun> runs = new ArrayList<>();
+		UniqueId engineId = UniqueId.forEngine("jqwik");
+		for (int i = 0; i < numberOfRuns; i++) {
+			UniqueId uniqueId = engineId.append("class", "Container" + i / 100).append("property", "property" + i);
+			uniqueIds.add(uniqueId);
+			Status status = i % 10 == 0 ? Status.FAILED : Status.SUCCESSFUL;
+			runs.add(new TestRun(uniqueId, status, Long.toString(i), null));
+		}
+		testRunData = new TestRunData(runs);
+	}
+
+	@Benchmark
+	public void lookUpAllRuns(Blackhole blackhole) {
+		for (UniqueId uniqueId : uniqueIds) {
+			blackhole.consume(testRunData.byUniqueId(uniqueId));
+		}
+	}
+}
@@ -23,7 +23,16 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 
 	@Override
 	public PropertyDefaultValues propertyDefaultValues() {
-		return PropertyDefaultValues.with(properties.defaultTries(), properties.defaultMaxDiscardRatio(), properties.defaultAfterFailure());
+		return PropertyDefaultValues.with(
+			properties.defaultTries(),
+			properties.defaultMaxDiscardRatio(),
+			properties.defaultAfterFailure(),
+			properties.defaultParallelism(),
+			properties.defaultShrinkingTimeout(),
+			properties.defaultEdgeCaseTries(),
+			properties.randomAlgorithm(),
+			properties.shrinkingCandidateEvaluation()
+		);
 	}
 
 	@Override
@@ -39,6 +48,11 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 		return properties.useJunitPlatformReporter();
 	}
 
+	@Override
+	public int executionParallelism() {
+		return properties.executionParallelism();
+	}
+
 	private TestEngineConfiguration createTestEngineConfiguration() {
 		TestRunDatabase database = new TestRunDatabase(Paths.get(properties.databasePath()));
 		TestRunData previousRun = database.previousRun();
@@ -1,10 +1,14 @@
 package net.jqwik.engine;
 
 import java.io.*;
+import java.time.*;
 import java.util.*;
 import java.util.logging.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
+import net.jqwik.engine.support.*;
 
 public class JqwikProperties {
 
@@ -14,7 +18,13 @@ public class JqwikProperties {
 		"defaultTries",
 		"defaultMaxDiscardRatio",
 		"useJunitPlatformReporter",
-		"defaultAfterFailure"
+		"defaultAfterFailure",
+		"defaultParallelism",
+		"executionParallelism",
+		"defaultShrinkingTimeout",
+		"randomAlgorithm",
+		"defaultEdgeCaseTries",
+		"shrinkingCandidateEvaluation"
 	};
 
 	private static final String PROPERTIES_FILE_NAME = "jqwik.properties";
@@ -25,6 +35,12 @@ public class JqwikProperties {
 	private static final String DEFAULT_TRIES = "1000";
 	private static final String DEFAULT_MAX_DISCARD_RATIO = "5";
 	private static final String DEFAULT_AFTER_FAILURE = AfterFailureMode.PREVIOUS_SEED.name();
+	private static final String DEFAULT_PARALLELISM = "1";
+	private static final String DEFAULT_SHRINKING_TIMEOUT = "0";
+	private static final String DEFAULT_EXECUTION_PARALLELISM = "1";
+	private static final String DEFAULT_RANDOM_ALGORITHM = RandomAlgorithm.SPLIT_MIX.name();
+	private static final String DEFAULT_EDGE_CASE_TRIES = "50";
+	private static final String DEFAULT_SHRINKING_CANDIDATE_EVALUATION = CandidateEvaluation.LAZY.name();
 
 	// TODO: Change default to true as soon as Gradle has support for platform reporter
 	// see https://github.com/gradle/gradle/issues/4605
@@ -36,6 +52,12 @@ public class JqwikProperties {
 	private int defaultMaxDiscardRatio;
 	private boolean useJunitPlatformReporter;
 	private AfterFailureMode defaultAfterFailure;
+	private int defaultParallelism;
+	private Duration defaultShrinkingTimeout;
+	private int executionParallelism;
+	private RandomAlgorithm randomAlgorithm;
+	private int defaultEdgeCaseTries;
+	private CandidateEvaluation shrinkingCandidateEvaluation;
 
 	public String databasePath() {
 		return databasePath;
@@ -61,6 +83,30 @@ public class JqwikProperties {
 		return defaultAfterFailure;
 	}
 
+	public int defaultParallelism() {
+		return defaultParallelism;
+	}
+
+	public Duration defaultShrinkingTimeout() {
+		return defaultShrinkingTimeout;
+	}
+
+	public int executionParallelism() {
+		return executionParallelism;
+	}
+
+	public RandomAlgorithm randomAlgorithm() {
+		return randomAlgorithm;
+	}
+
+	public int defaultEdgeCaseTries() {
+		return defaultEdgeCaseTries;
+	}
+
+	public CandidateEvaluation shrinkingCandidateEvaluation() {
+		return shrinkingCandidateEvaluation;
+	}
+
 	JqwikProperties() {
 		this(PROPERTIES_FILE_NAME);
 	}
@@ -86,6 +132,14 @@ public class JqwikProperties {
 			defaultMaxDiscardRatio = Integer.parseInt(properties.getProperty("defaultMaxDiscardRatio", DEFAULT_MAX_DISCARD_RATIO));
 			useJunitPlatformReporter = Boolean.parseBoolean(properties.getProperty("useJunitPlatformReporter", DEFAULT_USE_JUNIT_PLATFORM_REPORTER));
 			defaultAfterFailure = AfterFailureMode.valueOf(properties.getProperty("defaultAfterFailure", DEFAULT_AFTER_FAILURE));
+			defaultParallelism = Integer.parseInt(properties.getProperty("defaultParallelism", DEFAULT_PARALLELISM));
+			defaultShrinkingTimeout = JqwikDurationSupport.parseDuration(properties.getProperty("defaultShrinkingTimeout", DEFAULT_SHRINKING_TIMEOUT));
+			executionParallelism = Integer.parseInt(properties.getProperty("executionParallelism", DEFAULT_EXECUTION_PARALLELISM));
+			randomAlgorithm = RandomAlgorithm.valueOf(properties.getProperty("randomAlgorithm", DEFAULT_RANDOM_ALGORITHM));
+			defaultEdgeCaseTries = Integer.parseInt(properties.getProperty("defaultEdgeCaseTries", DEFAULT_EDGE_CASE_TRIES));
+			shrinkingCandidateEvaluation = CandidateEvaluation.valueOf(
+				properties.getProperty("shrinkingCandidateEvaluation", DEFAULT_SHRINKING_CANDIDATE_EVALUATION)
+			);
 		} catch (Throwable throwable) {
 			String message = String.format("Error while reading properties file [%s]", propertiesFileName);
 			throw new JqwikException(message, throwable);
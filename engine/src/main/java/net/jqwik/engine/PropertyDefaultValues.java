@@ -1,6 +1,10 @@
 package net.jqwik.engine;
 
+import java.time.*;
+
 import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 public interface PropertyDefaultValues {
 	int tries();
@@ -8,10 +12,75 @@ public interface PropertyDefaultValues {
 
 	AfterFailureMode afterFailure();
 
+	int parallelism();
+
+	Duration shrinkingTimeout();
+
+	int edgeCaseTries();
+
+	RandomAlgorithm randomAlgorithm();
+
+	CandidateEvaluation candidateEvaluation();
+
 	static PropertyDefaultValues with(
 		int tries,
 		int maxDiscardRatio,
 		AfterFailureMode afterFailureMode
+	) {
+		return with(tries, maxDiscardRatio, afterFailureMode, 1);
+	}
+
+	static PropertyDefaultValues with(
+		int tries,
+		int maxDiscardRatio,
+		AfterFailureMode afterFailureMode,
+		int parallelism
+	) {
+		return with(tries, maxDiscardRatio, afterFailureMode, parallelism, Duration.ZERO);
+	}
+
+	static PropertyDefaultValues with(
+		int tries,
+		int maxDiscardRatio,
+		AfterFailureMode afterFailureMode,
+		int parallelism,
+		Duration shrinkingTimeout
+	) {
+		return with(tries, maxDiscardRatio, afterFailureMode, parallelism, shrinkingTimeout, 0);
+	}
+
+	static PropertyDefaultValues with(
+		int tries,
+		int maxDiscardRatio,
+		AfterFailureMode afterFailureMode,
+		int parallelism,
+		Duration shrinkingTimeout,
+		int edgeCaseTries
+	) {
+		return with(tries, maxDiscardRatio, afterFailureMode, parallelism, shrinkingTimeout, edgeCaseTries, RandomAlgorithm.DEFAULT);
+	}
+
+	static PropertyDefaultValues with(
+		int tries,
+		int maxDiscardRatio,
+		AfterFailureMode afterFailureMode,
+		int parallelism,
+		Duration shrinkingTimeout,
+		int edgeCaseTries,
+		RandomAlgorithm randomAlgorithm
+	) {
+		return with(tries, maxDiscardRatio, afterFailureMode, parallelism, shrinkingTimeout, edgeCaseTries, randomAlgorithm, CandidateEvaluation.LAZY);
+	}
+
+	static PropertyDefaultValues with(
+		int tries,
+		int maxDiscardRatio,
+		AfterFailureMode afterFailureMode,
+		int parallelism,
+		Duration shrinkingTimeout,
+		int edgeCaseTries,
+		RandomAlgorithm randomAlgorithm,
+		CandidateEvaluation candidateEvaluation
 	) {
 		return new PropertyDefaultValues() {
 			@Override
@@ -28,6 +97,31 @@ public interface PropertyDefaultValues {
 			public AfterFailureMode afterFailure() {
 				return afterFailureMode;
 			}
+
+			@Override
+			public int parallelism() {
+				return parallelism;
+			}
+
+			@Override
+			public Duration shrinkingTimeout() {
+				return shrinkingTimeout;
+			}
+
+			@Override
+			public int edgeCaseTries() {
+				return edgeCaseTries;
+			}
+
+			@Override
+			public RandomAlgorithm randomAlgorithm() {
+				return randomAlgorithm;
+			}
+
+			@Override
+			public CandidateEvaluation candidateEvaluation() {
+				return candidateEvaluation;
+			}
 		};
 	}
 }
@@ -1,9 +1,13 @@
 package net.jqwik.engine.descriptor;
 
+import java.time.*;
 import java.util.*;
 
 import net.jqwik.api.*;
 import net.jqwik.engine.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
+import net.jqwik.engine.support.*;
 
 public class PropertyConfiguration {
 
@@ -22,6 +26,15 @@ public class PropertyConfiguration {
 		AfterFailureMode afterFailure = property.afterFailure() == AfterFailureMode.NOT_SET
 											? propertyDefaultValues.afterFailure()
 											: property.afterFailure();
+		int parallelism = property.parallelism() == Property.PARALLELISM_NOT_SET
+							  ? propertyDefaultValues.parallelism()
+							  : property.parallelism();
+		Duration shrinkingTimeout = property.shrinkingTimeout().equals(Property.SHRINKING_TIMEOUT_NOT_SET)
+										? propertyDefaultValues.shrinkingTimeout()
+										: JqwikDurationSupport.parseDuration(property.shrinkingTimeout());
+		int edgeCaseTries = property.edgeCaseTries() == Property.EDGE_CASE_TRIES_NOT_SET
+								? propertyDefaultValues.edgeCaseTries()
+								: property.edgeCaseTries();
 		return new PropertyConfiguration(
 			property.stereotype(),
 			property.seed(),
@@ -31,7 +44,13 @@ public class PropertyConfiguration {
 			maxDiscardRatio,
 			property.shrinking(),
 			property.generation(),
-			afterFailure
+			afterFailure,
+			parallelism,
+			shrinkingTimeout,
+			edgeCaseTries,
+			property.shrinkingEngine(),
+			propertyDefaultValues.randomAlgorithm(),
+			propertyDefaultValues.candidateEvaluation()
 		);
 	}
 
@@ -44,6 +63,12 @@ public class PropertyConfiguration {
 	private final ShrinkingMode shrinkingMode;
 	private final GenerationMode generationMode;
 	private final AfterFailureMode afterFailureMode;
+	private final int parallelism;
+	private final Duration shrinkingTimeout;
+	private final int edgeCaseTries;
+	private final ShrinkingEngine shrinkingEngine;
+	private final RandomAlgorithm randomAlgorithm;
+	private final CandidateEvaluation candidateEvaluation;
 
 	public PropertyConfiguration(
 		String stereotype,
@@ -54,7 +79,13 @@ public class PropertyConfiguration {
 		int maxDiscardRatio,
 		ShrinkingMode shrinkingMode,
 		GenerationMode generationMode,
-		AfterFailureMode afterFailureMode
+		AfterFailureMode afterFailureMode,
+		int parallelism,
+		Duration shrinkingTimeout,
+		int edgeCaseTries,
+		ShrinkingEngine shrinkingEngine,
+		RandomAlgorithm randomAlgorithm,
+		CandidateEvaluation candidateEvaluation
 	) {
 		this.stereotype = stereotype;
 		this.seed = seed;
@@ -65,18 +96,24 @@ public class PropertyConfiguration {
 		this.shrinkingMode = shrinkingMode;
 		this.generationMode = generationMode;
 		this.afterFailureMode = afterFailureMode;
+		this.parallelism = parallelism;
+		this.shrinkingTimeout = shrinkingTimeout;
+		this.edgeCaseTries = edgeCaseTries;
+		this.shrinkingEngine = shrinkingEngine;
+		this.randomAlgorithm = randomAlgorithm;
+		this.candidateEvaluation = candidateEvaluation;
 	}
 
 	public PropertyConfiguration withSeed(String changedSeed) {
-		return new PropertyConfiguration(this.stereotype, changedSeed, this.previousSeed, this.falsifiedSample, this.tries, this.maxDiscardRatio, this.shrinkingMode, this.generationMode, this.afterFailureMode);
+		return new PropertyConfiguration(this.stereotype, changedSeed, this.previousSeed, this.falsifiedSample, this.tries, this.maxDiscardRatio, this.shrinkingMode, this.generationMode, this.afterFailureMode, this.parallelism, this.shrinkingTimeout, this.edgeCaseTries, this.shrinkingEngine, this.randomAlgorithm, this.candidateEvaluation);
 	}
 
 	public PropertyConfiguration withGenerationMode(GenerationMode changedGenerationMode) {
-		return new PropertyConfiguration(this.stereotype, this.seed, this.previousSeed, this.falsifiedSample, this.tries, this.maxDiscardRatio, this.shrinkingMode, changedGenerationMode, this.afterFailureMode);
+		return new PropertyConfiguration(this.stereotype, this.seed, this.previousSeed, this.falsifiedSample, this.tries, this.maxDiscardRatio, this.shrinkingMode, changedGenerationMode, this.afterFailureMode, this.parallelism, this.shrinkingTimeout, this.edgeCaseTries, this.shrinkingEngine, this.randomAlgorithm, this.candidateEvaluation);
 	}
 
 	public PropertyConfiguration withTries(int changedTries) {
-		return new PropertyConfiguration(this.stereotype, this.seed, this.previousSeed, this.falsifiedSample, changedTries, this.maxDiscardRatio, this.shrinkingMode, this.generationMode, this.afterFailureMode);
+		return new PropertyConfiguration(this.stereotype, this.seed, this.previousSeed, this.falsifiedSample, changedTries, this.maxDiscardRatio, this.shrinkingMode, this.generationMode, this.afterFailureMode, this.parallelism, this.shrinkingTimeout, this.edgeCaseTries, this.shrinkingEngine, this.randomAlgorithm, this.candidateEvaluation);
 	}
 
 	public String getSeed() {
@@ -115,4 +152,34 @@ public class PropertyConfiguration {
 		return afterFailureMode;
 	}
 
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * @return The maximum time for shrinking, {@linkplain Duration#ZERO} means no time limit
+	 */
+	public Duration getShrinkingTimeout() {
+		return shrinkingTimeout;
+	}
+
+	/**
+	 * @return The maximum number of tries combining edge cases before randomized generation, {@code 0} means none
+	 */
+	public int getEdgeCaseTries() {
+		return edgeCaseTries;
+	}
+
+	public ShrinkingEngine getShrinkingEngine() {
+		return shrinkingEngine;
+	}
+
+	public RandomAlgorithm getRandomAlgorithm() {
+		return randomAlgorithm;
+	}
+
+	public CandidateEvaluation getCandidateEvaluation() {
+		return candidateEvaluation;
+	}
+
 }
@@ -150,8 +150,18 @@ public class CheckedProperty {
 	}
 
 	private ShrinkablesGenerator createRandomizedShrinkablesGenerator(PropertyConfiguration configuration) {
-		Random random = SourceOfRandomness.create(configuration.getSeed());
-		return RandomizedShrinkablesGenerator.forParameters(forAllParameters, arbitraryResolver, random, configuration.getTries());
+		RandomizedShrinkablesGenerator generator = createRandomizedGenerator(configuration);
+		if (configuration.getShrinkingEngine() == ShrinkingEngine.CHOICE_SEQUENCE) {
+			return generator.recordingChoices();
+		}
+		return generator;
+	}
+
+	private RandomizedShrinkablesGenerator createRandomizedGenerator(PropertyConfiguration configuration) {
+		int edgeCaseTries = Math.min(configuration.getEdgeCaseTries(), configuration.getTries());
+		// Also on a single thread so that a seed produces the same samples regardless of parallelism
+		Supplier<Random> randomPerTry = SourceOfRandomness.createPerTry(configuration.getSeed(), configuration.getRandomAlgorithm());
+		return RandomizedShrinkablesGenerator.forParameters(forAllParameters, arbitraryResolver, randomPerTry, configuration.getTries(), edgeCaseTries);
 	}
 
 	private ShrinkablesGenerator createSampleOnlyShrinkableGenerator(PropertyConfiguration configuration) {
@@ -13,6 +13,9 @@ import net.jqwik.engine.execution.pipeline.*;
 
 class ContainerTaskCreator {
 
+	// Maps the task returned for a container to the task finishing the container
+	private final Map<ExecutionTask, ExecutionTask> finishTasks = new IdentityHashMap<>();
+
 	ExecutionTask createTask(
 		TestDescriptor containerDescriptor,
 		ExecutionTaskCreator childTaskCreator,
@@ -57,11 +60,20 @@ class ContainerTaskCreator {
 		if (childrenTasks.length == 0)
 			pipeline.submit(finishContainerTask, prepareContainerTask);
 		else
-			pipeline.submit(finishContainerTask, childrenTasks);
+			pipeline.submit(finishContainerTask, lastTasksOf(childrenTasks));
 
+		finishTasks.put(prepareContainerTask, finishContainerTask);
 		return prepareContainerTask;
 	}
 
+	// A child container is only finished after all its own children, which is
+	// important when tasks are not executed in the order of their submission
+	private ExecutionTask[] lastTasksOf(ExecutionTask[] childrenTasks) {
+		return Arrays.stream(childrenTasks)
+					 .map(childTask -> finishTasks.getOrDefault(childTask, childTask))
+					 .toArray(ExecutionTask[]::new);
+	}
+
 	private ContainerLifecycleContext createLifecycleContext(TestDescriptor containerDescriptor) {
 		if (containerDescriptor instanceof ContainerClassDescriptor) {
 			ContainerClassDescriptor classDescriptor = (ContainerClassDescriptor) containerDescriptor;
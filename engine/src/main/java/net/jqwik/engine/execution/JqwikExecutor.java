@@ -16,6 +16,7 @@ public class JqwikExecutor {
 	private final TestRunRecorder recorder;
 	private final Set<UniqueId> previousFailedTests;
 	private final boolean useJunitPlatformReporter;
+	private final int executionParallelism;
 	private final PropertyTaskCreator propertyTaskCreator = new PropertyTaskCreator();
 	private final ContainerTaskCreator containerTaskCreator = new ContainerTaskCreator();
 	private final ExecutionTaskCreator childTaskCreator = this::createTask;
@@ -27,16 +28,27 @@ public class JqwikExecutor {
 		TestRunRecorder recorder,
 		Set<UniqueId> previousFailedTests,
 		boolean useJunitPlatformReporter
+	) {
+		this(registry, recorder, previousFailedTests, useJunitPlatformReporter, 1);
+	}
+
+	public JqwikExecutor(
+		LifecycleRegistry registry,
+		TestRunRecorder recorder,
+		Set<UniqueId> previousFailedTests,
+		boolean useJunitPlatformReporter,
+		int executionParallelism
 	) {
 		this.registry = registry;
 		this.recorder = recorder;
 		this.previousFailedTests = previousFailedTests;
 		this.useJunitPlatformReporter = useJunitPlatformReporter;
+		this.executionParallelism = executionParallelism;
 	}
 
 	public void execute(TestDescriptor descriptor, EngineExecutionListener engineExecutionListener) {
 		PropertyExecutionListener recordingListener = new RecordingExecutionListener(recorder, engineExecutionListener, useJunitPlatformReporter);
-		ExecutionPipeline pipeline = new ExecutionPipeline(recordingListener);
+		ExecutionPipeline pipeline = new ExecutionPipeline(recordingListener, executionParallelism);
 		ExecutionTask mainTask = createTask(descriptor, pipeline);
 		pipeline.submit(mainTask);
 		letNonSuccessfulTestsExecuteFirst(pipeline);
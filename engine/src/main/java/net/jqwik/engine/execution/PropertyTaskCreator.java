@@ -2,6 +2,8 @@ package net.jqwik.engine.execution;
 
 import java.util.*;
 
+import org.junit.platform.commons.support.*;
+
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.api.lifecycle.SkipExecutionHook.*;
@@ -39,10 +41,19 @@ class PropertyTaskCreator {
 				listener.executionFinished(methodDescriptor, executionResult);
 			},
 			methodDescriptor.getUniqueId(),
+			serializationKey(methodDescriptor),
 			"executing " + methodDescriptor.getDisplayName()
 		);
 	}
 
+	private Object serializationKey(PropertyMethodDescriptor methodDescriptor) {
+		Class<?> containerClass = methodDescriptor.getContainerClass();
+		if (AnnotationSupport.isAnnotated(containerClass, ConcurrentProperties.class)) {
+			return methodDescriptor.getUniqueId();
+		}
+		return containerClass;
+	}
+
 	private Object createTestInstance(PropertyMethodDescriptor methodDescriptor) {
 		try {
 			return JqwikReflectionSupport.newInstanceWithDefaultConstructor(methodDescriptor.getContainerClass());
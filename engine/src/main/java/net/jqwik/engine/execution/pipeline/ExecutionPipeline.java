@@ -1,10 +1,16 @@
 package net.jqwik.engine.execution.pipeline;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.stream.*;
 
+import org.junit.platform.commons.util.*;
 import org.junit.platform.engine.*;
+import org.junit.platform.engine.reporting.*;
 
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.execution.*;
 
 public class ExecutionPipeline implements Pipeline {
@@ -13,9 +19,18 @@ public class ExecutionPipeline implements Pipeline {
 	private final Map<ExecutionTask, Boolean> taskFinished = new IdentityHashMap<>();
 	private final Map<ExecutionTask, ExecutionTask[]> taskPredecessors = new IdentityHashMap<>();
 	private final PropertyExecutionListener executionListener;
+	private final int parallelism;
 
 	public ExecutionPipeline(PropertyExecutionListener executionListener) {
+		this(executionListener, 1);
+	}
+
+	/**
+	 * @param parallelism The maximum number of tasks being executed at the same time
+	 */
+	public ExecutionPipeline(PropertyExecutionListener executionListener, int parallelism) {
 		this.executionListener = executionListener;
+		this.parallelism = parallelism;
 	}
 
 	@Override
@@ -74,6 +89,10 @@ public class ExecutionPipeline implements Pipeline {
 	}
 
 	public void runToTermination() {
+		if (parallelism > 1) {
+			runConcurrentlyToTermination();
+			return;
+		}
 		while (!tasks.isEmpty()) {
 			ExecutionTask head = tasks.get(0);
 			if (movedPredecessorsToTopOfQueue(head))
@@ -94,4 +113,103 @@ public class ExecutionPipeline implements Pipeline {
 		return !unfinishedPredecessors.isEmpty();
 	}
 
+	/**
+	 * Tasks are started in queue order as soon as all their predecessors have finished
+	 * and no other task with the same serialization key is running. Since a container's children
+	 * depend on its preparation, and its finishing depends on the children,
+	 * the engine's listener still sees a valid order of events.
+	 */
+	private void runConcurrentlyToTermination() {
+		PropertyExecutionListener synchronizedListener = new SynchronizedExecutionListener(executionListener);
+		ExecutorService executorService = Executors.newFixedThreadPool(parallelism, new WorkerThreadFactory());
+		CompletionService<ExecutionTask> completionService = new ExecutorCompletionService<>(executorService);
+		Set<Object> runningKeys = new HashSet<>();
+		int countRunning = 0;
+		try {
+			while (!tasks.isEmpty() || countRunning > 0) {
+				Optional<ExecutionTask> nextTask = nextRunnableTask(runningKeys);
+				if (countRunning < parallelism && nextTask.isPresent()) {
+					ExecutionTask task = nextTask.get();
+					tasks.remove(task);
+					runningKeys.add(task.serializationKey());
+					countRunning++;
+					completionService.submit(() -> task.execute(synchronizedListener), task);
+					continue;
+				}
+				if (countRunning == 0) {
+					String message = String.format("Remaining tasks cannot be run: %s", tasks);
+					throw new JqwikException(message);
+				}
+				ExecutionTask finishedTask = waitForNextFinishedTask(completionService);
+				countRunning--;
+				runningKeys.remove(finishedTask.serializationKey());
+				taskFinished.put(finishedTask, true);
+			}
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private Optional<ExecutionTask> nextRunnableTask(Set<Object> runningKeys) {
+		for (ExecutionTask task : tasks) {
+			if (runningKeys.contains(task.serializationKey()))
+				continue;
+			ExecutionTask[] predecessors = taskPredecessors.get(task);
+			ensurePredecessorsSubmitted(task, predecessors);
+			if (Arrays.stream(predecessors).allMatch(taskFinished::get))
+				return Optional.of(task);
+		}
+		return Optional.empty();
+	}
+
+	private ExecutionTask waitForNextFinishedTask(CompletionService<ExecutionTask> completionService) {
+		try {
+			return completionService.take().get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new JqwikException("Interrupted while waiting for tasks to finish");
+		} catch (ExecutionException e) {
+			throw ExceptionUtils.throwAsUncheckedException(e.getCause());
+		}
+	}
+
+	private static class WorkerThreadFactory implements ThreadFactory {
+		private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "jqwik-worker-" + threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+
+	private static class SynchronizedExecutionListener implements PropertyExecutionListener {
+		private final PropertyExecutionListener listener;
+
+		private SynchronizedExecutionListener(PropertyExecutionListener listener) {
+			this.listener = listener;
+		}
+
+		@Override
+		public synchronized void executionSkipped(TestDescriptor testDescriptor, String reason) {
+			listener.executionSkipped(testDescriptor, reason);
+		}
+
+		@Override
+		public synchronized void executionStarted(TestDescriptor testDescriptor) {
+			listener.executionStarted(testDescriptor);
+		}
+
+		@Override
+		public synchronized void executionFinished(TestDescriptor testDescriptor, PropertyExecutionResult executionResult) {
+			listener.executionFinished(testDescriptor, executionResult);
+		}
+
+		@Override
+		public synchronized void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+			listener.reportingEntryPublished(testDescriptor, entry);
+		}
+	}
+
 }
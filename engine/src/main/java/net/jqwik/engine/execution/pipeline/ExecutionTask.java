@@ -12,7 +12,24 @@ public interface ExecutionTask {
 
 	void execute(PropertyExecutionListener listener);
 
+	/**
+	 * Tasks with equal serialization keys will never be executed at the same time
+	 * when a pipeline runs tasks concurrently. By default every task has its own key.
+	 */
+	default Object serializationKey() {
+		return this;
+	}
+
 	static ExecutionTask from(Consumer<PropertyExecutionListener> consumer, UniqueId ownerId, String description) {
+		return from(consumer, ownerId, null, description);
+	}
+
+	static ExecutionTask from(
+		Consumer<PropertyExecutionListener> consumer,
+		UniqueId ownerId,
+		Object serializationKey,
+		String description
+	) {
 		return new ExecutionTask() {
 			@Override
 			public UniqueId ownerId() {
@@ -24,6 +41,11 @@ public interface ExecutionTask {
 				consumer.accept(listener);
 			}
 
+			@Override
+			public Object serializationKey() {
+				return serializationKey == null ? this : serializationKey;
+			}
+
 			@Override
 			public String toString() {
 				return "ExecutionTask: " + description;
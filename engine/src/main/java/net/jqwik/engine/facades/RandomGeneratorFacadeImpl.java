@@ -4,6 +4,7 @@ import java.util.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
 import net.jqwik.engine.properties.arbitraries.randomized.*;
 import net.jqwik.engine.properties.shrinking.*;
 
@@ -12,18 +13,23 @@ import net.jqwik.engine.properties.shrinking.*;
  */
 public class RandomGeneratorFacadeImpl extends RandomGenerator.RandomGeneratorFacade {
 	@Override
-	public <T, U> Shrinkable<U> flatMap(Shrinkable<T> self, Function<T, RandomGenerator<U>> mapper, long nextLong) {
-		return new FlatMappedShrinkable<>(self, mapper, nextLong);
+	public <T, U> Shrinkable<U> flatMap(Shrinkable<T> self, Function<T, RandomGenerator<U>> mapper, Random random) {
+		return new FlatMappedShrinkable<>(self, mapper, random.nextLong(), RandomAlgorithm.of(random));
 	}
 
 	@Override
-	public <T, U> Shrinkable<U> flatMap(Shrinkable<T> self, Function<T, Arbitrary<U>> mapper, int genSize, long nextLong) {
-		return new FlatMappedShrinkable<>(self, mapper, genSize, nextLong);
+	public <T, U> Shrinkable<U> flatMap(Shrinkable<T> self, Function<T, Arbitrary<U>> mapper, int genSize, Random random) {
+		return new FlatMappedShrinkable<>(self, mapper, genSize, random.nextLong(), RandomAlgorithm.of(random));
+	}
+
+	@Override
+	public <T, U> RandomGenerator<U> map(RandomGenerator<T> self, Function<T, U> mapper) {
+		return FusedGenerator.map(self, mapper);
 	}
 
 	@Override
 	public <T> RandomGenerator<T> filter(RandomGenerator<T> self, Predicate<T> filterPredicate) {
-		return new FilteredGenerator<>(self, filterPredicate);
+		return FusedGenerator.filter(self, filterPredicate);
 	}
 
 	@Override
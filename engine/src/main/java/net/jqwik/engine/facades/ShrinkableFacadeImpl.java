@@ -3,6 +3,7 @@ package net.jqwik.engine.facades;
 import java.util.function.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
 import net.jqwik.engine.properties.shrinking.*;
 
 /**
@@ -26,6 +27,7 @@ public class ShrinkableFacadeImpl extends Shrinkable.ShrinkableFacade {
 
 	@Override
 	public <T, U> Shrinkable<U> flatMap(Shrinkable<T> self, Function<T, Arbitrary<U>> flatMapper, int tries, long randomSeed) {
-		return new FlatMappedShrinkable<>(self, flatMapper, tries, randomSeed);
+		// Without the generating random the seed is replayed with the default algorithm
+		return new FlatMappedShrinkable<>(self, flatMapper, tries, randomSeed, RandomAlgorithm.DEFAULT);
 	}
 }
@@ -16,6 +16,7 @@ public class CheckResultReportEntry {
 	public static final String SEED_KEY = "seed";
 	public static final String SAMPLE_KEY = "sample";
 	public static final String ORIGINAL_REPORT_KEY = "original-sample";
+	public static final String SHRINKING_CACHE_HITS_KEY = "shrinking-cache-hits";
 
 	public static ReportEntry from(PropertyCheckResult checkResult, AfterFailureMode afterFailureMode) {
 		Map<String, String> entries = new HashMap<>();
@@ -34,6 +35,9 @@ public class CheckResultReportEntry {
 			if (!sample.isEmpty())
 				entries.put(ORIGINAL_REPORT_KEY, JqwikStringSupport.displayString(sample));
 		});
+		if (checkResult.countShrinkingCacheHits() > 0) {
+			entries.put(SHRINKING_CACHE_HITS_KEY, Integer.toString(checkResult.countShrinkingCacheHits()));
+		}
 		return ReportEntry.from(entries);
 	}
 
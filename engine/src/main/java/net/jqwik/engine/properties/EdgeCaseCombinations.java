@@ -0,0 +1,78 @@
+package net.jqwik.engine.properties;
+
+import java.math.*;
+import java.util.*;
+
+import net.jqwik.api.*;
+
+/**
+ * The combinations of the parameters' edge cases that are tried before randomized generation starts.
+ *
+ * <p>
+ * Combinations are enumerated in a fixed order. If there are more of them than {@code maxCombinations}
+ * they are sampled by stepping through the cartesian product with a stride that is coprime
+ * to its size, so that each parameter still sees all of its edge cases. No randomness is involved.
+ * </p>
+ */
+class EdgeCaseCombinations {
+
+	// Golden ratio conjugate, spreads consecutive samples over the whole product
+	private static final BigDecimal STEP_RATIO = new BigDecimal("0.6180339887498949");
+
+	private final List<List<Shrinkable>> edgeCasesPerParameter;
+	private final BigInteger total;
+	private final BigInteger step;
+	private final int size;
+
+	/**
+	 * @param edgeCasesPerParameter An empty list for a parameter means that its value is not part of the combinations.
+	 */
+	EdgeCaseCombinations(List<List<Shrinkable>> edgeCasesPerParameter, int maxCombinations) {
+		this.edgeCasesPerParameter = edgeCasesPerParameter;
+		this.total = countCombinations(edgeCasesPerParameter);
+		this.size = total.min(BigInteger.valueOf(Math.max(maxCombinations, 0))).intValue();
+		this.step = total.compareTo(BigInteger.valueOf(size)) > 0 ? coprimeStep(total) : BigInteger.ONE;
+	}
+
+	private static BigInteger countCombinations(List<List<Shrinkable>> edgeCasesPerParameter) {
+		BigInteger total = BigInteger.ONE;
+		boolean anyEdgeCases = false;
+		for (List<Shrinkable> edgeCases : edgeCasesPerParameter) {
+			if (!edgeCases.isEmpty()) {
+				anyEdgeCases = true;
+				total = total.multiply(BigInteger.valueOf(edgeCases.size()));
+			}
+		}
+		return anyEdgeCases ? total : BigInteger.ZERO;
+	}
+
+	private static BigInteger coprimeStep(BigInteger total) {
+		BigInteger step = new BigDecimal(total).multiply(STEP_RATIO).toBigInteger().max(BigInteger.ONE);
+		while (!step.gcd(total).equals(BigInteger.ONE)) {
+			step = step.add(BigInteger.ONE);
+		}
+		return step;
+	}
+
+	int size() {
+		return size;
+	}
+
+	/**
+	 * @return the edge case for each parameter or {@code null} for parameters without edge cases
+	 */
+	Shrinkable[] get(int index) {
+		BigInteger combination = BigInteger.valueOf(index).multiply(step).mod(total);
+		Shrinkable[] shrinkables = new Shrinkable[edgeCasesPerParameter.size()];
+		for (int i = shrinkables.length - 1; i >= 0; i--) {
+			List<Shrinkable> edgeCases = edgeCasesPerParameter.get(i);
+			if (edgeCases.isEmpty()) {
+				continue;
+			}
+			BigInteger[] quotientAndRemainder = combination.divideAndRemainder(BigInteger.valueOf(edgeCases.size()));
+			shrinkables[i] = edgeCases.get(quotientAndRemainder[1].intValue());
+			combination = quotientAndRemainder[0];
+		}
+		return shrinkables;
+	}
+}
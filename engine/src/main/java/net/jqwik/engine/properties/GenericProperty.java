@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -10,6 +11,7 @@ import org.opentest4j.*;
 
 import net.jqwik.api.*;
 import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
 import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.engine.support.*;
 
@@ -17,6 +19,8 @@ import static net.jqwik.engine.properties.PropertyCheckResult.Status.*;
 
 public class GenericProperty {
 
+	private static final int TRIES_PER_THREAD_IN_BATCH = 8;
+
 	private final String name;
 	private final PropertyConfiguration configuration;
 	private final ShrinkablesGenerator shrinkablesGenerator;
@@ -36,14 +40,17 @@ public class GenericProperty {
 
 	public PropertyCheckResult check(Consumer<ReportEntry> reporter, Reporting[] reporting) {
 		StatisticsCollector.clearAll();
-		PropertyCheckResult checkResult = checkWithoutReporting(reporter, reporting);
-		reportResult(reporter, checkResult);
-		reportStatistics(reporter);
-		return checkResult;
+		return FilterStatistics.runInScope(() -> {
+			PropertyCheckResult checkResult = checkWithoutReporting(reporter, reporting);
+			reportResult(reporter, checkResult);
+			reportStatistics(reporter);
+			return checkResult;
+		});
 	}
 
 	private void reportStatistics(Consumer<ReportEntry> reporter) {
 		StatisticsCollector.report(reporter);
+		FilterStatistics.report(reporter);
 	}
 
 	private void reportResult(Consumer<ReportEntry> publisher, PropertyCheckResult checkResult) {
@@ -52,6 +59,9 @@ public class GenericProperty {
 	}
 
 	private PropertyCheckResult checkWithoutReporting(Consumer<ReportEntry> reporter, Reporting[] reporting) {
+		if (configuration.getParallelism() > 1) {
+			return checkInParallel(reporter, reporting);
+		}
 		int maxTries = configuration.getTries();
 		int countChecks = 0;
 		int countTries = 0;
@@ -81,6 +91,10 @@ public class GenericProperty {
 				);
 			}
 		}
+		return satisfiedOrExhausted(maxTries, countChecks, countTries);
+	}
+
+	private PropertyCheckResult satisfiedOrExhausted(int maxTries, int countChecks, int countTries) {
 		if (countChecks == 0 || maxDiscardRatioExceeded(countChecks, countTries, configuration.getMaxDiscardRatio()))
 			return PropertyCheckResult
 				.exhausted(configuration.getStereotype(), name, maxTries, countChecks, configuration.getSeed(), configuration
@@ -90,16 +104,104 @@ public class GenericProperty {
 				.getGenerationMode());
 	}
 
+	/**
+	 * Tries are generated in batches on the calling thread - since generators are not required to be thread safe -
+	 * and evaluated concurrently. Results are then processed in the order of generation so that the
+	 * outcome does not depend on the number of threads or the scheduling of tries.
+	 */
+	private PropertyCheckResult checkInParallel(Consumer<ReportEntry> reporter, Reporting[] reporting) {
+		int parallelism = configuration.getParallelism();
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			return checkInParallel(pool, parallelism * TRIES_PER_THREAD_IN_BATCH, reporter, reporting);
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private PropertyCheckResult checkInParallel(
+		ForkJoinPool pool,
+		int batchSize,
+		Consumer<ReportEntry> reporter,
+		Reporting[] reporting
+	) {
+		StatisticsCollector statisticsCollector = StatisticsCollector.get();
+		int maxTries = configuration.getTries();
+		int countChecks = 0;
+		int countTries = 0;
+		while (countTries < maxTries) {
+			List<List<Shrinkable>> batch = nextBatch(Math.min(batchSize, maxTries - countTries));
+			if (batch.isEmpty()) {
+				break;
+			}
+			List<TryResult> results = evaluateInParallel(pool, batch);
+			for (int i = 0; i < batch.size(); i++) {
+				List<Shrinkable> shrinkableParams = batch.get(i);
+				TryResult tryResult = results.get(i);
+				countTries++;
+				countChecks++;
+				reportGenerated(shrinkableParams, reporter, reporting);
+				statisticsCollector.addAll(tryResult.statistics);
+				if (tryResult.aborted) {
+					countChecks--;
+				} else if (tryResult.throwable instanceof AssertionError || tryResult.throwable instanceof Exception) {
+					return shrinkAndCreateCheckResult(reporter, reporting, countChecks, countTries, shrinkableParams, tryResult.throwable);
+				} else if (tryResult.throwable != null) {
+					BlacklistedExceptions.rethrowIfBlacklisted(tryResult.throwable);
+					return PropertyCheckResult.erroneous(
+						configuration.getStereotype(), name, countTries, countChecks, configuration.getSeed(),
+						configuration.getGenerationMode(), extractParams(shrinkableParams), null, tryResult.throwable
+					);
+				} else if (!tryResult.satisfied) {
+					return shrinkAndCreateCheckResult(reporter, reporting, countChecks, countTries, shrinkableParams, null);
+				}
+			}
+		}
+		return satisfiedOrExhausted(maxTries, countChecks, countTries);
+	}
+
+	private List<List<Shrinkable>> nextBatch(int maxSize) {
+		List<List<Shrinkable>> batch = new ArrayList<>(maxSize);
+		while (batch.size() < maxSize && shrinkablesGenerator.hasNext()) {
+			batch.add(shrinkablesGenerator.next());
+		}
+		return batch;
+	}
+
+	private List<TryResult> evaluateInParallel(ForkJoinPool pool, List<List<Shrinkable>> batch) {
+		List<ForkJoinTask<TryResult>> tasks =
+			batch.stream()
+				 .map(shrinkableParams -> pool.submit(() -> evaluateTry(shrinkableParams)))
+				 .collect(Collectors.toList());
+		return tasks.stream().map(ForkJoinTask::join).collect(Collectors.toList());
+	}
+
+	private TryResult evaluateTry(List<Shrinkable> shrinkableParams) {
+		StatisticsCollector.clearAll();
+		try {
+			boolean satisfied = checkedFunction.test(extractParams(shrinkableParams));
+			return new TryResult(satisfied, false, null);
+		} catch (TestAbortedException tae) {
+			return new TryResult(false, true, null);
+		} catch (Throwable throwable) {
+			return new TryResult(false, false, throwable);
+		}
+	}
+
 	private boolean testPredicate(
 		List<Shrinkable> shrinkableParams,
 		Consumer<ReportEntry> reporter,
 		Reporting[] reporting
 	) {
-		List<Object> plainParams = extractParams(shrinkableParams);
+		reportGenerated(shrinkableParams, reporter, reporting);
+		return checkedFunction.test(extractParams(shrinkableParams));
+	}
+
+	private void reportGenerated(List<Shrinkable> shrinkableParams, Consumer<ReportEntry> reporter, Reporting[] reporting) {
 		if (Reporting.GENERATED.containedIn(reporting)) {
+			List<Object> plainParams = extractParams(shrinkableParams);
 			reporter.accept(ReportEntry.from("generated", JqwikStringSupport.displayString(plainParams)));
 		}
-		return checkedFunction.test(plainParams);
 	}
 
 	private boolean maxDiscardRatioExceeded(int countChecks, int countTries, int maxDiscardRatio) {
@@ -122,7 +224,7 @@ public class GenericProperty {
 		Throwable throwable = shrinkingResult.throwable().orElse(null);
 		return PropertyCheckResult.failure(
 			configuration.getStereotype(), name, countTries, countChecks, configuration.getSeed(),
-			configuration.getGenerationMode(), shrunkParams, originalParams, throwable
+			configuration.getGenerationMode(), shrunkParams, originalParams, throwable, shrinkingResult.cacheHits()
 		);
 	}
 
@@ -132,9 +234,34 @@ public class GenericProperty {
 		List<Shrinkable> shrinkables,
 		Throwable exceptionOrAssertionError
 	) {
-		PropertyShrinker shrinker = new PropertyShrinker(shrinkables, configuration.getShrinkingMode(), reporter, reporting);
+		PropertyShrinker shrinker = new PropertyShrinker(
+			shrinkables,
+			configuration.getShrinkingMode(),
+			configuration.getShrinkingTimeout(),
+			reporter,
+			reporting,
+			new FalsificationCache(),
+			configuration.getParallelism(),
+			configuration.getShrinkingEngine(),
+			configuration.getCandidateEvaluation()
+		);
 		Falsifier<List> forAllFalsifier = checkedFunction::test;
 		return shrinker.shrink(forAllFalsifier, exceptionOrAssertionError);
 	}
 
+	private static class TryResult {
+		private final boolean satisfied;
+		private final boolean aborted;
+		private final Throwable throwable;
+		private final Map<List<Object>, Integer> statistics;
+
+		private TryResult(boolean satisfied, boolean aborted, Throwable throwable) {
+			this.satisfied = satisfied;
+			this.aborted = aborted;
+			this.throwable = throwable;
+			this.statistics = StatisticsCollector.get().getCounts();
+			StatisticsCollector.clearAll();
+		}
+	}
+
 }
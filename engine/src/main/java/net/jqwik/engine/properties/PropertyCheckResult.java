@@ -44,6 +44,13 @@ public interface PropertyCheckResult {
 
 	GenerationMode generation();
 
+	/**
+	 * @return The number of property evaluations during shrinking that were answered by the falsification cache
+	 */
+	default int countShrinkingCacheHits() {
+		return 0;
+	}
+
 	default PropertyExecutionResult toExecutionResult() {
 		if (status() == SATISFIED)
 			return PropertyExecutionResult.successful(randomSeed());
@@ -127,7 +134,7 @@ public interface PropertyCheckResult {
 
 	static PropertyCheckResult failure(
 		String stereotype, String propertyName, int tries, int checks, String randomSeed, GenerationMode generation,
-		List<Object> sample, List<Object> originalSample, Throwable throwable
+		List<Object> sample, List<Object> originalSample, Throwable throwable, int shrinkingCacheHits
 	) {
 		Status status = isFalsified(throwable) ? Status.FALSIFIED : Status.ERRONEOUS;
 		return new ResultBase(status, propertyName, tries, checks, randomSeed, generation) {
@@ -136,6 +143,11 @@ public interface PropertyCheckResult {
 				return Optional.of(sample);
 			}
 
+			@Override
+			public int countShrinkingCacheHits() {
+				return shrinkingCacheHits;
+			}
+
 			@Override
 			public Optional<List> originalSample() {
 				return Optional.of(originalSample);
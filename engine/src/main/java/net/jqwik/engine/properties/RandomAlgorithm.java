@@ -0,0 +1,49 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+/**
+ * The algorithm behind the randoms that are used to generate values.
+ * It can be configured with {@code randomAlgorithm} in {@code jqwik.properties}.
+ *
+ * <p>
+ * A seed will only reproduce the same values with the same algorithm.
+ * </p>
+ */
+public enum RandomAlgorithm {
+
+	/**
+	 * Use a {@linkplain SplitMixRandom}, which is fast and can be split into independent randoms.
+	 */
+	SPLIT_MIX {
+		@Override
+		Random create(long seed) {
+			return new SplitMixRandom(seed);
+		}
+	},
+
+	/**
+	 * Use {@linkplain java.util.Random} as in earlier versions. It cannot be split
+	 * so that a single random is shared by all parameters of a try.
+	 */
+	JAVA_UTIL_RANDOM {
+		@Override
+		Random create(long seed) {
+			return new Random(seed);
+		}
+	};
+
+	public static final RandomAlgorithm DEFAULT = SPLIT_MIX;
+
+	/**
+	 * @return The algorithm that created {@code random} or {@linkplain #DEFAULT} if it was not created by one of the algorithms
+	 */
+	public static RandomAlgorithm of(Random random) {
+		if (random.getClass() == Random.class) {
+			return JAVA_UTIL_RANDOM;
+		}
+		return DEFAULT;
+	}
+
+	abstract Random create(long seed);
+}
@@ -1,11 +1,14 @@
 package net.jqwik.engine.properties;
 
 import java.util.*;
+import java.util.function.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.providers.*;
 import net.jqwik.engine.facades.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.engine.support.*;
 
 public class RandomizedShrinkablesGenerator implements ShrinkablesGenerator {
@@ -16,12 +19,59 @@ public class RandomizedShrinkablesGenerator implements ShrinkablesGenerator {
 		Random random,
 		int genSize
 	) {
-		List<RandomizedParameterGenerator> parameterGenerators =
-			parameters.stream()
-					  .map(parameter -> resolveParameter(arbitraryResolver, parameter, genSize))
-					  .collect(Collectors.toList());
+		return forParameters(parameters, arbitraryResolver, random, genSize, 0);
+	}
 
-		return new RandomizedShrinkablesGenerator(parameterGenerators, random);
+	/**
+	 * Start with up to {@code edgeCaseTries} tries that combine the parameters' edge cases.
+	 * Parameters that are not part of a combination draw their values from {@code random},
+	 * so the values of later tries depend on the number of edge case tries.
+	 */
+	public static RandomizedShrinkablesGenerator forParameters(
+		List<MethodParameter> parameters,
+		ArbitraryResolver arbitraryResolver,
+		Random random,
+		int genSize,
+		int edgeCaseTries
+	) {
+		return new RandomizedShrinkablesGenerator(resolveParameters(parameters, arbitraryResolver, genSize), () -> random, edgeCaseTries, false);
+	}
+
+	/**
+	 * Use a separate random for each try, e.g. as supplied by {@linkplain SourceOfRandomness#createPerTry(String)}.
+	 * Tries that combine edge cases also take a random, so later tries get the same values
+	 * regardless of how many edge case tries there are.
+	 */
+	public static RandomizedShrinkablesGenerator forParameters(
+		List<MethodParameter> parameters,
+		ArbitraryResolver arbitraryResolver,
+		Supplier<Random> randomPerTry,
+		int genSize
+	) {
+		return forParameters(parameters, arbitraryResolver, randomPerTry, genSize, 0);
+	}
+
+	/**
+	 * Start with up to {@code edgeCaseTries} tries that combine the parameters' edge cases.
+	 */
+	public static RandomizedShrinkablesGenerator forParameters(
+		List<MethodParameter> parameters,
+		ArbitraryResolver arbitraryResolver,
+		Supplier<Random> randomPerTry,
+		int genSize,
+		int edgeCaseTries
+	) {
+		return new RandomizedShrinkablesGenerator(resolveParameters(parameters, arbitraryResolver, genSize), randomPerTry, edgeCaseTries, false);
+	}
+
+	private static List<RandomizedParameterGenerator> resolveParameters(
+		List<MethodParameter> parameters,
+		ArbitraryResolver arbitraryResolver,
+		int genSize
+	) {
+		return parameters.stream()
+						 .map(parameter -> resolveParameter(arbitraryResolver, parameter, genSize))
+						 .collect(Collectors.toList());
 	}
 
 	private static RandomizedParameterGenerator resolveParameter(ArbitraryResolver arbitraryResolver, MethodParameter parameter, int genSize) {
@@ -36,11 +86,46 @@ public class RandomizedShrinkablesGenerator implements ShrinkablesGenerator {
 	}
 
 	private final List<RandomizedParameterGenerator> parameterGenerators;
-	private final Random random;
+	private final int[] sameTypeAsParameter;
+	private final Supplier<Random> randomPerTry;
+	private final int maxEdgeCaseTries;
+	private final boolean recordChoices;
 
-	private RandomizedShrinkablesGenerator(List<RandomizedParameterGenerator> parameterGenerators, Random random) {
+	// Created with the first try because it needs the parameters' generators
+	private EdgeCaseCombinations edgeCaseCombinations = null;
+	private int edgeCaseTry = 0;
+
+	private RandomizedShrinkablesGenerator(
+		List<RandomizedParameterGenerator> parameterGenerators,
+		Supplier<Random> randomPerTry,
+		int maxEdgeCaseTries,
+		boolean recordChoices
+	) {
 		this.parameterGenerators = parameterGenerators;
-		this.random = random;
+		this.sameTypeAsParameter = sameTypeAsParameter(parameterGenerators);
+		this.randomPerTry = randomPerTry;
+		this.maxEdgeCaseTries = maxEdgeCaseTries;
+		this.recordChoices = recordChoices;
+	}
+
+	/**
+	 * Record the choices behind each randomized try so that it can be shrunk
+	 * by {@linkplain ChoiceSequenceShrinkingSequence shrinking its choices}.
+	 * Tries that combine edge cases are not recorded.
+	 */
+	public RandomizedShrinkablesGenerator recordingChoices() {
+		return new RandomizedShrinkablesGenerator(parameterGenerators, randomPerTry, maxEdgeCaseTries, true);
+	}
+
+	// Parameters of the same type usage use the arbitrary that was selected for the first of them
+	private static int[] sameTypeAsParameter(List<RandomizedParameterGenerator> parameterGenerators) {
+		int[] sameTypeAs = new int[parameterGenerators.size()];
+		Map<TypeUsage, Integer> firstParameterOfType = new HashMap<>();
+		for (int i = 0; i < sameTypeAs.length; i++) {
+			Integer first = firstParameterOfType.putIfAbsent(parameterGenerators.get(i).typeUsage, i);
+			sameTypeAs[i] = first == null ? -1 : first;
+		}
+		return sameTypeAs;
 	}
 
 	@Override
@@ -51,11 +136,52 @@ public class RandomizedShrinkablesGenerator implements ShrinkablesGenerator {
 
 	@Override
 	public List<Shrinkable> next() {
-		Map<TypeUsage, Arbitrary> generatorsCache = new HashMap<>();
-		return parameterGenerators
-				   .stream()
-				   .map(generator -> generator.next(random, generatorsCache))
-				   .collect(Collectors.toList());
+		// Taken before checking for edge cases so that each try has the same random with or without edge case tries
+		Random random = randomPerTry.get();
+		Shrinkable[] edgeCases = nextEdgeCaseCombination();
+		if (recordChoices && edgeCases == null) {
+			return ShrinkablesFromChoices.generate(random, choices -> generate(choices, null));
+		}
+		return generate(random, edgeCases);
+	}
+
+	private List<Shrinkable> generate(Random random, Shrinkable[] edgeCases) {
+		// Unique values are unique per try
+		return UniquenessScope.runInScope(() -> {
+			Arbitrary[] selectedArbitraries = new Arbitrary[parameterGenerators.size()];
+			List<Shrinkable> shrinkables = new ArrayList<>(parameterGenerators.size());
+			for (int i = 0; i < selectedArbitraries.length; i++) {
+				RandomizedParameterGenerator generator = parameterGenerators.get(i);
+				if (edgeCases != null && edgeCases[i] != null) {
+					// Only parameters with a single arbitrary have edge cases
+					selectedArbitraries[i] = generator.arbitraries.get(0);
+					shrinkables.add(edgeCases[i]);
+					continue;
+				}
+				int sameTypeAs = sameTypeAsParameter[i];
+				selectedArbitraries[i] = sameTypeAs < 0 ? generator.selectArbitrary(random) : selectedArbitraries[sameTypeAs];
+				// Each parameter gets its own stream so that its values do not depend on the other parameters
+				shrinkables.add(generator.next(SourceOfRandomness.split(random), selectedArbitraries[i]));
+			}
+			return shrinkables;
+		});
+	}
+
+	private Shrinkable[] nextEdgeCaseCombination() {
+		if (maxEdgeCaseTries <= 0) {
+			return null;
+		}
+		if (edgeCaseCombinations == null) {
+			List<List<Shrinkable>> edgeCasesPerParameter =
+				parameterGenerators.stream()
+								   .map(RandomizedParameterGenerator::edgeCases)
+								   .collect(Collectors.toList());
+			edgeCaseCombinations = new EdgeCaseCombinations(edgeCasesPerParameter, maxEdgeCaseTries);
+		}
+		if (edgeCaseTry >= edgeCaseCombinations.size()) {
+			return null;
+		}
+		return edgeCaseCombinations.get(edgeCaseTry++);
 	}
 
 	private static class RandomizedParameterGenerator {
@@ -63,25 +189,40 @@ public class RandomizedShrinkablesGenerator implements ShrinkablesGenerator {
 		private final List<Arbitrary> arbitraries;
 		private final int genSize;
 
+		// Generators are created only once per property since creating them can be expensive
+		private final Map<Arbitrary, RandomGenerator> generators = new IdentityHashMap<>();
+
 		private RandomizedParameterGenerator(MethodParameter parameter, Set<Arbitrary> arbitraries, int genSize) {
 			this.typeUsage = TypeUsageImpl.forParameter(parameter);
 			this.arbitraries = new ArrayList<>(arbitraries);
 			this.genSize = genSize;
 		}
 
-		private Shrinkable next(Random random, Map<TypeUsage, Arbitrary> arbitrariesCache) {
-			RandomGenerator selectedGenerator = selectGenerator(random, arbitrariesCache);
-			return selectedGenerator.next(random);
+		private Arbitrary selectArbitrary(Random random) {
+			int index = arbitraries.size() == 1 ? 0 : random.nextInt(arbitraries.size());
+			return arbitraries.get(index);
+		}
+
+		private Shrinkable next(Random random, Arbitrary arbitrary) {
+			return generatorFor(arbitrary).next(random);
 		}
 
-		private RandomGenerator selectGenerator(Random random, Map<TypeUsage, Arbitrary> arbitrariesCache) {
-			if (arbitrariesCache.containsKey(typeUsage)) {
-				return arbitrariesCache.get(typeUsage).generator(genSize);
+		@SuppressWarnings("unchecked")
+		private List<Shrinkable> edgeCases() {
+			if (arbitraries.size() != 1) {
+				return Collections.emptyList();
 			}
-			int index = arbitraries.size() == 1 ? 0 : random.nextInt(arbitraries.size());
-			Arbitrary selectedArbitrary = arbitraries.get(index);
-			arbitrariesCache.put(typeUsage, selectedArbitrary);
-			return selectedArbitrary.generator(genSize);
+			List<Shrinkable> edgeCases = generatorFor(arbitraries.get(0)).edgeCases();
+			// Generators can list an edge case more than once to give it more weight
+			Map<Object, Shrinkable> distinctEdgeCases = new LinkedHashMap<>();
+			for (Shrinkable edgeCase : edgeCases) {
+				distinctEdgeCases.putIfAbsent(edgeCase.value(), edgeCase);
+			}
+			return new ArrayList<>(distinctEdgeCases.values());
+		}
+
+		private RandomGenerator generatorFor(Arbitrary arbitrary) {
+			return generators.computeIfAbsent(arbitrary, ignore -> arbitrary.generator(genSize));
 		}
 	}
 }
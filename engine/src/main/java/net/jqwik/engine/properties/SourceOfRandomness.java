@@ -2,6 +2,7 @@ package net.jqwik.engine.properties;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
@@ -10,17 +11,77 @@ public class SourceOfRandomness {
 
 	private static Supplier<Random> RNG = ThreadLocalRandom::current;
 
-	private static ThreadLocal<Random> current = ThreadLocal.withInitial(Random::new);
+	private static ThreadLocal<Random> current = ThreadLocal.withInitial(() -> newRandom(RNG.get().nextLong()));
 
 	public static String createRandomSeed() {
 		return Long.toString(RNG.get().nextLong());
 	}
 
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
 	public static Random create(String seed) {
-		try {
-			Random random = new Random(Long.parseLong(seed));
+		Random random = newRandom(parseSeed(seed));
+		current.set(random);
+		return random;
+	}
+
+	/**
+	 * Create a supplier that returns a new random for each try. The seed of each random
+	 * only depends on {@code seed} and the try's index so that any try can be
+	 * reproduced independently of how many random values previous tries consumed.
+	 */
+	public static Supplier<Random> createPerTry(String seed, RandomAlgorithm algorithm) {
+		long baseSeed = parseSeed(seed);
+		AtomicLong tryIndex = new AtomicLong(0);
+		return () -> {
+			Random random = newRandom(trySeed(baseSeed, tryIndex.getAndIncrement()), algorithm);
 			current.set(random);
 			return random;
+		};
+	}
+
+	public static Supplier<Random> createPerTry(String seed) {
+		return createPerTry(seed, RandomAlgorithm.DEFAULT);
+	}
+
+	public static Random newRandom(long seed, RandomAlgorithm algorithm) {
+		return algorithm.create(seed);
+	}
+
+	/**
+	 * Create a new random of the {@linkplain RandomAlgorithm#DEFAULT default algorithm}.
+	 */
+	public static Random newRandom(long seed) {
+		return newRandom(seed, RandomAlgorithm.DEFAULT);
+	}
+
+	/**
+	 * Derive a random from {@code random} that produces an independent stream of values.
+	 * Use it instead of sharing a random between consumers whose values should not
+	 * depend on how many values other consumers have taken.
+	 *
+	 * <p>
+	 * Randoms that cannot be split are shared, i.e. {@code random} itself is returned.
+	 * </p>
+	 */
+	public static Random split(Random random) {
+		if (random instanceof SplitMixRandom) {
+			return ((SplitMixRandom) random).split();
+		}
+		return random;
+	}
+
+	static long trySeed(long baseSeed, long tryIndex) {
+		// Mixing function of SplitMix64 applied to the try's position in the seed sequence
+		long z = baseSeed + (tryIndex + 1) * GOLDEN_GAMMA;
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+
+	private static long parseSeed(String seed) {
+		try {
+			return Long.parseLong(seed);
 		} catch (NumberFormatException nfe) {
 			throw new JqwikException(String.format("[%s] is not a valid random seed.", seed));
 		}
@@ -0,0 +1,102 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+/**
+ * A random based on the SplitMix64 algorithm that is also behind {@linkplain SplittableRandom}.
+ * It is a subclass of {@linkplain Random} so that it can be handed to all generators.
+ *
+ * <p>
+ * In contrast to {@linkplain Random} it does not synchronize access to its state
+ * and must therefore not be shared between threads. Use {@linkplain #split()} to derive
+ * an independent random for another thread or another stream of values.
+ * </p>
+ */
+public class SplitMixRandom extends Random {
+
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+	private static final double DOUBLE_UNIT = 0x1.0p-53;
+	private static final float FLOAT_UNIT = 0x1.0p-24f;
+
+	// No initializers since Random's constructor sets them through setSeed()
+	private long state;
+	private long gamma;
+
+	public SplitMixRandom(long seed) {
+		this(seed, GOLDEN_GAMMA);
+	}
+
+	private SplitMixRandom(long seed, long gamma) {
+		super(seed);
+		this.state = seed;
+		this.gamma = gamma;
+	}
+
+	/**
+	 * Create a new random whose values are statistically independent from this one.
+	 * Splitting advances this random's state.
+	 */
+	public SplitMixRandom split() {
+		return new SplitMixRandom(nextLong(), mixGamma(nextSeed()));
+	}
+
+	@Override
+	public void setSeed(long seed) {
+		this.state = seed;
+		this.gamma = GOLDEN_GAMMA;
+	}
+
+	@Override
+	protected int next(int bits) {
+		return (int) (nextLong() >>> (64 - bits));
+	}
+
+	@Override
+	public int nextInt() {
+		return mix32(nextSeed());
+	}
+
+	@Override
+	public long nextLong() {
+		return mix64(nextSeed());
+	}
+
+	@Override
+	public boolean nextBoolean() {
+		return mix32(nextSeed()) < 0;
+	}
+
+	@Override
+	public double nextDouble() {
+		return (nextLong() >>> 11) * DOUBLE_UNIT;
+	}
+
+	@Override
+	public float nextFloat() {
+		return (nextInt() >>> 8) * FLOAT_UNIT;
+	}
+
+	private long nextSeed() {
+		return state += gamma;
+	}
+
+	private static long mix64(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+
+	private static int mix32(long z) {
+		z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+		return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+	}
+
+	private static long mixGamma(long z) {
+		z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+		z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+		z = (z ^ (z >>> 33)) | 1L;
+		// Gammas with too few bit transitions produce weak sequences
+		int transitions = Long.bitCount(z ^ (z >>> 1));
+		return (transitions < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+	}
+}
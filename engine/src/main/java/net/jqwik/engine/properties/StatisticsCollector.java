@@ -66,6 +66,10 @@ public class StatisticsCollector {
 		return key.stream().map(Object::toString).collect(Collectors.joining(" "));
 	}
 
+	void addAll(Map<List<Object>, Integer> otherCounts) {
+		otherCounts.forEach((key, count) -> counts.merge(key, count, Integer::sum));
+	}
+
 	public void collect(Object... values) {
 		List<Object> key = Collections.emptyList();
 		if (values != null) {
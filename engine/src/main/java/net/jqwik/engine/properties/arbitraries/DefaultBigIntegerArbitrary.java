@@ -27,6 +27,11 @@ public class DefaultBigIntegerArbitrary extends AbstractArbitraryBase implements
 		return generatingArbitrary.exhaustive();
 	}
 
+	@Override
+	public Arbitrary<BigInteger> unique() {
+		return generatingArbitrary.unique();
+	}
+
 	@Override
 	public BigIntegerArbitrary greaterOrEqual(BigInteger min) {
 		DefaultBigIntegerArbitrary clone = typedClone();
@@ -1,6 +1,5 @@
 package net.jqwik.engine.properties.arbitraries;
 
-import java.math.*;
 import java.util.*;
 
 import net.jqwik.api.*;
@@ -11,33 +10,38 @@ public class DefaultByteArbitrary extends AbstractArbitraryBase implements ByteA
 	private static final byte DEFAULT_MIN = Byte.MIN_VALUE;
 	private static final byte DEFAULT_MAX = Byte.MAX_VALUE;
 
-	private final IntegralGeneratingArbitrary generatingArbitrary;
+	private final IntGeneratingArbitrary generatingArbitrary;
 
 	public DefaultByteArbitrary() {
-		this.generatingArbitrary = new IntegralGeneratingArbitrary(BigInteger.valueOf(DEFAULT_MIN), BigInteger.valueOf(DEFAULT_MAX));
+		this.generatingArbitrary = new IntGeneratingArbitrary(DEFAULT_MIN, DEFAULT_MAX);
 	}
 
 	@Override
 	public RandomGenerator<Byte> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::byteValueExact);
+		return generatingArbitrary.generator(genSize).map(Integer::byteValue);
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Byte>> exhaustive() {
-		return generatingArbitrary.exhaustive().map(generator -> generator.map(BigInteger::byteValueExact));
+		return generatingArbitrary.exhaustive().map(generator -> generator.map(Integer::byteValue));
+	}
+
+	@Override
+	public Arbitrary<Byte> unique() {
+		return generatingArbitrary.unique().map(Integer::byteValue);
 	}
 
 	@Override
 	public ByteArbitrary greaterOrEqual(byte min) {
 		DefaultByteArbitrary clone = typedClone();
-		clone.generatingArbitrary.min = BigInteger.valueOf(min);
+		clone.generatingArbitrary.min = min;
 		return clone;
 	}
 
 	@Override
 	public ByteArbitrary lessOrEqual(byte max) {
 		DefaultByteArbitrary clone = typedClone();
-		clone.generatingArbitrary.max = BigInteger.valueOf(max);
+		clone.generatingArbitrary.max = max;
 		return clone;
 	}
 
@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties.arbitraries;
 
-import java.math.*;
+import java.util.*;
+import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
@@ -10,28 +11,29 @@ public class DefaultDoubleArbitrary extends AbstractArbitraryBase implements Dou
 	private static final double DEFAULT_MIN = -Double.MAX_VALUE;
 	private static final double DEFAULT_MAX = Double.MAX_VALUE;
 
-	private final DecimalGeneratingArbitrary generatingArbitrary;
+	private final DoubleGeneratingArbitrary generatingArbitrary;
+	private List<Double> specialValues = new ArrayList<>();
 
 	public DefaultDoubleArbitrary() {
-		this.generatingArbitrary = new DecimalGeneratingArbitrary(toBigDecimal(DEFAULT_MIN), toBigDecimal(DEFAULT_MAX));
+		this.generatingArbitrary = new DoubleGeneratingArbitrary(DEFAULT_MIN, DEFAULT_MAX);
 	}
 
 	@Override
 	public RandomGenerator<Double> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigDecimal::doubleValue);
+		return withSpecialValues(generatingArbitrary.generator(genSize), genSize);
 	}
 
 	@Override
 	public DoubleArbitrary greaterOrEqual(double min) {
 		DefaultDoubleArbitrary clone = typedClone();
-		clone.generatingArbitrary.min = toBigDecimal(min);
+		clone.generatingArbitrary.min = min;
 		return clone;
 	}
 
 	@Override
 	public DoubleArbitrary lessOrEqual(double max) {
 		DefaultDoubleArbitrary clone = typedClone();
-		clone.generatingArbitrary.max = toBigDecimal(max);
+		clone.generatingArbitrary.max = max;
 		return clone;
 	}
 
@@ -42,7 +44,34 @@ public class DefaultDoubleArbitrary extends AbstractArbitraryBase implements Dou
 		return clone;
 	}
 
-	private BigDecimal toBigDecimal(double value) {
-		return new BigDecimal(Double.toString(value));
+	@Override
+	public DoubleArbitrary withSpecialValue(double special) {
+		DefaultDoubleArbitrary clone = typedClone();
+		clone.specialValues = new ArrayList<>(specialValues);
+		clone.specialValues.add(special);
+		return clone;
+	}
+
+	@Override
+	public DoubleArbitrary withStandardSpecialValues() {
+		DefaultDoubleArbitrary clone = typedClone();
+		clone.specialValues = new ArrayList<>(specialValues);
+		clone.specialValues.addAll(Arrays.asList(
+			Double.NaN,
+			-0.0,
+			Double.MIN_VALUE,
+			Double.MIN_NORMAL,
+			Double.POSITIVE_INFINITY,
+			Double.NEGATIVE_INFINITY
+		));
+		return clone;
+	}
+
+	private RandomGenerator<Double> withSpecialValues(RandomGenerator<Double> generator, int genSize) {
+		if (specialValues.isEmpty()) {
+			return generator;
+		}
+		List<Shrinkable<Double>> specials = specialValues.stream().map(Shrinkable::unshrinkable).collect(Collectors.toList());
+		return generator.withEdgeCases(genSize, specials);
 	}
 }
@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties.arbitraries;
 
-import java.math.*;
+import java.util.*;
+import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
@@ -10,28 +11,29 @@ public class DefaultFloatArbitrary extends AbstractArbitraryBase implements Floa
 	private static final float DEFAULT_MIN = -Float.MAX_VALUE;
 	private static final float DEFAULT_MAX = Float.MAX_VALUE;
 
-	private final DecimalGeneratingArbitrary generatingArbitrary;
+	private final DoubleGeneratingArbitrary generatingArbitrary;
+	private List<Float> specialValues = new ArrayList<>();
 
 	public DefaultFloatArbitrary() {
-		this.generatingArbitrary = new DecimalGeneratingArbitrary(toBigDecimal(DEFAULT_MIN), toBigDecimal(DEFAULT_MAX));
+		this.generatingArbitrary = new DoubleGeneratingArbitrary(toDouble(DEFAULT_MIN), toDouble(DEFAULT_MAX));
 	}
 
 	@Override
 	public RandomGenerator<Float> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigDecimal::floatValue);
+		return withSpecialValues(generatingArbitrary.generator(genSize).map(Double::floatValue), genSize);
 	}
 
 	@Override
 	public FloatArbitrary greaterOrEqual(float min) {
 		DefaultFloatArbitrary clone = typedClone();
-		clone.generatingArbitrary.min = toBigDecimal(min);
+		clone.generatingArbitrary.min = toDouble(min);
 		return clone;
 	}
 
 	@Override
 	public FloatArbitrary lessOrEqual(float max) {
 		DefaultFloatArbitrary clone = typedClone();
-		clone.generatingArbitrary.max = toBigDecimal(max);
+		clone.generatingArbitrary.max = toDouble(max);
 		return clone;
 	}
 
@@ -42,8 +44,40 @@ public class DefaultFloatArbitrary extends AbstractArbitraryBase implements Floa
 		return clone;
 	}
 
-	private BigDecimal toBigDecimal(float value) {
-		return new BigDecimal(Float.toString(value));
+	@Override
+	public FloatArbitrary withSpecialValue(float special) {
+		DefaultFloatArbitrary clone = typedClone();
+		clone.specialValues = new ArrayList<>(specialValues);
+		clone.specialValues.add(special);
+		return clone;
+	}
+
+	@Override
+	public FloatArbitrary withStandardSpecialValues() {
+		DefaultFloatArbitrary clone = typedClone();
+		clone.specialValues = new ArrayList<>(specialValues);
+		clone.specialValues.addAll(Arrays.asList(
+			Float.NaN,
+			-0.0f,
+			Float.MIN_VALUE,
+			Float.MIN_NORMAL,
+			Float.POSITIVE_INFINITY,
+			Float.NEGATIVE_INFINITY
+		));
+		return clone;
+	}
+
+	private RandomGenerator<Float> withSpecialValues(RandomGenerator<Float> generator, int genSize) {
+		if (specialValues.isEmpty()) {
+			return generator;
+		}
+		List<Shrinkable<Float>> specials = specialValues.stream().map(Shrinkable::unshrinkable).collect(Collectors.toList());
+		return generator.withEdgeCases(genSize, specials);
+	}
+
+	// Keep the decimal representation, e.g. 0.1f becomes 0.1 and not 0.10000000149011612
+	private double toDouble(float value) {
+		return Double.parseDouble(Float.toString(value));
 	}
 
 }
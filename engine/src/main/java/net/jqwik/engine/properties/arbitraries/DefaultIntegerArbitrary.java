@@ -1,6 +1,5 @@
 package net.jqwik.engine.properties.arbitraries;
 
-import java.math.*;
 import java.util.*;
 
 import net.jqwik.api.*;
@@ -11,34 +10,73 @@ public class DefaultIntegerArbitrary extends AbstractArbitraryBase implements In
 	private static final int DEFAULT_MIN = Integer.MIN_VALUE;
 	private static final int DEFAULT_MAX = Integer.MAX_VALUE;
 
-	private final IntegralGeneratingArbitrary generatingArbitrary;
+	private final IntGeneratingArbitrary generatingArbitrary;
+	private int divisor = 1;
 
 	public DefaultIntegerArbitrary() {
-		this.generatingArbitrary = new IntegralGeneratingArbitrary(BigInteger.valueOf(DEFAULT_MIN), BigInteger.valueOf(DEFAULT_MAX));
+		this.generatingArbitrary = new IntGeneratingArbitrary(DEFAULT_MIN, DEFAULT_MAX);
 	}
 
 	@Override
 	public RandomGenerator<Integer> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::intValueExact);
+		if (divisor != 1) {
+			return multiples().generator(genSize);
+		}
+		return generatingArbitrary.generator(genSize);
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Integer>> exhaustive() {
-		return generatingArbitrary.exhaustive().map(generator -> generator.map(BigInteger::intValueExact));
+		if (divisor != 1) {
+			return multiples().exhaustive();
+		}
+		return generatingArbitrary.exhaustive();
+	}
+
+	@Override
+	public Arbitrary<Integer> unique() {
+		if (divisor != 1) {
+			return multiples().unique();
+		}
+		return generatingArbitrary.unique();
 	}
 
 	@Override
 	public IntegerArbitrary greaterOrEqual(int min) {
 		DefaultIntegerArbitrary clone = typedClone();
-		clone.generatingArbitrary.min = BigInteger.valueOf(min);
+		clone.generatingArbitrary.min = min;
 		return clone;
 	}
 
 	@Override
 	public IntegerArbitrary lessOrEqual(int max) {
 		DefaultIntegerArbitrary clone = typedClone();
-		clone.generatingArbitrary.max = BigInteger.valueOf(max);
+		clone.generatingArbitrary.max = max;
+		return clone;
+	}
+
+	@Override
+	public IntegerArbitrary multipleOf(int divisor) {
+		if (divisor <= 0) {
+			throw new JqwikException(String.format("Divisor must be positive but is %s", divisor));
+		}
+		DefaultIntegerArbitrary clone = typedClone();
+		clone.divisor = divisor;
 		return clone;
 	}
 
+	// Multiples are generated as quotients so that they can be generated and shrunk without filtering
+	private Arbitrary<Integer> multiples() {
+		int minQuotient = (int) -Math.floorDiv(-(long) generatingArbitrary.min, divisor);
+		int maxQuotient = Math.floorDiv(generatingArbitrary.max, divisor);
+		if (minQuotient > maxQuotient) {
+			String message = String.format(
+				"There is no multiple of %s between %s and %s",
+				divisor, generatingArbitrary.min, generatingArbitrary.max
+			);
+			throw new JqwikException(message);
+		}
+		return new DefaultIntegerArbitrary().between(minQuotient, maxQuotient).map(quotient -> quotient * divisor);
+	}
+
 }
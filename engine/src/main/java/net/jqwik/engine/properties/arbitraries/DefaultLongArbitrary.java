@@ -11,34 +11,75 @@ public class DefaultLongArbitrary extends AbstractArbitraryBase implements LongA
 	private static final long DEFAULT_MIN = Long.MIN_VALUE;
 	private static final long DEFAULT_MAX = Long.MAX_VALUE;
 
-	private final IntegralGeneratingArbitrary generatingArbitrary;
+	private final LongGeneratingArbitrary generatingArbitrary;
+	private long divisor = 1;
 
 	public DefaultLongArbitrary() {
-		this.generatingArbitrary = new IntegralGeneratingArbitrary(BigInteger.valueOf(DEFAULT_MIN), BigInteger.valueOf(DEFAULT_MAX));
+		this.generatingArbitrary = new LongGeneratingArbitrary(DEFAULT_MIN, DEFAULT_MAX);
 	}
 
 	@Override
 	public RandomGenerator<Long> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::longValueExact);
+		if (divisor != 1) {
+			return multiples().generator(genSize);
+		}
+		return generatingArbitrary.generator(genSize);
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Long>> exhaustive() {
-		return generatingArbitrary.exhaustive().map(generator -> generator.map(BigInteger::longValueExact));
+		if (divisor != 1) {
+			return multiples().exhaustive();
+		}
+		return generatingArbitrary.exhaustive();
+	}
+
+	@Override
+	public Arbitrary<Long> unique() {
+		if (divisor != 1) {
+			return multiples().unique();
+		}
+		return generatingArbitrary.unique();
 	}
 
 	@Override
 	public LongArbitrary greaterOrEqual(long min) {
 		DefaultLongArbitrary clone = typedClone();
-		clone.generatingArbitrary.min = BigInteger.valueOf(min);
+		clone.generatingArbitrary.min = min;
 		return clone;
 	}
 
 	@Override
 	public LongArbitrary lessOrEqual(long max) {
 		DefaultLongArbitrary clone = typedClone();
-		clone.generatingArbitrary.max = BigInteger.valueOf(max);
+		clone.generatingArbitrary.max = max;
+		return clone;
+	}
+
+	@Override
+	public LongArbitrary multipleOf(long divisor) {
+		if (divisor <= 0) {
+			throw new JqwikException(String.format("Divisor must be positive but is %s", divisor));
+		}
+		DefaultLongArbitrary clone = typedClone();
+		clone.divisor = divisor;
 		return clone;
 	}
 
+	// Multiples are generated as quotients so that they can be generated and shrunk without filtering
+	private Arbitrary<Long> multiples() {
+		BigInteger bigDivisor = BigInteger.valueOf(divisor);
+		BigInteger[] minDivision = BigInteger.valueOf(generatingArbitrary.min).divideAndRemainder(bigDivisor);
+		long minQuotient = minDivision[0].longValueExact() + (minDivision[1].signum() > 0 ? 1 : 0);
+		long maxQuotient = Math.floorDiv(generatingArbitrary.max, divisor);
+		if (minQuotient > maxQuotient) {
+			String message = String.format(
+				"There is no multiple of %s between %s and %s",
+				divisor, generatingArbitrary.min, generatingArbitrary.max
+			);
+			throw new JqwikException(message);
+		}
+		return new DefaultLongArbitrary().between(minQuotient, maxQuotient).map(quotient -> quotient * divisor);
+	}
+
 }
@@ -1,6 +1,5 @@
 package net.jqwik.engine.properties.arbitraries;
 
-import java.math.*;
 import java.util.*;
 
 import net.jqwik.api.*;
@@ -11,33 +10,38 @@ public class DefaultShortArbitrary extends AbstractArbitraryBase implements Shor
 	private static final short DEFAULT_MIN = Short.MIN_VALUE;
 	private static final short DEFAULT_MAX = Short.MAX_VALUE;
 
-	private final IntegralGeneratingArbitrary generatingArbitrary;
+	private final IntGeneratingArbitrary generatingArbitrary;
 
 	public DefaultShortArbitrary() {
-		this.generatingArbitrary = new IntegralGeneratingArbitrary(BigInteger.valueOf(DEFAULT_MIN), BigInteger.valueOf(DEFAULT_MAX));
+		this.generatingArbitrary = new IntGeneratingArbitrary(DEFAULT_MIN, DEFAULT_MAX);
 	}
 
 	@Override
 	public RandomGenerator<Short> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::shortValueExact);
+		return generatingArbitrary.generator(genSize).map(Integer::shortValue);
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Short>> exhaustive() {
-		return generatingArbitrary.exhaustive().map(generator -> generator.map(BigInteger::shortValueExact));
+		return generatingArbitrary.exhaustive().map(generator -> generator.map(Integer::shortValue));
+	}
+
+	@Override
+	public Arbitrary<Short> unique() {
+		return generatingArbitrary.unique().map(Integer::shortValue);
 	}
 
 	@Override
 	public ShortArbitrary greaterOrEqual(short min) {
 		DefaultShortArbitrary clone = typedClone();
-		clone.generatingArbitrary.min = BigInteger.valueOf(min);
+		clone.generatingArbitrary.min = min;
 		return clone;
 	}
 
 	@Override
 	public ShortArbitrary lessOrEqual(short max) {
 		DefaultShortArbitrary clone = typedClone();
-		clone.generatingArbitrary.max = BigInteger.valueOf(max);
+		clone.generatingArbitrary.max = max;
 		return clone;
 	}
 
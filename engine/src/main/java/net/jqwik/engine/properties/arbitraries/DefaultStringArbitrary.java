@@ -7,19 +7,19 @@ import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 import net.jqwik.engine.properties.arbitraries.exhaustive.*;
 import net.jqwik.engine.properties.arbitraries.randomized.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 public class DefaultStringArbitrary extends AbstractArbitraryBase implements StringArbitrary {
 
-	private List<Arbitrary<Character>> characterArbitraries = new ArrayList<>();
+	private static final CharacterDomain DEFAULT_CHARACTERS = new CharacterDomain(Collections.singletonList(
+		CharacterDomain.filteredRange(Character.MIN_VALUE, Character.MAX_VALUE, c -> !isNoncharacter(c) && !isPrivateUseCharacter(c))
+	));
+
+	private List<CharacterDomain.Part> characterParts = new ArrayList<>();
 
 	private int minLength = 0;
 	private int maxLength = RandomGenerators.DEFAULT_COLLECTION_SIZE;
 
-	private Arbitrary<Character> defaultCharacterArbitrary() {
-		return Arbitraries.chars().all().filter(c -> !DefaultStringArbitrary.isNoncharacter(c)
-			&& !DefaultStringArbitrary.isPrivateUseCharacter(c));
-	}
-
 	public static boolean isNoncharacter(int codepoint) {
 		if (codepoint >= 0xfdd0 && codepoint <= 0xfdef)
 			return true;
@@ -36,12 +36,13 @@ public class DefaultStringArbitrary extends AbstractArbitraryBase implements Str
 		List<Shrinkable<String>> samples = Arrays.stream(new String[] { "" })
 												 .filter(s -> s.length() >= minLength && s.length() <= maxLength).map(Shrinkable::unshrinkable)
 												 .collect(Collectors.toList());
-		return RandomGenerators.strings(randomCharacterGenerator(), minLength, maxLength, cutoffLength).withEdgeCases(genSize, samples);
+		return RandomGenerators.strings(characterDomain(), minLength, maxLength, cutoffLength).withEdgeCases(genSize, samples);
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<String>> exhaustive() {
-		return ExhaustiveGenerators.strings(effectiveCharacterArbitrary(), minLength, maxLength);
+		Arbitrary<Character> characterArbitrary = Arbitraries.of(characterDomain().allChars());
+		return ExhaustiveGenerators.strings(characterArbitrary, minLength, maxLength);
 	}
 
 	@Override
@@ -60,9 +61,7 @@ public class DefaultStringArbitrary extends AbstractArbitraryBase implements Str
 
 	@Override
 	public StringArbitrary withChars(char... chars) {
-		DefaultStringArbitrary clone = typedClone();
-		clone.addChars(chars);
-		return clone;
+		return withCharacters(CharacterDomain.chars(chars));
 	}
 
 	@Override
@@ -70,31 +69,22 @@ public class DefaultStringArbitrary extends AbstractArbitraryBase implements Str
 		if (from == 0 && to == 0) {
 			return this;
 		}
-		DefaultStringArbitrary clone = typedClone();
-		clone.addCharRange(from, to);
-		return clone;
+		return withCharacters(CharacterDomain.range(from, to));
 	}
 
 	@Override
 	public StringArbitrary ascii() {
-		DefaultStringArbitrary clone = typedClone();
-		clone.characterArbitraries.add(Arbitraries.chars().ascii());
-		return clone;
+		return withCharacters(CharacterDomain.range((char) Character.MIN_CODE_POINT, (char) DefaultCharacterArbitrary.MAX_ASCII_CODEPOINT));
 	}
 
 	@Override
 	public StringArbitrary alpha() {
-		DefaultStringArbitrary clone = typedClone();
-		clone.addCharRange('a', 'z');
-		clone.addCharRange('A', 'Z');
-		return clone;
+		return withCharacters(CharacterDomain.range('a', 'z'), CharacterDomain.range('A', 'Z'));
 	}
 
 	@Override
 	public StringArbitrary numeric() {
-		DefaultStringArbitrary clone = typedClone();
-		clone.addCharRange('0', '9');
-		return clone;
+		return withCharacters(CharacterDomain.range('0', '9'));
 	}
 
 	/**
@@ -144,28 +134,19 @@ public class DefaultStringArbitrary extends AbstractArbitraryBase implements Str
 		return this.withCharRange(Character.MIN_VALUE, Character.MAX_VALUE);
 	}
 
-	private void addCharRange(char from, char to) {
-		characterArbitraries.add(Arbitraries.chars().between(from, to));
-	}
-
-	private void addChars(char[] chars) {
-		characterArbitraries.add(Arbitraries.of(chars));
-	}
-
-	private RandomGenerator<Character> randomCharacterGenerator() {
-		return effectiveCharacterArbitrary().generator(1);
+	// The clone gets its own list so that this arbitrary is not changed
+	private StringArbitrary withCharacters(CharacterDomain.Part... parts) {
+		DefaultStringArbitrary clone = typedClone();
+		clone.characterParts = new ArrayList<>(characterParts);
+		clone.characterParts.addAll(Arrays.asList(parts));
+		return clone;
 	}
 
-	private Arbitrary<Character> effectiveCharacterArbitrary() {
-		if (characterArbitraries.isEmpty()) {
-			return defaultCharacterArbitrary();
+	private CharacterDomain characterDomain() {
+		if (characterParts.isEmpty()) {
+			return DEFAULT_CHARACTERS;
 		}
-		Arbitrary<Character> first = characterArbitraries.get(0);
-		@SuppressWarnings("unchecked")
-		Arbitrary<Character>[] rest = characterArbitraries
-										  .subList(1, characterArbitraries.size())
-										  .toArray(new Arbitrary[characterArbitraries.size() - 1]);
-		return Arbitraries.oneOf(first, rest);
+		return new CharacterDomain(characterParts);
 	}
 
 }
@@ -0,0 +1,45 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.math.*;
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+class DoubleGeneratingArbitrary implements Arbitrary<Double> {
+
+	private static final int DEFAULT_SCALE = 2;
+
+	double min;
+	double max;
+	int scale = DEFAULT_SCALE;
+
+	DoubleGeneratingArbitrary(double defaultMin, double defaultMax) {
+		this.min = defaultMin;
+		this.max = defaultMax;
+	}
+
+	@Override
+	public RandomGenerator<Double> generator(int genSize) {
+		// Adding 0.0 turns -0.0 into 0.0 which makes range checks more intuitive
+		double effectiveMin = min + 0.0;
+		double effectiveMax = max + 0.0;
+		double[] partitionPoints = RandomDecimalGenerators.calculateDefaultPartitionPoints(genSize, effectiveMin, effectiveMax);
+		return doubleGenerator(Range.of(effectiveMin, effectiveMax), partitionPoints, genSize);
+	}
+
+	private RandomGenerator<Double> doubleGenerator(Range<Double> range, double[] partitionPoints, int genSize) {
+		double smallest = BigDecimal.ONE.movePointLeft(scale).doubleValue();
+		double[] sampleValues = {0.0, 1.0, -1.0, smallest, -smallest, range.min, range.max};
+		List<Shrinkable<Double>> samples =
+			Arrays.stream(sampleValues) //
+				  .distinct() //
+				  .filter(range::includes) //
+				  .mapToObj(value -> new ShrinkableDouble(value, range, scale)) //
+				  .collect(Collectors.toList());
+		return RandomDecimalGenerators.doubles(range, scale, partitionPoints).withEdgeCases(genSize, samples);
+	}
+
+}
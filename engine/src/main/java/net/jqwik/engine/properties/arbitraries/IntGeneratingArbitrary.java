@@ -0,0 +1,86 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.arbitraries.exhaustive.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+class IntGeneratingArbitrary implements Arbitrary<Integer> {
+
+	int min;
+	int max;
+
+	IntGeneratingArbitrary(int defaultMin, int defaultMax) {
+		this.min = defaultMin;
+		this.max = defaultMax;
+	}
+
+	@Override
+	public RandomGenerator<Integer> generator(int genSize) {
+		int[] partitionPoints = RandomIntegralGenerators.calculateDefaultPartitionPoints(genSize, this.min, this.max);
+		return createGenerator(partitionPoints, genSize);
+	}
+
+	@Override
+	public Optional<ExhaustiveGenerator<Integer>> exhaustive() {
+		long maxCount = (long) max - min + 1;
+
+		if (maxCount > ExhaustiveGenerators.MAXIMUM_ACCEPTED_MAX_COUNT) {
+			return Optional.empty();
+		} else {
+			return ExhaustiveGenerators.fromIterable(RangeIterator::new, maxCount);
+		}
+	}
+
+	@Override
+	public Arbitrary<Integer> unique() {
+		long rangeSize = (long) max - min + 1;
+		if (rangeSize > Integer.MAX_VALUE) {
+			return Arbitrary.super.unique();
+		}
+		int rangeMin = min;
+		Range<Integer> range = Range.of(min, max);
+		return new UniqueRangeArbitrary<>(this, (int) rangeSize, index -> new ShrinkableInt(rangeMin + index, range));
+	}
+
+	private RandomGenerator<Integer> createGenerator(int[] partitionPoints, int genSize) {
+		Range<Integer> range = Range.of(min, max);
+		List<Shrinkable<Integer>> edgeCases =
+			Arrays.stream(edgeCases()) //
+				  .filter(range::includes) //
+				  .mapToObj(anInt -> new ShrinkableInt(anInt, range)) //
+				  .collect(Collectors.toList());
+		return RandomGenerators.integers(min, max, partitionPoints).withEdgeCases(genSize, edgeCases);
+	}
+
+	private int[] edgeCases() {
+		return new int[]{
+			-10, -5, -4, -3, -2, -1,
+			0, 0, 0, // more weight for 0
+			10, 5, 4, 3, 2, 1,
+			min, max
+		};
+	}
+
+	class RangeIterator implements Iterator<Integer> {
+
+		long current = min;
+
+		@Override
+		public boolean hasNext() {
+			return current <= max;
+		}
+
+		@Override
+		public Integer next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return (int) current++;
+		}
+	}
+
+}
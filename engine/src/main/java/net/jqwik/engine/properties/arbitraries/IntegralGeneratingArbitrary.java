@@ -38,6 +38,17 @@ class IntegralGeneratingArbitrary implements Arbitrary<BigInteger> {
 		}
 	}
 
+	@Override
+	public Arbitrary<BigInteger> unique() {
+		BigInteger rangeSize = max.subtract(min).add(BigInteger.ONE);
+		if (rangeSize.compareTo(valueOf(Integer.MAX_VALUE)) > 0) {
+			return Arbitrary.super.unique();
+		}
+		BigInteger rangeMin = min;
+		Range<BigInteger> range = Range.of(min, max);
+		return new UniqueRangeArbitrary<>(this, rangeSize.intValueExact(), index -> new ShrinkableBigInteger(rangeMin.add(valueOf(index)), range));
+	}
+
 	private RandomGenerator<BigInteger> createGenerator(BigInteger[] partitionPoints, int genSize) {
 		List<Shrinkable<BigInteger>> edgeCases =
 			Arrays.stream(edgeCases()) //
@@ -0,0 +1,94 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.math.*;
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.arbitraries.exhaustive.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+class LongGeneratingArbitrary implements Arbitrary<Long> {
+
+	long min;
+	long max;
+
+	LongGeneratingArbitrary(long defaultMin, long defaultMax) {
+		this.min = defaultMin;
+		this.max = defaultMax;
+	}
+
+	@Override
+	public RandomGenerator<Long> generator(int genSize) {
+		long[] partitionPoints = RandomIntegralGenerators.calculateDefaultPartitionPoints(genSize, this.min, this.max);
+		return createGenerator(partitionPoints, genSize);
+	}
+
+	@Override
+	public Optional<ExhaustiveGenerator<Long>> exhaustive() {
+		BigInteger maxCount = BigInteger.valueOf(max).subtract(BigInteger.valueOf(min)).add(BigInteger.ONE);
+
+		if (maxCount.compareTo(BigInteger.valueOf(ExhaustiveGenerators.MAXIMUM_ACCEPTED_MAX_COUNT)) > 0) {
+			return Optional.empty();
+		} else {
+			return ExhaustiveGenerators.fromIterable(RangeIterator::new, maxCount.longValueExact());
+		}
+	}
+
+	@Override
+	public Arbitrary<Long> unique() {
+		BigInteger rangeSize = BigInteger.valueOf(max).subtract(BigInteger.valueOf(min)).add(BigInteger.ONE);
+		if (rangeSize.compareTo(BigInteger.valueOf(Integer.MAX_VALUE)) > 0) {
+			return Arbitrary.super.unique();
+		}
+		long rangeMin = min;
+		Range<Long> range = Range.of(min, max);
+		return new UniqueRangeArbitrary<>(this, rangeSize.intValueExact(), index -> new ShrinkableLong(rangeMin + index, range));
+	}
+
+	private RandomGenerator<Long> createGenerator(long[] partitionPoints, int genSize) {
+		Range<Long> range = Range.of(min, max);
+		List<Shrinkable<Long>> edgeCases =
+			Arrays.stream(edgeCases()) //
+				  .filter(range::includes) //
+				  .mapToObj(aLong -> new ShrinkableLong(aLong, range)) //
+				  .collect(Collectors.toList());
+		return RandomGenerators.longs(min, max, partitionPoints).withEdgeCases(genSize, edgeCases);
+	}
+
+	private long[] edgeCases() {
+		return new long[]{
+			-10, -5, -4, -3, -2, -1,
+			0, 0, 0, // more weight for 0
+			10, 5, 4, 3, 2, 1,
+			min, max
+		};
+	}
+
+	class RangeIterator implements Iterator<Long> {
+
+		long current = min;
+		boolean exhausted = false;
+
+		@Override
+		public boolean hasNext() {
+			return !exhausted && current <= max;
+		}
+
+		@Override
+		public Long next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			long next = current;
+			if (current == max) {
+				exhausted = true;
+			} else {
+				current++;
+			}
+			return next;
+		}
+	}
+
+}
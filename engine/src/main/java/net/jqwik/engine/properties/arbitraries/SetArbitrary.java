@@ -8,16 +8,55 @@ import net.jqwik.engine.properties.arbitraries.randomized.*;
 
 public class SetArbitrary<T> extends DefaultCollectionArbitrary<T, Set<T>> {
 
+	private Long exhaustiveElementCount = null;
+
 	public SetArbitrary(Arbitrary<T> elementArbitrary) {
 		super(elementArbitrary);
 	}
 
 	@Override
 	public RandomGenerator<Set<T>> generator(int genSize) {
-		int cutoffSize = cutoffSize(genSize);
-		RandomGenerator<T> elementGenerator = elementGenerator(elementArbitrary, genSize);
+		Arbitrary<T> uniqueElementArbitrary = elementArbitrary.unique();
+		long elementCount = elementCount(uniqueElementArbitrary);
+		int maxReachableSize = (int) Math.min(maxSize, elementCount);
+		if (maxReachableSize < minSize) {
+			throw new JqwikException(String.format(
+				"Cannot generate sets with at least %s elements from only %s distinct values",
+				minSize, elementCount
+			));
+		}
+		int cutoffSize = RandomGenerators.defaultCutoffSize(minSize, maxReachableSize, genSize);
 		List<Shrinkable<Set<T>>> samples = edgeCases(new HashSet<>());
-		return RandomGenerators.set(elementGenerator, minSize, maxSize, cutoffSize).withEdgeCases(genSize, samples);
+		return setGenerator(uniqueElementArbitrary, elementCount, maxReachableSize, cutoffSize, genSize)
+				   .withEdgeCases(genSize, samples);
+	}
+
+	private RandomGenerator<Set<T>> setGenerator(
+		Arbitrary<T> uniqueElementArbitrary,
+		long elementCount,
+		int maxReachableSize,
+		int cutoffSize,
+		int genSize
+	) {
+		// Rejecting duplicates gets slow when sets can use up much of a range
+		if (uniqueElementArbitrary instanceof UniqueRangeArbitrary && maxReachableSize * 2L >= elementCount) {
+			RandomGenerator<T> distinctElementGenerator = uniqueElementArbitrary.generator(genSize);
+			return RandomGenerators.distinctSet(distinctElementGenerator, minSize, maxReachableSize, cutoffSize);
+		}
+		RandomGenerator<T> elementGenerator = elementGenerator(elementArbitrary, genSize);
+		return RandomGenerators.set(elementGenerator, minSize, maxReachableSize, cutoffSize);
+	}
+
+	private long elementCount(Arbitrary<T> uniqueElementArbitrary) {
+		if (uniqueElementArbitrary instanceof UniqueRangeArbitrary) {
+			return ((UniqueRangeArbitrary<T>) uniqueElementArbitrary).rangeSize();
+		}
+		if (exhaustiveElementCount == null) {
+			exhaustiveElementCount = elementArbitrary.exhaustive()
+													 .map(ExhaustiveGenerator::maxCount)
+													 .orElse(Long.MAX_VALUE);
+		}
+		return exhaustiveElementCount;
 	}
 
 	@Override
@@ -0,0 +1,38 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+
+/**
+ * Unique variant of an arbitrary whose values can be enumerated by index,
+ * e.g. all integers within a range.
+ */
+class UniqueRangeArbitrary<T> implements Arbitrary<T> {
+
+	private final Arbitrary<T> base;
+	private final int rangeSize;
+	private final IntFunction<Shrinkable<T>> shrinkableAtIndex;
+
+	UniqueRangeArbitrary(Arbitrary<T> base, int rangeSize, IntFunction<Shrinkable<T>> shrinkableAtIndex) {
+		this.base = base;
+		this.rangeSize = rangeSize;
+		this.shrinkableAtIndex = shrinkableAtIndex;
+	}
+
+	int rangeSize() {
+		return rangeSize;
+	}
+
+	@Override
+	public RandomGenerator<T> generator(int genSize) {
+		return new UniqueGenerator<>(base.generator(genSize), rangeSize, shrinkableAtIndex);
+	}
+
+	@Override
+	public Optional<ExhaustiveGenerator<T>> exhaustive() {
+		return base.exhaustive().map(ExhaustiveGenerator::unique);
+	}
+}
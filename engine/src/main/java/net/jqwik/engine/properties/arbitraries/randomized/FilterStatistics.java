@@ -0,0 +1,123 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.function.*;
+
+import org.junit.platform.engine.reporting.*;
+
+/**
+ * Counts how many of the values generated for a {@linkplain FilteredGenerator filtered generator}
+ * or a filter stage of a {@linkplain FusedGenerator fused generator} are accepted by the filter. Generators that use the same filter predicate are counted together.
+ */
+public class FilterStatistics {
+
+	public static final String KEY_FILTER_ACCEPTANCE = "filter acceptance";
+
+	/**
+	 * Filters that accept a smaller ratio of generated values are marked in the report.
+	 */
+	public static final double WARNING_ACCEPTANCE_RATIO = 0.1;
+
+	private static final ThreadLocal<FilterStatistics> statistics = new ThreadLocal<>();
+
+	/**
+	 * Values are only counted within a scope so that generators used outside of properties
+	 * do not accumulate statistics. A nested scope, e.g. of a property checked within a property,
+	 * counts separately and the enclosing scope's statistics are restored afterwards.
+	 */
+	public static <T> T runInScope(Supplier<T> collection) {
+		FilterStatistics outerScope = statistics.get();
+		statistics.set(new FilterStatistics());
+		try {
+			return collection.get();
+		} finally {
+			if (outerScope == null) {
+				statistics.remove();
+			} else {
+				statistics.set(outerScope);
+			}
+		}
+	}
+
+	public static Optional<FilterStatistics> current() {
+		return Optional.ofNullable(statistics.get());
+	}
+
+	public static void report(Consumer<ReportEntry> reporter) {
+		current().filter(FilterStatistics::hasRejections)
+				 .ifPresent(statistics -> reporter.accept(statistics.createReportEntry()));
+	}
+
+	static void countAccepted(Object filter) {
+		FilterStatistics current = statistics.get();
+		if (current != null) {
+			current.countsOf(filter).accepted++;
+		}
+	}
+
+	static void countRejected(Object filter) {
+		FilterStatistics current = statistics.get();
+		if (current != null) {
+			current.countsOf(filter).rejected++;
+		}
+	}
+
+	private final Map<Object, Counts> countsPerFilter = new LinkedHashMap<>();
+
+	private Counts countsOf(Object filter) {
+		return countsPerFilter.computeIfAbsent(filter, Counts::new);
+	}
+
+	public double acceptanceRatio(Object filter) {
+		Counts counts = countsPerFilter.get(filter);
+		return counts == null ? 1.0 : counts.acceptanceRatio();
+	}
+
+	private boolean hasRejections() {
+		return countsPerFilter.values().stream().anyMatch(counts -> counts.rejected > 0);
+	}
+
+	public ReportEntry createReportEntry() {
+		StringBuilder report = new StringBuilder();
+		for (Counts counts : countsPerFilter.values()) {
+			report.append(String.format(
+				"%n    %s : %s %% of %s generated values accepted",
+				counts.name,
+				Math.round(counts.acceptanceRatio() * 100),
+				counts.accepted + counts.rejected
+			));
+			if (counts.acceptanceRatio() < WARNING_ACCEPTANCE_RATIO) {
+				report.append(String.format(
+					" - less than %s %%, consider constraining the arbitrary instead of filtering",
+					Math.round(WARNING_ACCEPTANCE_RATIO * 100)
+				));
+			}
+		}
+		return ReportEntry.from(KEY_FILTER_ACCEPTANCE, report.toString());
+	}
+
+	private static class Counts {
+		private final String name;
+		private long accepted = 0;
+		private long rejected = 0;
+
+		private Counts(Object filter) {
+			this.name = displayName(filter);
+		}
+
+		// Lambdas are named after their declaring class
+		private static String displayName(Object filter) {
+			String name = filter.getClass().getName();
+			int hiddenClassSuffix = name.indexOf('/');
+			if (hiddenClassSuffix >= 0) {
+				name = name.substring(0, hiddenClassSuffix);
+			}
+			return name.substring(name.lastIndexOf('.') + 1);
+		}
+
+		private double acceptanceRatio() {
+			long generated = accepted + rejected;
+			return generated == 0 ? 1.0 : (double) accepted / generated;
+		}
+	}
+}
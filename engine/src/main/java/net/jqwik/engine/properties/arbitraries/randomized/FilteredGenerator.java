@@ -31,8 +31,10 @@ public class FilteredGenerator<T> implements RandomGenerator<T> {
 		while (true) {
 			Shrinkable<T> next = fetchShrinkable.apply(random);
 			if (filterPredicate.test(next.value())) {
+				FilterStatistics.countAccepted(filterPredicate);
 				return new FilteredShrinkable<>(next, filterPredicate);
 			} else {
+				FilterStatistics.countRejected(filterPredicate);
 				if (++count > MAX_MISSES) {
 					throw new TooManyFilterMissesException(String.format("%s missed more than %s times.", toString(), MAX_MISSES));
 				}
@@ -6,14 +6,18 @@ import net.jqwik.api.*;
 import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.engine.support.*;
 
+/**
+ * Chooses values by weight. The exclusive upper borders of all values' weights are kept
+ * in ascending order so that a value is found through binary search.
+ */
 public class FrequencyGenerator<T> implements RandomGenerator<T> {
 
-	private final Map<T, Integer> upperBorders = new HashMap<>();
+	private final List<T> valuesToChooseFrom = new ArrayList<>();
+	private final int[] upperBorders;
 	private int size = 0;
-	private List<T> valuesToChooseFrom;
 
 	FrequencyGenerator(List<Tuple.Tuple2<Integer, T>> frequencies) {
-		calculateUpperBorders(frequencies);
+		this.upperBorders = calculateUpperBorders(frequencies);
 		if (size <= 0) {
 			throw new JqwikException(String.format(
 				"%s does not contain any positive frequencies.",
@@ -22,33 +26,39 @@ public class FrequencyGenerator<T> implements RandomGenerator<T> {
 		}
 	}
 
-	private void calculateUpperBorders(List<Tuple.Tuple2<Integer, T>> frequencies) {
-		List<T> values = new ArrayList<>();
+	private int[] calculateUpperBorders(List<Tuple.Tuple2<Integer, T>> frequencies) {
+		int[] borders = new int[frequencies.size()];
 		for (Tuple.Tuple2<Integer, T> tuple : frequencies) {
 			int frequency = tuple.get1();
 			if (frequency <= 0)
 				continue;
-			size += frequency;
-			T value = tuple.get2();
-			values.add(value);
-			upperBorders.put(value, size);
+			size = addFrequency(size, frequency, frequencies);
+			borders[valuesToChooseFrom.size()] = size;
+			valuesToChooseFrom.add(tuple.get2());
+		}
+		return Arrays.copyOf(borders, valuesToChooseFrom.size());
+	}
+
+	private int addFrequency(int sum, int frequency, List<Tuple.Tuple2<Integer, T>> frequencies) {
+		try {
+			return Math.addExact(sum, frequency);
+		} catch (ArithmeticException overflow) {
+			throw new JqwikException(String.format(
+				"Sum of frequencies in %s must not exceed %s.",
+				JqwikStringSupport.displayString(frequencies),
+				Integer.MAX_VALUE
+			));
 		}
-		valuesToChooseFrom = values;
 	}
 
 	private T choose(int index) {
-		T currentChoice = null;
-		for (T key : upperBorders.keySet()) {
-			int upper = upperBorders.get(key);
-			if (upper > index) {
-				if (currentChoice == null) {
-					currentChoice = key;
-				} else if (upper < upperBorders.get(currentChoice)) {
-					currentChoice = key;
-				}
-			}
+		// Upper borders are strictly ascending, so the insertion point of index + 1
+		// is the first border above index
+		int position = Arrays.binarySearch(upperBorders, index + 1);
+		if (position < 0) {
+			position = -position - 1;
 		}
-		return currentChoice;
+		return valuesToChooseFrom.get(position);
 	}
 
 	@Override
@@ -0,0 +1,112 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Applies a chain of map and filter stages to the values of a source generator.
+ *
+ * <p>
+ * Mapping or filtering a fused generator adds another stage instead of wrapping it.
+ * A chain like {@code integers.filter(..).map(..).map(..)} is therefore generated
+ * by a single generator and each value is wrapped by a single {@linkplain FusedShrinkable}
+ * however many stages there are.
+ * </p>
+ */
+public class FusedGenerator<S, T> implements RandomGenerator<T> {
+	private static final long MAX_MISSES = 10000;
+
+	private final RandomGenerator<S> source;
+
+	// Each stage has either a mapper or a filter
+	private final Function<Object, Object>[] mappers;
+	private final Predicate<Object>[] filters;
+
+	private final Function<S, Object> stagesWithoutStatistics = value -> applyStages(value, false);
+
+	@SuppressWarnings("unchecked")
+	public static <T, U> RandomGenerator<U> map(RandomGenerator<T> self, Function<T, U> mapper) {
+		return fused(self).withStage((Function<Object, Object>) mapper, null);
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <T> RandomGenerator<T> filter(RandomGenerator<T> self, Predicate<T> filterPredicate) {
+		return fused(self).withStage(null, (Predicate<Object>) filterPredicate);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> FusedGenerator<?, T> fused(RandomGenerator<T> self) {
+		if (self instanceof FusedGenerator) {
+			return (FusedGenerator<?, T>) self;
+		}
+		return new FusedGenerator<T, T>(self, new Function[0], new Predicate[0]);
+	}
+
+	private FusedGenerator(RandomGenerator<S> source, Function<Object, Object>[] mappers, Predicate<Object>[] filters) {
+		this.source = source;
+		this.mappers = mappers;
+		this.filters = filters;
+	}
+
+	private <U> FusedGenerator<S, U> withStage(Function<Object, Object> mapper, Predicate<Object> filter) {
+		Function<Object, Object>[] newMappers = Arrays.copyOf(mappers, mappers.length + 1);
+		Predicate<Object>[] newFilters = Arrays.copyOf(filters, filters.length + 1);
+		newMappers[mappers.length] = mapper;
+		newFilters[filters.length] = filter;
+		return new FusedGenerator<>(source, newMappers, newFilters);
+	}
+
+	@Override
+	public Shrinkable<T> next(Random random) {
+		long count = 0;
+		while (true) {
+			Shrinkable<S> next = source.next(random);
+			Object value = applyStages(next.value(), true);
+			if (value != FusedShrinkable.REJECTED) {
+				@SuppressWarnings("unchecked")
+				T accepted = (T) value;
+				return new FusedShrinkable<>(next, stagesWithoutStatistics, accepted);
+			}
+			if (++count > MAX_MISSES) {
+				throw new TooManyFilterMissesException(String.format("%s missed more than %s times.", toString(), MAX_MISSES));
+			}
+		}
+	}
+
+	@Override
+	public List<Shrinkable<T>> edgeCases() {
+		List<Shrinkable<T>> edgeCases = new ArrayList<>();
+		for (Shrinkable<S> edgeCase : source.edgeCases()) {
+			Object value = stagesWithoutStatistics.apply(edgeCase.value());
+			if (value != FusedShrinkable.REJECTED) {
+				@SuppressWarnings("unchecked")
+				T accepted = (T) value;
+				edgeCases.add(new FusedShrinkable<>(edgeCase, stagesWithoutStatistics, accepted));
+			}
+		}
+		return edgeCases;
+	}
+
+	private Object applyStages(Object value, boolean countFilterStatistics) {
+		for (int i = 0; i < mappers.length; i++) {
+			Predicate<Object> filter = filters[i];
+			if (filter == null) {
+				value = mappers[i].apply(value);
+			} else if (filter.test(value)) {
+				if (countFilterStatistics) FilterStatistics.countAccepted(filter);
+			} else {
+				if (countFilterStatistics) FilterStatistics.countRejected(filter);
+				return FusedShrinkable.REJECTED;
+			}
+		}
+		return value;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Fused [%s] with %s stages", source, mappers.length);
+	}
+}
@@ -10,6 +10,9 @@ import net.jqwik.engine.properties.shrinking.*;
 // TODO: Remove duplication with RandomIntegralGenerators
 public class RandomDecimalGenerators {
 
+	// Largest power of ten that can be represented exactly as a double
+	private static final int MAX_EXACT_POWER_OF_TEN = 22;
+
 	public static RandomGenerator<BigDecimal> bigDecimals(Range<BigDecimal> range, int scale, BigDecimal[] partitionPoints) {
 		if (scale < 0) {
 			throw new JqwikException(String.format("Scale [%s] must be positive.", scale));
@@ -71,6 +74,97 @@ public class RandomDecimalGenerators {
 		}
 	}
 
+	public static RandomGenerator<Double> doubles(Range<Double> range, int scale, double[] partitionPoints) {
+		if (scale < 0) {
+			throw new JqwikException(String.format("Scale [%s] must be positive.", scale));
+		}
+
+		if (range.isSingular()) {
+			return ignored -> Shrinkable.unshrinkable(range.min);
+		}
+
+		List<RandomGenerator<Double>> generators = new ArrayList<>();
+		double[] sortedPoints = partitionPoints.clone();
+		Arrays.sort(sortedPoints);
+		double lower = range.min;
+		for (double upper : sortedPoints) {
+			if (upper <= lower) {
+				continue;
+			}
+			if (upper >= range.max) {
+				break;
+			}
+			generators.add(createDoubleGenerator(lower, upper, scale, range));
+			lower = upper;
+		}
+		generators.add(createDoubleGenerator(lower, range.max, scale, range));
+		if (generators.size() == 1) {
+			return generators.get(0);
+		}
+		return random -> generators.get(random.nextInt(generators.size())).next(random);
+	}
+
+	private static RandomGenerator<Double> createDoubleGenerator(double minGenerate, double maxGenerate, int scale, Range<Double> range) {
+		// BigDecimal is only used once per partition to find the exact borders of the scaled range
+		BigInteger scaledMin = toBigDecimal(minGenerate).scaleByPowerOfTen(scale).setScale(0, RoundingMode.CEILING).toBigInteger();
+		BigInteger scaledMax = toBigDecimal(maxGenerate).scaleByPowerOfTen(scale).setScale(0, RoundingMode.FLOOR).toBigInteger();
+		if (scaledMin.compareTo(scaledMax) > 0) {
+			String message = String.format("No value with scale [%s] between %s and %s", scale, minGenerate, maxGenerate);
+			throw new JqwikException(message);
+		}
+		if (scale <= MAX_EXACT_POWER_OF_TEN && fitsIntoLong(scaledMin) && fitsIntoLong(scaledMax)) {
+			return createScaledDoubleGenerator(scaledMin.longValueExact(), scaledMax.longValueExact(), scale, range);
+		}
+		double minOnScale = new BigDecimal(scaledMin, scale).doubleValue();
+		double maxOnScale = new BigDecimal(scaledMax, scale).doubleValue();
+		return createContinuousDoubleGenerator(minOnScale, maxOnScale, scale, range);
+	}
+
+	private static RandomGenerator<Double> createScaledDoubleGenerator(long scaledMin, long scaledMax, int scale, Range<Double> range) {
+		double factor = Math.pow(10, scale);
+		return random -> {
+			long scaledValue = RandomIntegralGenerators.randomLong(random, scaledMin, scaledMax);
+			// Beyond 2^53 conversion to double is lossy and might leave the range
+			double value = Math.min(Math.max(scaledValue / factor, range.min), range.max);
+			return new ShrinkableDouble(value, range, scale);
+		};
+	}
+
+	private static RandomGenerator<Double> createContinuousDoubleGenerator(double minGenerate, double maxGenerate, int scale, Range<Double> range) {
+		double factor = Math.pow(10, scale);
+		return random -> {
+			double fraction = random.nextDouble();
+			// Weighted sum avoids overflow of (maxGenerate - minGenerate)
+			double value = minGenerate * (1 - fraction) + maxGenerate * fraction;
+			double valueOnScale = Math.min(Math.max(roundToScale(value, factor), minGenerate), maxGenerate);
+			return new ShrinkableDouble(valueOnScale, range, scale);
+		};
+	}
+
+	private static double roundToScale(double value, double factor) {
+		double scaledValue = value * factor;
+		if (Double.isInfinite(scaledValue) || Double.isNaN(scaledValue)) {
+			// Values that large have no decimal places anyway
+			return value;
+		}
+		return Math.rint(scaledValue) / factor;
+	}
+
+	private static boolean fitsIntoLong(BigInteger value) {
+		return value.bitLength() < 63;
+	}
+
+	private static BigDecimal toBigDecimal(double value) {
+		return new BigDecimal(Double.toString(value));
+	}
+
+	public static double[] calculateDefaultPartitionPoints(int genSize, double min, double max) {
+		int partitionPoint = Math.max(genSize / 2, 10);
+		double upperPartitionPoint = Math.min(partitionPoint, max);
+		double lowerPartitionPoint = Math.max(-partitionPoint, min);
+		return new double[]{lowerPartitionPoint, upperPartitionPoint};
+	}
+
 	// TODO: This could be way more sophisticated
 	public static BigDecimal[] calculateDefaultPartitionPoints(int genSize, BigDecimal min, BigDecimal max) {
 		int partitionPoint = Math.max(genSize / 2, 10);
@@ -13,6 +13,8 @@ public class RandomGenerators {
 
 	public static final int DEFAULT_COLLECTION_SIZE = 255;
 
+	private static final long MAX_SET_ELEMENT_MISSES = 10000;
+
 	public static <U> RandomGenerator<U> choose(List<U> values) {
 		if (values.size() == 0) {
 			return fail("empty set of values");
@@ -49,19 +51,27 @@ public class RandomGenerators {
 	}
 
 	public static RandomGenerator<Byte> bytes(byte min, byte max) {
-		return bigIntegers(BigInteger.valueOf(min), BigInteger.valueOf(max)).map(BigInteger::byteValueExact);
+		return integers(min, max).map(Integer::byteValue);
 	}
 
 	public static RandomGenerator<Short> shorts(short min, short max) {
-		return bigIntegers(BigInteger.valueOf(min), BigInteger.valueOf(max)).map(BigInteger::shortValueExact);
+		return integers(min, max).map(Integer::shortValue);
 	}
 
 	public static RandomGenerator<Integer> integers(int min, int max) {
-		return bigIntegers(BigInteger.valueOf(min), BigInteger.valueOf(max)).map(BigInteger::intValueExact);
+		return integers(min, max, new int[0]);
+	}
+
+	public static RandomGenerator<Integer> integers(int min, int max, int[] partitionPoints) {
+		return RandomIntegralGenerators.integers(Range.of(min, max), partitionPoints);
 	}
 
 	public static RandomGenerator<Long> longs(long min, long max) {
-		return bigIntegers(BigInteger.valueOf(min), BigInteger.valueOf(max)).map(BigInteger::longValueExact);
+		return longs(min, max, new long[0]);
+	}
+
+	public static RandomGenerator<Long> longs(long min, long max, long[] partitionPoints) {
+		return RandomIntegralGenerators.longs(Range.of(min, max), partitionPoints);
 	}
 
 	public static RandomGenerator<BigInteger> bigIntegers(
@@ -116,6 +126,22 @@ public class RandomGenerators {
 		return strings(elementGenerator, minLength, maxLength, defaultCutoff);
 	}
 
+	/**
+	 * Generate strings directly into a {@code char[]} without creating a shrinkable for each character.
+	 */
+	public static RandomGenerator<String> strings(
+		CharacterDomain characters, int minLength, int maxLength, int cutoffLength
+	) {
+		Function<Random, Integer> lengthGenerator = sizeGenerator(minLength, maxLength, cutoffLength);
+		return random -> {
+			char[] chars = new char[lengthGenerator.apply(random)];
+			for (int i = 0; i < chars.length; i++) {
+				chars[i] = characters.randomChar(random);
+			}
+			return new ShrinkableCharArrayString(chars, characters, minLength);
+		};
+	}
+
 	private static int defaultCutoffSize(int minSize, int maxSize) {
 		int range = maxSize - minSize;
 		int offset = (int) Math.max(Math.round(Math.sqrt(100)), 10);
@@ -138,7 +164,7 @@ public class RandomGenerators {
 			return random -> randomSize(random, minSize, maxSize);
 		// Choose size below cutoffSize with probability of 0.9
 		return random -> {
-			if (random.nextDouble() > 0.1)
+			if (random.nextDouble() < 0.9)
 				return randomSize(random, minSize, cutoffSize);
 			else
 				return randomSize(random, cutoffSize + 1, maxSize);
@@ -160,13 +186,22 @@ public class RandomGenerators {
 	) {
 		Function<Random, Integer> sizeGenerator = sizeGenerator(minSize, maxSize, cutoffSize);
 		return random -> {
-			int listSize = sizeGenerator.apply(random);
+			int setSize = sizeGenerator.apply(random);
 			Set<Shrinkable<T>> elements = new HashSet<>();
 			Set<T> values = new HashSet<>();
-			while (elements.size() < listSize) {
+			long misses = 0;
+			while (elements.size() < setSize) {
 				Shrinkable<T> next = elementGenerator.next(random);
-				if (values.contains(next.value()))
+				if (values.contains(next.value())) {
+					if (++misses > MAX_SET_ELEMENT_MISSES) {
+						String message = String.format(
+							"Set generator missed more than %s times while looking for %s distinct elements.",
+							MAX_SET_ELEMENT_MISSES, setSize
+						);
+						throw new TooManyFilterMissesException(message);
+					}
 					continue;
+				}
 				elements.add(next);
 				values.add(next.value());
 			}
@@ -174,6 +209,24 @@ public class RandomGenerators {
 		};
 	}
 
+	/**
+	 * Generate sets from a generator of distinct elements, e.g. a {@linkplain UniqueGenerator},
+	 * which does not require to reject duplicates. Elements are distinct within each set only.
+	 */
+	public static <T> RandomGenerator<Set<T>> distinctSet(
+		RandomGenerator<T> distinctElementGenerator, int minSize, int maxSize, int cutoffSize
+	) {
+		Function<Random, Integer> sizeGenerator = sizeGenerator(minSize, maxSize, cutoffSize);
+		return random -> UniquenessScope.runInScope(() -> {
+			int setSize = sizeGenerator.apply(random);
+			Set<Shrinkable<T>> elements = new HashSet<>();
+			while (elements.size() < setSize) {
+				elements.add(distinctElementGenerator.next(random));
+			}
+			return new ShrinkableSet<>(elements, minSize);
+		});
+	}
+
 	public static <T> RandomGenerator<T> chooseShrinkable(List<Shrinkable<T>> shrinkables) {
 		if (shrinkables.size() == 0) {
 			return fail("empty set of shrinkables");
@@ -213,11 +266,19 @@ public class RandomGenerators {
 
 		RandomGenerator<T> edgeCasesGenerator = RandomGenerators.chooseShrinkable(edgeCases);
 
-		return random -> {
-			if (random.nextInt(baseToEdgeCaseRatio) == 0) {
-				return edgeCasesGenerator.next(random);
-			} else {
-				return self.next(random);
+		return new RandomGenerator<T>() {
+			@Override
+			public Shrinkable<T> next(Random random) {
+				if (random.nextInt(baseToEdgeCaseRatio) == 0) {
+					return edgeCasesGenerator.next(random);
+				} else {
+					return self.next(random);
+				}
+			}
+
+			@Override
+			public List<Shrinkable<T>> edgeCases() {
+				return edgeCases;
 			}
 		};
 	}
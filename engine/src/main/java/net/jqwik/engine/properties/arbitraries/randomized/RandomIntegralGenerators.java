@@ -85,6 +85,94 @@ public class RandomIntegralGenerators {
 			&& max.compareTo(BigInteger.valueOf(Integer.MAX_VALUE)) <= 0;
 	}
 
+	public static RandomGenerator<Integer> integers(Range<Integer> range, int[] partitionPoints) {
+		if (range.isSingular()) {
+			return ignored -> Shrinkable.unshrinkable(range.min);
+		}
+		List<RandomGenerator<Integer>> generators = new ArrayList<>();
+		int[] sortedPoints = partitionPoints.clone();
+		Arrays.sort(sortedPoints);
+		int lower = range.min;
+		for (int upper : sortedPoints) {
+			if (upper <= lower) {
+				continue;
+			}
+			if (upper >= range.max) {
+				break;
+			}
+			generators.add(createIntGenerator(lower, upper - 1, range));
+			lower = upper;
+		}
+		generators.add(createIntGenerator(lower, range.max, range));
+		return choosePartition(generators);
+	}
+
+	private static RandomGenerator<Integer> createIntGenerator(int minGenerate, int maxGenerate, Range<Integer> shrinkingRange) {
+		long bound = (long) maxGenerate - minGenerate + 1;
+		if (bound <= Integer.MAX_VALUE) {
+			return random -> {
+				int value = random.nextInt((int) bound) + minGenerate;
+				return new ShrinkableInt(value, shrinkingRange);
+			};
+		}
+		return random -> {
+			while (true) {
+				int value = random.nextInt();
+				if (value >= minGenerate && value <= maxGenerate) {
+					return new ShrinkableInt(value, shrinkingRange);
+				}
+			}
+		};
+	}
+
+	public static RandomGenerator<Long> longs(Range<Long> range, long[] partitionPoints) {
+		if (range.isSingular()) {
+			return ignored -> Shrinkable.unshrinkable(range.min);
+		}
+		List<RandomGenerator<Long>> generators = new ArrayList<>();
+		long[] sortedPoints = partitionPoints.clone();
+		Arrays.sort(sortedPoints);
+		long lower = range.min;
+		for (long upper : sortedPoints) {
+			if (upper <= lower) {
+				continue;
+			}
+			if (upper >= range.max) {
+				break;
+			}
+			generators.add(createLongGenerator(lower, upper - 1, range));
+			lower = upper;
+		}
+		generators.add(createLongGenerator(lower, range.max, range));
+		return choosePartition(generators);
+	}
+
+	private static RandomGenerator<Long> createLongGenerator(long minGenerate, long maxGenerate, Range<Long> shrinkingRange) {
+		return random -> new ShrinkableLong(randomLong(random, minGenerate, maxGenerate), shrinkingRange);
+	}
+
+	static long randomLong(Random random, long min, long max) {
+		// Treated as unsigned long since it can exceed Long.MAX_VALUE
+		long range = max - min;
+		if (range == 0) {
+			return min;
+		}
+		int bits = 64 - Long.numberOfLeadingZeros(range);
+		while (true) {
+			long rawValue = bits == 64 ? random.nextLong() : random.nextLong() >>> (64 - bits);
+			if (Long.compareUnsigned(rawValue, range) <= 0) {
+				return min + rawValue;
+			}
+		}
+	}
+
+	private static <T> RandomGenerator<T> choosePartition(List<RandomGenerator<T>> generators) {
+		if (generators.size() == 1) {
+			return generators.get(0);
+		}
+		return random -> generators.get(random.nextInt(generators.size())).next(random);
+	}
+
 	// TODO: This could be way more sophisticated
 	public static BigInteger[] calculateDefaultPartitionPoints(int tries, BigInteger min, BigInteger max) {
 		int partitionPoint = Math.max(tries / 2, 10);
@@ -92,4 +180,18 @@ public class RandomIntegralGenerators {
 		BigInteger lowerPartitionPoint = BigInteger.valueOf(partitionPoint).negate().max(min);
 		return new BigInteger[]{lowerPartitionPoint, upperPartitionPoint};
 	}
+
+	public static int[] calculateDefaultPartitionPoints(int tries, int min, int max) {
+		int partitionPoint = Math.max(tries / 2, 10);
+		int upperPartitionPoint = Math.min(partitionPoint, max);
+		int lowerPartitionPoint = Math.max(-partitionPoint, min);
+		return new int[]{lowerPartitionPoint, upperPartitionPoint};
+	}
+
+	public static long[] calculateDefaultPartitionPoints(int tries, long min, long max) {
+		long partitionPoint = Math.max(tries / 2, 10);
+		long upperPartitionPoint = Math.min(partitionPoint, max);
+		long lowerPartitionPoint = Math.max(-partitionPoint, min);
+		return new long[]{lowerPartitionPoint, upperPartitionPoint};
+	}
 }
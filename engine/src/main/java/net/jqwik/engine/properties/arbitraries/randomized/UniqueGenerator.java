@@ -7,21 +7,43 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.engine.properties.shrinking.*;
 
+/**
+ * Generates values that have not been generated before within the current {@linkplain UniquenessScope}.
+ *
+ * <p>
+ * Values are drawn from the original generator and rejected if they have been used already.
+ * If all values can be enumerated through a domain of {@code domainSize} indices, the generator
+ * switches to drawing directly from the unused values as soon as half of the domain is used up.
+ * Most values thereby keep the original distribution but generation does neither slow down
+ * nor fail before the domain is exhausted.
+ * </p>
+ */
 public class UniqueGenerator<T> implements RandomGenerator<T> {
 	private static final long MAX_MISSES = 10000;
+
 	private final RandomGenerator<T> toFilter;
-	private final Set<T> usedValues = ConcurrentHashMap.newKeySet();
+	private final int domainSize;
+	private final IntFunction<Shrinkable<T>> domain;
+
+	private UniqueValues<T> valuesOfGenerator = null;
 
 	public UniqueGenerator(RandomGenerator<T> toFilter) {
+		this(toFilter, 0, null);
+	}
+
+	public UniqueGenerator(RandomGenerator<T> toFilter, int domainSize, IntFunction<Shrinkable<T>> domain) {
 		this.toFilter = toFilter;
+		this.domainSize = domainSize;
+		this.domain = domain;
 	}
 
 	@Override
 	public Shrinkable<T> next(Random random) {
-		return nextUntilAccepted(random, r -> {
-			Shrinkable<T> next = toFilter.next(r);
-			return new UniqueShrinkable<>(next, usedValues);
-		});
+		UniqueValues<T> uniqueValues = uniqueValues();
+		if (domain != null && uniqueValues.used.size() * 2L >= domainSize) {
+			return nextFromUnusedValues(random, uniqueValues);
+		}
+		return nextUntilAccepted(random, uniqueValues);
 	}
 
 	@Override
@@ -29,20 +51,65 @@ public class UniqueGenerator<T> implements RandomGenerator<T> {
 		return String.format("Unique [%s]", toFilter);
 	}
 
-	private Shrinkable<T> nextUntilAccepted(Random random, Function<Random, Shrinkable<T>> fetchShrinkable) {
+	private UniqueValues<T> uniqueValues() {
+		return UniquenessScope.current()
+							  .map(scope -> scope.<UniqueValues<T>>stateOf(this, UniqueValues::new))
+							  .orElseGet(this::valuesOfGenerator);
+	}
+
+	private synchronized UniqueValues<T> valuesOfGenerator() {
+		if (valuesOfGenerator == null) {
+			valuesOfGenerator = new UniqueValues<>();
+		}
+		return valuesOfGenerator;
+	}
+
+	private Shrinkable<T> nextUntilAccepted(Random random, UniqueValues<T> uniqueValues) {
 		long count = 0;
 		while (true) {
-			Shrinkable<T> next = fetchShrinkable.apply(random);
-			if (usedValues.contains(next.value())) {
-				if (++count > MAX_MISSES) {
-					throw new TooManyFilterMissesException(String.format("%s missed more than %s times.", toString(), MAX_MISSES));
-				}
-				continue;
-			} else {
-				usedValues.add(next.value());
+			Shrinkable<T> next = toFilter.next(random);
+			if (uniqueValues.used.add(next.value())) {
+				return new UniqueShrinkable<>(next, uniqueValues.used);
+			}
+			if (++count > MAX_MISSES) {
+				throw new TooManyFilterMissesException(String.format("%s missed more than %s times.", toString(), MAX_MISSES));
 			}
-			return next;
 		}
 	}
 
+	private Shrinkable<T> nextFromUnusedValues(Random random, UniqueValues<T> uniqueValues) {
+		if (uniqueValues.unusedIndices == null) {
+			uniqueValues.collectUnusedIndices(domainSize, domain);
+		}
+		while (uniqueValues.countUnused > 0) {
+			Shrinkable<T> next = domain.apply(uniqueValues.removeUnusedIndex(random));
+			// Shrinking can have used a value after unused indices were collected
+			if (uniqueValues.used.add(next.value())) {
+				return new UniqueShrinkable<>(next, uniqueValues.used);
+			}
+		}
+		throw new TooManyFilterMissesException(String.format("%s has already generated all %s values.", toString(), domainSize));
+	}
+
+	private static class UniqueValues<T> {
+		private final Set<T> used = ConcurrentHashMap.newKeySet();
+		private int[] unusedIndices = null;
+		private int countUnused = 0;
+
+		private void collectUnusedIndices(int domainSize, IntFunction<Shrinkable<T>> domain) {
+			unusedIndices = new int[domainSize - used.size()];
+			for (int index = 0; index < domainSize && countUnused < unusedIndices.length; index++) {
+				if (!used.contains(domain.apply(index).value())) {
+					unusedIndices[countUnused++] = index;
+				}
+			}
+		}
+
+		private int removeUnusedIndex(Random random) {
+			int position = random.nextInt(countUnused);
+			int index = unusedIndices[position];
+			unusedIndices[position] = unusedIndices[--countUnused];
+			return index;
+		}
+	}
 }
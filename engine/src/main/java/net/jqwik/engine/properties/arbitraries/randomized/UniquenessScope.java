@@ -0,0 +1,47 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Bounds how long {@linkplain UniqueGenerator unique generators} remember the values they have generated.
+ *
+ * <p>
+ * A property generates the parameters of each try within a scope of its own.
+ * Values are therefore unique per try and the memory needed to guarantee uniqueness
+ * is released as soon as all parameters of a try have been generated.
+ * Outside of any scope a unique generator remembers its values as long as the generator lives.
+ * </p>
+ */
+public class UniquenessScope {
+
+	private static final ThreadLocal<UniquenessScope> current = new ThreadLocal<>();
+
+	private final Map<Object, Object> states = new IdentityHashMap<>();
+
+	private UniquenessScope() {
+	}
+
+	public static <T> T runInScope(Supplier<T> generation) {
+		UniquenessScope outerScope = current.get();
+		current.set(new UniquenessScope());
+		try {
+			return generation.get();
+		} finally {
+			if (outerScope == null) {
+				current.remove();
+			} else {
+				current.set(outerScope);
+			}
+		}
+	}
+
+	static Optional<UniquenessScope> current() {
+		return Optional.ofNullable(current.get());
+	}
+
+	@SuppressWarnings("unchecked")
+	<S> S stateOf(Object owner, Supplier<S> initialState) {
+		return (S) states.computeIfAbsent(owner, ignore -> initialState.get());
+	}
+}
@@ -8,11 +8,11 @@ public class RegisteredArbitraryConfigurators {
 
 	private static List<ArbitraryConfigurator> registeredConfigurators;
 
-	public static List<ArbitraryConfigurator> getConfigurators() {
+	public synchronized static List<ArbitraryConfigurator> getConfigurators() {
 		if (null == registeredConfigurators) {
 			loadArbitraryConfigurators();
 		}
-		return Collections.unmodifiableList(registeredConfigurators);
+		return Collections.unmodifiableList(new ArrayList<>(registeredConfigurators));
 	}
 
 	private static void loadArbitraryConfigurators() {
@@ -24,7 +24,7 @@ public class RegisteredArbitraryConfigurators {
 		Collections.sort(registeredConfigurators);
 	}
 
-	public static void register(ArbitraryConfigurator configurator) {
+	public synchronized static void register(ArbitraryConfigurator configurator) {
 		if (getConfigurators().contains(configurator)) {
 			return;
 		}
@@ -0,0 +1,220 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Shrinks a numeric value by bisecting the interval between its shrinking target and the smallest falsifying value found so far.
+ *
+ * <p>
+ * Values are addressed by their distance to the target in units of the smallest step the value can take,
+ * e.g. {@code 1} for integral numbers or {@code 0.01} for decimals with a scale of 2.
+ * The target is tried first. After that each probe halves the interval: A falsifying probe becomes the new current value,
+ * any other probe becomes the new lower bound. When the interval cannot be halved any more a few unit steps
+ * below the current value are tried, which lets shrinking continue for properties that do not fail
+ * for all values above some threshold. Shrinking a value therefore takes a number of evaluations
+ * that is logarithmic in its distance to the target.
+ * </p>
+ *
+ * <p>
+ * A probe that is filtered out is replaced by its neighbours towards the current value
+ * so that filters which reject every other value do not mislead the search.
+ * </p>
+ *
+ * <p>
+ * With {@linkplain ConcurrentCandidateEvaluation concurrent candidate evaluation} each step splits the interval
+ * into one more part than there are threads and evaluates all probes at once; the smallest falsifying probe
+ * becomes the new current value. Like in a {@linkplain DeepSearchShrinkingSequence deep search}
+ * the {@linkplain CandidateEvaluation candidate evaluation} decides whether probes behind a falsifying one
+ * are still evaluated.
+ * </p>
+ */
+public class BisectionShrinkingSequence<T> implements ShrinkingSequence<T> {
+
+	private static final int LOCAL_SEARCH_STEPS = 3;
+	private static final int MAX_FILTERED_NEIGHBOURS = 8;
+
+	private final Function<BigInteger, Shrinkable<T>> shrinkableAtDistance;
+	private final Falsifier<T> falsifier;
+	private final Map<BigInteger, FalsificationResult<T>> evaluated = new HashMap<>();
+
+	private FalsificationResult<T> currentBest;
+	private BigInteger currentDistance;
+	private BigInteger lowerBound = null;
+	private boolean shrinkingDone = false;
+
+	/**
+	 * @param shrinkableAtDistance Creates the shrinkable that is the given number of units away from the shrinking target
+	 *                             in the direction of the starting value
+	 */
+	public BisectionShrinkingSequence(
+		Shrinkable<T> startingShrinkable,
+		BigInteger startingDistance,
+		Function<BigInteger, Shrinkable<T>> shrinkableAtDistance,
+		Falsifier<T> falsifier
+	) {
+		this.currentBest = FalsificationResult.falsified(startingShrinkable);
+		this.currentDistance = startingDistance;
+		this.shrinkableAtDistance = shrinkableAtDistance;
+		this.falsifier = falsifier;
+	}
+
+	@Override
+	public boolean next(Runnable count, Consumer<FalsificationResult<T>> falsifiedReporter) {
+		if (shrinkingDone)
+			return false;
+
+		Optional<FalsificationResult<T>> smaller = bisect();
+		if (!smaller.isPresent()) {
+			smaller = searchLocally();
+		}
+		if (!smaller.isPresent()) {
+			shrinkingDone = true;
+			return false;
+		}
+
+		count.run();
+		currentBest = smaller.get();
+		falsifiedReporter.accept(currentBest);
+		return true;
+	}
+
+	private Optional<FalsificationResult<T>> bisect() {
+		if (lowerBound == null) {
+			lowerBound = BigInteger.ZERO;
+			if (currentDistance.signum() > 0) {
+				FalsificationResult<T> targetResult = evaluate(BigInteger.ZERO);
+				if (targetResult.status() == FalsificationResult.Status.FALSIFIED) {
+					currentDistance = BigInteger.ZERO;
+					return Optional.of(targetResult);
+				}
+			}
+		}
+		while (currentDistance.subtract(lowerBound).compareTo(BigInteger.ONE) > 0) {
+			List<BigInteger> probes = probes();
+			if (probes.isEmpty()) {
+				continue;
+			}
+			evaluateConcurrently(probes, CandidateEvaluation.current() == CandidateEvaluation.LAZY);
+			for (int p = 0; p < probes.size(); p++) {
+				BigInteger probe = probes.get(p);
+				BigInteger neighboursLimit = p + 1 < probes.size() ? probes.get(p + 1) : currentDistance;
+				FalsificationResult<T> result = evaluate(probe);
+				for (int i = 0; i < MAX_FILTERED_NEIGHBOURS && isFilteredOut(result); i++) {
+					BigInteger neighbour = probe.add(BigInteger.ONE);
+					if (neighbour.compareTo(neighboursLimit) >= 0 || hasCurrentValue(neighbour)) {
+						break;
+					}
+					probe = neighbour;
+					result = evaluate(probe);
+				}
+				if (result.status() == FalsificationResult.Status.FALSIFIED) {
+					currentDistance = probe;
+					return Optional.of(result);
+				}
+				lowerBound = probe;
+			}
+		}
+		return Optional.empty();
+	}
+
+	// Probes split the interval evenly, one for each thread that evaluates candidates.
+	// Probes with the current value are dropped since all larger distances also have the current value.
+	private List<BigInteger> probes() {
+		int countProbes = ConcurrentCandidateEvaluation.current().map(ConcurrentCandidateEvaluation::parallelism).orElse(1);
+		BigInteger interval = currentDistance.subtract(lowerBound);
+		BigInteger parts = BigInteger.valueOf(countProbes + 1);
+		List<BigInteger> probes = new ArrayList<>();
+		for (int i = 1; i <= countProbes; i++) {
+			BigInteger probe = lowerBound.add(interval.multiply(BigInteger.valueOf(i)).divide(parts));
+			if (probe.compareTo(lowerBound) <= 0 || probes.contains(probe)) {
+				continue;
+			}
+			if (hasCurrentValue(probe)) {
+				if (probes.isEmpty()) {
+					currentDistance = probe;
+				}
+				break;
+			}
+			probes.add(probe);
+		}
+		return probes;
+	}
+
+	// After a successful local step the whole interval below the new current value is searched again
+	private Optional<FalsificationResult<T>> searchLocally() {
+		List<BigInteger> candidates = new ArrayList<>();
+		for (int step = LOCAL_SEARCH_STEPS; step >= 1; step--) {
+			BigInteger candidate = currentDistance.subtract(BigInteger.valueOf(step));
+			if (candidate.signum() >= 0 && !hasCurrentValue(candidate)) {
+				candidates.add(candidate);
+			}
+		}
+		// The step closest to the current value is preferred, so all steps are evaluated
+		evaluateConcurrently(candidates, false);
+		for (int step = 1; step <= LOCAL_SEARCH_STEPS; step++) {
+			BigInteger candidate = currentDistance.subtract(BigInteger.valueOf(step));
+			if (candidate.signum() < 0 || hasCurrentValue(candidate)) {
+				break;
+			}
+			FalsificationResult<T> result = evaluate(candidate);
+			if (result.status() == FalsificationResult.Status.FALSIFIED) {
+				currentDistance = candidate;
+				lowerBound = BigInteger.ZERO;
+				return Optional.of(result);
+			}
+		}
+		return Optional.empty();
+	}
+
+	// Distinct distances can lead to the same value, e.g. for large doubles
+	private boolean hasCurrentValue(BigInteger distance) {
+		return shrinkableAtDistance.apply(distance).value().equals(currentBest.value());
+	}
+
+	private boolean isFilteredOut(FalsificationResult<T> result) {
+		return result.status() == FalsificationResult.Status.FILTERED_OUT;
+	}
+
+	// Results are only collected here; they are taken from the evaluated distances afterwards
+	private void evaluateConcurrently(List<BigInteger> sortedDistances, boolean stopAtFirstFalsified) {
+		Optional<ConcurrentCandidateEvaluation> concurrentEvaluation = ConcurrentCandidateEvaluation.current();
+		if (!concurrentEvaluation.isPresent() || sortedDistances.size() < 2) {
+			return;
+		}
+		Map<Shrinkable<T>, BigInteger> distances = new IdentityHashMap<>();
+		List<Shrinkable<T>> candidates = new ArrayList<>();
+		for (BigInteger distance : sortedDistances) {
+			if (!evaluated.containsKey(distance)) {
+				Shrinkable<T> candidate = shrinkableAtDistance.apply(distance);
+				distances.put(candidate, distance);
+				candidates.add(candidate);
+			}
+		}
+		Map<BigInteger, FalsificationResult<T>> results = new ConcurrentHashMap<>();
+		concurrentEvaluation.get().evaluate(candidates, candidate -> {
+			FalsificationResult<T> result = falsifier.falsify(candidate);
+			results.put(distances.get(candidate), result);
+			return result;
+		}, stopAtFirstFalsified);
+		evaluated.putAll(results);
+	}
+
+	private FalsificationResult<T> evaluate(BigInteger distance) {
+		return evaluated.computeIfAbsent(distance, d -> falsifier.falsify(shrinkableAtDistance.apply(d)));
+	}
+
+	@Override
+	public FalsificationResult<T> current() {
+		return currentBest;
+	}
+
+	@Override
+	public void init(FalsificationResult<T> initialCurrent) {
+		currentBest = FalsificationResult.falsified(currentBest.shrinkable(), initialCurrent.throwable().orElse(null));
+	}
+}
@@ -0,0 +1,48 @@
+package net.jqwik.engine.properties.shrinking;
+
+/**
+ * How a step of {@linkplain DeepSearchShrinkingSequence deep search shrinking} evaluates its candidates.
+ * {@linkplain BisectionShrinkingSequence Bisection} has a single candidate per step unless
+ * its candidates are {@linkplain ConcurrentCandidateEvaluation evaluated concurrently}.
+ * It can be configured with {@code shrinkingCandidateEvaluation} in {@code jqwik.properties}.
+ * A {@linkplain PropertyShrinker} steps deep searches {@linkplain #runInScope(Runnable) in the scope}
+ * of the property's evaluation; outside of any scope candidates are evaluated {@linkplain #LAZY lazily}.
+ *
+ * <p>
+ * Both strategies shrink to the same values because a step always continues with the
+ * smallest falsifying candidate. They only differ in how often the property is evaluated.
+ * </p>
+ */
+public enum CandidateEvaluation {
+
+	/**
+	 * Evaluate candidates from the smallest to the largest and stop at the first falsifying one.
+	 */
+	LAZY,
+
+	/**
+	 * Evaluate all candidates of a step before choosing the smallest falsifying one.
+	 */
+	EXHAUSTIVE;
+
+	private static final ThreadLocal<CandidateEvaluation> current = new ThreadLocal<>();
+
+	void runInScope(Runnable shrinking) {
+		CandidateEvaluation outerScope = current.get();
+		current.set(this);
+		try {
+			shrinking.run();
+		} finally {
+			if (outerScope == null) {
+				current.remove();
+			} else {
+				current.set(outerScope);
+			}
+		}
+	}
+
+	static CandidateEvaluation current() {
+		CandidateEvaluation evaluation = current.get();
+		return evaluation == null ? LAZY : evaluation;
+	}
+}
@@ -0,0 +1,173 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.arbitraries.*;
+
+/**
+ * The characters strings are generated from. The domain is described by parts, e.g. a range of characters
+ * or an explicit list of characters, which are compiled into one sorted table of disjoint character ranges.
+ *
+ * <p>
+ * Each character of the domain is equally likely. A character is found by binary search
+ * over the ranges; small domains keep all their characters in an array instead.
+ * Characters shrink towards the domain's first, i.e. smallest, character.
+ * </p>
+ */
+public class CharacterDomain {
+
+	private static final int MAX_TABLE_SIZE = 1024;
+
+	private final char[] lows;
+	private final char[] highs;
+	private final int[] offsets;
+	private final int size;
+	private final char[] table;
+
+	public CharacterDomain(List<Part> parts) {
+		List<char[]> ranges = sortedRanges(parts);
+		if (ranges.isEmpty()) {
+			throw new JqwikException("Strings cannot be generated without any characters.");
+		}
+		this.lows = new char[ranges.size()];
+		this.highs = new char[ranges.size()];
+		this.offsets = new int[ranges.size()];
+		int sum = 0;
+		for (int i = 0; i < ranges.size(); i++) {
+			lows[i] = ranges.get(i)[0];
+			highs[i] = ranges.get(i)[1];
+			offsets[i] = sum;
+			sum += highs[i] - lows[i] + 1;
+		}
+		this.size = sum;
+		this.table = size <= MAX_TABLE_SIZE ? collectChars() : null;
+	}
+
+	private static List<char[]> sortedRanges(List<Part> parts) {
+		List<char[]> ranges = new ArrayList<>();
+		for (Part part : parts) {
+			for (int i = 0; i < part.lows.length; i++) {
+				ranges.add(new char[]{part.lows[i], part.highs[i]});
+			}
+		}
+		ranges.sort(Comparator.comparing(range -> range[0]));
+		List<char[]> merged = new ArrayList<>();
+		for (char[] range : ranges) {
+			char[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+			if (last != null && range[0] <= last[1] + 1) {
+				last[1] = (char) Math.max(last[1], range[1]);
+			} else {
+				merged.add(range);
+			}
+		}
+		return merged;
+	}
+
+	/**
+	 * @return All characters of the domain in ascending order
+	 */
+	public char[] allChars() {
+		return table != null ? table.clone() : collectChars();
+	}
+
+	private char[] collectChars() {
+		char[] chars = new char[size];
+		for (int i = 0; i < size; i++) {
+			chars[i] = charAt(i);
+		}
+		return chars;
+	}
+
+	public static Part range(char from, char to) {
+		Range.of(from, to);
+		return new Part(new char[]{from}, new char[]{to});
+	}
+
+	public static Part chars(char[] chars) {
+		return new Part(chars.clone(), chars.clone());
+	}
+
+	/**
+	 * A range of characters without those characters that do not fulfill {@code include}.
+	 * All included characters are collected into consecutive ranges.
+	 */
+	public static Part filteredRange(char from, char to, Predicate<Character> include) {
+		Range.of(from, to);
+		StringBuilder lows = new StringBuilder();
+		StringBuilder highs = new StringBuilder();
+		boolean inRange = false;
+		for (int c = from; c <= to; c++) {
+			boolean included = include.test((char) c);
+			if (included && !inRange) {
+				lows.append((char) c);
+			} else if (!included && inRange) {
+				highs.append((char) (c - 1));
+			}
+			inRange = included;
+		}
+		if (inRange) {
+			highs.append(to);
+		}
+		return new Part(lows.toString().toCharArray(), highs.toString().toCharArray());
+	}
+
+	public char randomChar(Random random) {
+		int index = random.nextInt(size);
+		return table != null ? table[index] : charAt(index);
+	}
+
+	private char charAt(int index) {
+		int range = Arrays.binarySearch(offsets, index);
+		if (range < 0) {
+			range = -range - 2;
+		}
+		return (char) (lows[range] + index - offsets[range]);
+	}
+
+	private int indexOf(char c) {
+		if (table != null) {
+			return Math.max(Arrays.binarySearch(table, c), -1);
+		}
+		int range = Arrays.binarySearch(lows, c);
+		if (range < 0) {
+			range = -range - 2;
+		}
+		if (range < 0 || c > highs[range]) {
+			return -1;
+		}
+		return offsets[range] + c - lows[range];
+	}
+
+	long distance(char c) {
+		return Math.max(indexOf(c), 0);
+	}
+
+	char[] shrinkCandidatesFor(char c) {
+		int index = indexOf(c);
+		if (index < 0) {
+			return new char[0];
+		}
+		Set<Long> indices = new LongShrinkingCandidates(0).candidatesFor((long) index);
+		char[] candidates = new char[indices.size()];
+		int i = 0;
+		for (long candidateIndex : indices) {
+			candidates[i++] = table != null ? table[(int) candidateIndex] : charAt((int) candidateIndex);
+		}
+		return candidates;
+	}
+
+	/**
+	 * Ranges of characters that belong to a domain, in any order and possibly overlapping.
+	 */
+	public static class Part {
+		private final char[] lows;
+		private final char[] highs;
+
+		private Part(char[] lows, char[] highs) {
+			this.lows = lows;
+			this.highs = highs;
+		}
+	}
+}
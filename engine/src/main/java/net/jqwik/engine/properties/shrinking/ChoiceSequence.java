@@ -0,0 +1,87 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+
+/**
+ * The random choices a {@linkplain ChoiceSequenceRandom} handed out while parameters were generated.
+ * Each choice is a non-negative value of up to 32 bits.
+ *
+ * <p>
+ * Sequences are ordered shortlex: A shorter sequence is smaller than a longer one,
+ * sequences of the same length are compared choice by choice.
+ * Generators usually create simpler values from fewer and lower choices.
+ * </p>
+ */
+public class ChoiceSequence implements Comparable<ChoiceSequence> {
+
+	private final long[] choices;
+
+	public ChoiceSequence(long[] choices) {
+		this.choices = choices;
+	}
+
+	public int size() {
+		return choices.length;
+	}
+
+	public long get(int index) {
+		return choices[index];
+	}
+
+	public ChoiceSequence withChoice(int index, long choice) {
+		long[] changed = choices.clone();
+		changed[index] = choice;
+		return new ChoiceSequence(changed);
+	}
+
+	public ChoiceSequence withoutSpan(int start, int end) {
+		long[] changed = new long[choices.length - (end - start)];
+		System.arraycopy(choices, 0, changed, 0, start);
+		System.arraycopy(choices, end, changed, start, choices.length - end);
+		return new ChoiceSequence(changed);
+	}
+
+	public ChoiceSequence withZeroedSpan(int start, int end) {
+		long[] changed = choices.clone();
+		Arrays.fill(changed, start, end, 0L);
+		return new ChoiceSequence(changed);
+	}
+
+	public ChoiceSequence withSortedSpan(int start, int end) {
+		long[] changed = choices.clone();
+		Arrays.sort(changed, start, end);
+		return new ChoiceSequence(changed);
+	}
+
+	@Override
+	public int compareTo(ChoiceSequence other) {
+		if (choices.length != other.choices.length) {
+			return Integer.compare(choices.length, other.choices.length);
+		}
+		for (int i = 0; i < choices.length; i++) {
+			int comparison = Long.compare(choices[i], other.choices[i]);
+			if (comparison != 0) {
+				return comparison;
+			}
+		}
+		return 0;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		ChoiceSequence that = (ChoiceSequence) o;
+		return Arrays.equals(choices, that.choices);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(choices);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ChoiceSequence%s", Arrays.toString(choices));
+	}
+}
@@ -0,0 +1,120 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+/**
+ * A random that hands out its values from a {@linkplain ChoiceSequence}.
+ *
+ * <p>
+ * All methods of {@linkplain Random} draw their bits through {@linkplain #next(int)}, so each call
+ * of {@code next(bits)} is one choice. {@linkplain #nextInt(int)} is the exception:
+ * its value is a single choice so that a lower choice gives a lower value.
+ * A recording random takes its choices from a source random,
+ * a replaying random from a given sequence. Replayed choices are capped to the largest value
+ * that was requested and choices beyond the end of the sequence are {@code 0}. Both kinds of random remember the choices they handed out.
+ * </p>
+ */
+public class ChoiceSequenceRandom extends Random {
+
+	private static final ThreadLocal<ChoiceSequenceRandom> current = new ThreadLocal<>();
+
+	public static ChoiceSequenceRandom recording(Random source) {
+		return new ChoiceSequenceRandom(source, null, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @param maxChoices Drawing more choices than that throws a {@linkplain ChoicesExhaustedException}
+	 */
+	public static ChoiceSequenceRandom replaying(ChoiceSequence choices, int maxChoices) {
+		return new ChoiceSequenceRandom(null, choices, maxChoices);
+	}
+
+	/**
+	 * The random whose {@linkplain #generate(Function)} is running on the current thread.
+	 * Generators that create their own randoms, e.g. for {@code flatMap}, should draw from it instead
+	 * so that their values are shrunk together with all other choices.
+	 */
+	public static Optional<Random> current() {
+		return Optional.ofNullable(current.get());
+	}
+
+	private final Random source;
+	private final ChoiceSequence replayed;
+	private final int maxChoices;
+
+	private long[] drawn = new long[16];
+	private int countDrawn = 0;
+
+	private ChoiceSequenceRandom(Random source, ChoiceSequence replayed, int maxChoices) {
+		super(0L);
+		this.source = source;
+		this.replayed = replayed;
+		this.maxChoices = maxChoices;
+	}
+
+	public <T> T generate(Function<Random, T> generator) {
+		ChoiceSequenceRandom outer = current.get();
+		current.set(this);
+		try {
+			return generator.apply(this);
+		} finally {
+			if (outer == null) {
+				current.remove();
+			} else {
+				current.set(outer);
+			}
+		}
+	}
+
+	@Override
+	protected int next(int bits) {
+		return (int) choose((1L << bits) - 1, () -> source.nextLong() >>> (64 - bits));
+	}
+
+	@Override
+	public int nextInt(int bound) {
+		if (bound <= 0) {
+			throw new IllegalArgumentException("bound must be positive");
+		}
+		return (int) choose(bound - 1, () -> source.nextInt(bound));
+	}
+
+	// Unlike Random's the low bits are not sign-extended so that lower choices give a lower unsigned long
+	@Override
+	public long nextLong() {
+		return ((long) next(32) << 32) | (next(32) & 0xFFFFFFFFL);
+	}
+
+	private long choose(long maxChoice, LongSupplier fromSource) {
+		long choice = source != null ? fromSource.getAsLong() : fromReplayed(maxChoice);
+		if (countDrawn == drawn.length) {
+			drawn = Arrays.copyOf(drawn, drawn.length * 2);
+		}
+		drawn[countDrawn++] = choice;
+		return choice;
+	}
+
+	private long fromReplayed(long maxChoice) {
+		if (countDrawn >= maxChoices) {
+			throw new ChoicesExhaustedException(maxChoices);
+		}
+		long choice = countDrawn < replayed.size() ? replayed.get(countDrawn) : 0L;
+		return Math.min(choice, maxChoice);
+	}
+
+	/**
+	 * @return the choices handed out so far
+	 */
+	public ChoiceSequence choices() {
+		return new ChoiceSequence(Arrays.copyOf(drawn, countDrawn));
+	}
+
+	public static class ChoicesExhaustedException extends JqwikException {
+		private ChoicesExhaustedException(int maxChoices) {
+			super(String.format("Generation needs more than %s choices", maxChoices));
+		}
+	}
+}
@@ -0,0 +1,254 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Shrinks the parameters of a try by shrinking the {@linkplain ChoiceSequence choices} they were generated from
+ * and generating them again from each candidate sequence.
+ *
+ * <p>
+ * A round goes through these passes, each from the front of the sequence to its end:
+ * <ul>
+ *     <li>Delete spans of 8, 4, 2 and 1 choices</li>
+ *     <li>Set spans of 8, 4 and 2 choices to {@code 0}</li>
+ *     <li>Lower each choice by bisecting the interval between {@code 0} and its value.
+ *     If that fails, lower it by one and raise the next choice to its maximum.</li>
+ *     <li>Raise each choice by steps of 1, 2, 4 and so on and then to its maximum.
+ *     This helps with generators that create simpler values from higher choices,
+ *     e.g. integers whose shrinking target lies in the middle of their range.</li>
+ *     <li>Sort spans of 8, 4 and 2 choices in ascending order</li>
+ * </ul>
+ * Rounds are repeated until a round finds no smaller falsifying sequence.
+ * A candidate is taken if its parameters falsify the property and if they are smaller than the current ones:
+ * Either their {@linkplain ShrinkingDistance shrinking distance} is smaller or the distance is the same
+ * and the choices their generation actually drew are smaller in {@linkplain ChoiceSequence shortlex order}.
+ * The distance comes first because not all generators create simpler values from lower choices.
+ * Since the order is strict shrinking always ends.
+ * </p>
+ *
+ * <p>
+ * Candidates that cannot be generated, e.g. because a filter does not accept any value
+ * before the choices run out, are skipped without evaluating the property.
+ * </p>
+ */
+public class ChoiceSequenceShrinkingSequence implements ShrinkingSequence<List<Object>> {
+
+	private static final int[] SPAN_SIZES = {8, 4, 2, 1};
+	private static final long MAX_CHOICE = 0xFFFFFFFFL;
+
+	private static final int DELETE_SPANS = 0;
+	private static final int ZERO_SPANS = 1;
+	private static final int LOWER_CHOICES = 2;
+	private static final int RAISE_CHOICES = 3;
+	private static final int SORT_SPANS = 4;
+
+	private final Falsifier<List<Object>> falsifier;
+
+	private ShrinkablesFromChoices currentParameters;
+	private FalsificationResult<List<Object>> currentBest;
+	private boolean shrinkingDone = false;
+	private boolean improvedInRound = false;
+
+	private int pass = DELETE_SPANS;
+	private int spanSizeIndex = 0;
+	private int position = 0;
+	// Values below are known not to falsify when the current choice at position is lowered to them
+	private long lowerBound = -1;
+	// 0 stands for raising the current choice at position to its maximum
+	private long raiseStep = 1;
+
+	public ChoiceSequenceShrinkingSequence(ShrinkablesFromChoices startingParameters, Falsifier<List<Object>> falsifier) {
+		this.currentParameters = startingParameters;
+		this.currentBest = FalsificationResult.falsified(Shrinkable.unshrinkable(toValues(startingParameters)));
+		this.falsifier = falsifier;
+	}
+
+	@Override
+	public boolean next(Runnable count, Consumer<FalsificationResult<List<Object>>> falsifiedReporter) {
+		while (!shrinkingDone) {
+			Optional<FalsificationResult<List<Object>>> smaller = nextSmaller();
+			if (smaller.isPresent()) {
+				count.run();
+				currentBest = smaller.get();
+				falsifiedReporter.accept(currentBest);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private Optional<FalsificationResult<List<Object>>> nextSmaller() {
+		switch (pass) {
+			case DELETE_SPANS:
+				return shrinkSpans(ChoiceSequence::withoutSpan, 1);
+			case ZERO_SPANS:
+				return shrinkSpans(ChoiceSequence::withZeroedSpan, 2);
+			case LOWER_CHOICES:
+				return lowerChoice();
+			case RAISE_CHOICES:
+				return raiseChoice();
+			case SORT_SPANS:
+				return shrinkSpans(ChoiceSequence::withSortedSpan, 2);
+			default:
+				throw new JqwikException("Unknown shrinking pass: " + pass);
+		}
+	}
+
+	// After a successful change the same position is tried again
+	private Optional<FalsificationResult<List<Object>>> shrinkSpans(SpanChange change, int minSpanSize) {
+		ChoiceSequence choices = currentParameters.choices();
+		int spanSize = SPAN_SIZES[spanSizeIndex];
+		if (spanSize < minSpanSize) {
+			nextPass();
+			return Optional.empty();
+		}
+		if (position + spanSize > choices.size()) {
+			nextSpanSize();
+			return Optional.empty();
+		}
+		Optional<FalsificationResult<List<Object>>> result = tryCandidate(change.apply(choices, position, position + spanSize));
+		if (!result.isPresent()) {
+			position++;
+		}
+		return result;
+	}
+
+	private Optional<FalsificationResult<List<Object>>> lowerChoice() {
+		ChoiceSequence choices = currentParameters.choices();
+		if (position >= choices.size()) {
+			nextPass();
+			return Optional.empty();
+		}
+		long choice = choices.get(position);
+		if (lowerBound < 0 && choice > 0) {
+			Optional<FalsificationResult<List<Object>>> result = tryCandidate(choices.withChoice(position, 0));
+			if (result.isPresent()) {
+				return result;
+			}
+			lowerBound = 0;
+		}
+		while (choice - lowerBound > 1) {
+			long probe = lowerBound + (choice - lowerBound) / 2;
+			Optional<FalsificationResult<List<Object>>> result = tryCandidate(choices.withChoice(position, probe));
+			if (result.isPresent()) {
+				if (currentParameters.choices().size() != choices.size()) {
+					lowerBound = -1;
+				}
+				return result;
+			}
+			lowerBound = probe;
+		}
+		// A lower choice can need a higher next choice, e.g. the high and low bits of a long
+		if (choice > 0 && position + 1 < choices.size()) {
+			ChoiceSequence borrowed = choices.withChoice(position, choice - 1).withChoice(position + 1, MAX_CHOICE);
+			Optional<FalsificationResult<List<Object>>> result = tryCandidate(borrowed);
+			if (result.isPresent()) {
+				lowerBound = -1;
+				return result;
+			}
+		}
+		position++;
+		lowerBound = -1;
+		return Optional.empty();
+	}
+
+	// Raising steps double after each success and start again from 1 after a failure
+	private Optional<FalsificationResult<List<Object>>> raiseChoice() {
+		ChoiceSequence choices = currentParameters.choices();
+		if (position >= choices.size()) {
+			nextPass();
+			return Optional.empty();
+		}
+		long choice = choices.get(position);
+		if (choice < MAX_CHOICE) {
+			long raised = raiseStep > 0 ? Math.min(choice + raiseStep, MAX_CHOICE) : MAX_CHOICE;
+			Optional<FalsificationResult<List<Object>>> result = tryCandidate(choices.withChoice(position, raised));
+			if (result.isPresent()) {
+				raiseStep = raiseStep > 0 ? raiseStep * 2 : 1;
+				return result;
+			}
+			if (raiseStep > 1) {
+				raiseStep = 1;
+				return Optional.empty();
+			}
+			if (raiseStep == 1) {
+				raiseStep = 0;
+				return Optional.empty();
+			}
+		}
+		position++;
+		raiseStep = 1;
+		return Optional.empty();
+	}
+
+	// The property is only evaluated for candidates whose parameters are smaller
+	private Optional<FalsificationResult<List<Object>>> tryCandidate(ChoiceSequence candidate) {
+		ChoiceSequence currentChoices = currentParameters.choices();
+		if (candidate.equals(currentChoices)) {
+			return Optional.empty();
+		}
+		Optional<ShrinkablesFromChoices> replayed = currentParameters.replay(candidate, currentChoices.size());
+		if (!replayed.isPresent() || !isSmaller(replayed.get(), currentParameters)) {
+			return Optional.empty();
+		}
+		FalsificationResult<List<Object>> result = falsifier.falsify(Shrinkable.unshrinkable(toValues(replayed.get())));
+		if (result.status() != FalsificationResult.Status.FALSIFIED) {
+			return Optional.empty();
+		}
+		currentParameters = replayed.get();
+		improvedInRound = true;
+		return Optional.of(result);
+	}
+
+	// Generation can draw other choices than the candidate's, e.g. when it ends earlier
+	private boolean isSmaller(ShrinkablesFromChoices parameters, ShrinkablesFromChoices other) {
+		int distanceComparison = parameters.distance().compareTo(other.distance());
+		if (distanceComparison != 0) {
+			return distanceComparison < 0;
+		}
+		return parameters.choices().compareTo(other.choices()) < 0;
+	}
+
+	private void nextSpanSize() {
+		spanSizeIndex++;
+		position = 0;
+		if (spanSizeIndex >= SPAN_SIZES.length) {
+			nextPass();
+		}
+	}
+
+	private void nextPass() {
+		pass++;
+		spanSizeIndex = 0;
+		position = 0;
+		lowerBound = -1;
+		raiseStep = 1;
+		if (pass > SORT_SPANS) {
+			pass = DELETE_SPANS;
+			shrinkingDone = !improvedInRound;
+			improvedInRound = false;
+		}
+	}
+
+	private static List<Object> toValues(List<Shrinkable> shrinkables) {
+		return shrinkables.stream().map(Shrinkable::value).collect(Collectors.toList());
+	}
+
+	@Override
+	public FalsificationResult<List<Object>> current() {
+		return currentBest;
+	}
+
+	@Override
+	public void init(FalsificationResult<List<Object>> initialCurrent) {
+		currentBest = FalsificationResult.falsified(currentBest.shrinkable(), initialCurrent.throwable().orElse(null));
+	}
+
+	private interface SpanChange {
+		ChoiceSequence apply(ChoiceSequence choices, int start, int end);
+	}
+}
@@ -0,0 +1,155 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Evaluates the candidates of a shrinking step concurrently.
+ *
+ * <p>
+ * Sorted candidates are evaluated in batches of {@code parallelism} candidates each.
+ * Results are processed in the candidates' order, so the first falsifying result taken
+ * is the one with the lowest distance and shrinking ends with the same sample as sequential shrinking.
+ * {@linkplain BisectionShrinkingSequence Bisection} is an exception since it tries more values per step
+ * than sequentially; for properties that are not monotone in the shrunk number it can end with a different sample.
+ * Candidates of a batch that come after the first falsifying one did not need to be evaluated;
+ * they are counted as wasted evaluations.
+ * </p>
+ *
+ * <p>
+ * Shrinking sequences use concurrent evaluation when they are stepped
+ * on a thread that {@linkplain #runInScope(int, Runnable) runs in a scope}.
+ * </p>
+ */
+class ConcurrentCandidateEvaluation {
+
+	private static final ThreadLocal<ConcurrentCandidateEvaluation> current = new ThreadLocal<>();
+
+	private final ForkJoinPool pool;
+	private final int parallelism;
+
+	private final AtomicLong evaluationNanos = new AtomicLong(0);
+	private long wallNanos = 0;
+	private int wastedEvaluations = 0;
+
+	private ConcurrentCandidateEvaluation(ForkJoinPool pool, int parallelism) {
+		this.pool = pool;
+		this.parallelism = parallelism;
+	}
+
+	static Summary runInScope(int parallelism, Runnable shrinking) {
+		ConcurrentCandidateEvaluation outerScope = current.get();
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		ConcurrentCandidateEvaluation scope = new ConcurrentCandidateEvaluation(pool, parallelism);
+		current.set(scope);
+		try {
+			shrinking.run();
+			return scope.summary();
+		} finally {
+			pool.shutdownNow();
+			if (outerScope == null) {
+				current.remove();
+			} else {
+				current.set(outerScope);
+			}
+		}
+	}
+
+	static Optional<ConcurrentCandidateEvaluation> current() {
+		return Optional.ofNullable(current.get());
+	}
+
+	int parallelism() {
+		return parallelism;
+	}
+
+	<T> List<FalsificationResult<T>> evaluate(
+		List<Shrinkable<T>> sortedCandidates,
+		Function<Shrinkable<T>, FalsificationResult<T>> falsify,
+		boolean stopAtFirstFalsified
+	) {
+		List<FalsificationResult<T>> results = new ArrayList<>();
+		for (int start = 0; start < sortedCandidates.size(); start += parallelism) {
+			List<Shrinkable<T>> batch = sortedCandidates.subList(start, Math.min(start + parallelism, sortedCandidates.size()));
+			List<FalsificationResult<T>> batchResults = evaluateBatch(batch, falsify);
+			for (int i = 0; i < batchResults.size(); i++) {
+				FalsificationResult<T> result = batchResults.get(i);
+				if (result.status() == FalsificationResult.Status.VERIFIED) {
+					continue;
+				}
+				results.add(result);
+				if (stopAtFirstFalsified && result.status() == FalsificationResult.Status.FALSIFIED) {
+					wastedEvaluations += batchResults.size() - i - 1;
+					return results;
+				}
+			}
+		}
+		return results;
+	}
+
+	private <T> List<FalsificationResult<T>> evaluateBatch(
+		List<Shrinkable<T>> batch,
+		Function<Shrinkable<T>, FalsificationResult<T>> falsify
+	) {
+		long batchStart = System.nanoTime();
+		List<ForkJoinTask<FalsificationResult<T>>> tasks =
+			batch.stream()
+				 // Values are created lazily, so create them here before they are shared with other threads
+				 .peek(Shrinkable::value)
+				 .map(candidate -> pool.submit(() -> timed(() -> falsify.apply(candidate))))
+				 .collect(Collectors.toList());
+		List<FalsificationResult<T>> results = tasks.stream().map(ForkJoinTask::join).collect(Collectors.toList());
+		wallNanos += System.nanoTime() - batchStart;
+		return results;
+	}
+
+	private <R> R timed(Supplier<R> evaluation) {
+		long start = System.nanoTime();
+		try {
+			return evaluation.get();
+		} finally {
+			evaluationNanos.addAndGet(System.nanoTime() - start);
+		}
+	}
+
+	private Summary summary() {
+		return new Summary(parallelism, wastedEvaluations, evaluationNanos.get(), wallNanos);
+	}
+
+	static class Summary {
+		private final int parallelism;
+		private final int wastedEvaluations;
+		private final long evaluationNanos;
+		private final long wallNanos;
+
+		private Summary(int parallelism, int wastedEvaluations, long evaluationNanos, long wallNanos) {
+			this.parallelism = parallelism;
+			this.wastedEvaluations = wastedEvaluations;
+			this.evaluationNanos = evaluationNanos;
+			this.wallNanos = wallNanos;
+		}
+
+		int parallelism() {
+			return parallelism;
+		}
+
+		int wastedEvaluations() {
+			return wastedEvaluations;
+		}
+
+		/**
+		 * @return the time all evaluations would have taken one after another divided by the time they actually took
+		 */
+		double speedup() {
+			if (wallNanos == 0) {
+				return 1.0;
+			}
+			return (double) evaluationNanos / wallNanos;
+		}
+	}
+}
@@ -7,6 +7,7 @@ import java.util.stream.*;
 import net.jqwik.api.*;
 
 public class DeepSearchShrinkingSequence<T> implements ShrinkingSequence<T> {
+
 	private final Function<Shrinkable<T>, Set<Shrinkable<T>>> candidatesFor;
 	private final Falsifier<T> falsifier;
 	private FalsificationResult<T> currentBest;
@@ -27,14 +28,7 @@ public class DeepSearchShrinkingSequence<T> implements ShrinkingSequence<T> {
 
 		lastStepSuccessful = false;
 
-		Set<Shrinkable<T>> candidates = getShrinkableCandidates();
-
-		List<FalsificationResult<T>> nextBase = candidates
-			.stream()
-			.sorted()
-			.map(this::falsify)
-			.filter(result -> result.status() != FalsificationResult.Status.VERIFIED)
-			.collect(Collectors.toList());
+		List<FalsificationResult<T>> nextBase = evaluateCandidates(getShrinkableCandidates());
 
 		nextBase
 			.stream()
@@ -62,6 +56,28 @@ public class DeepSearchShrinkingSequence<T> implements ShrinkingSequence<T> {
 		return lastStepSuccessful;
 	}
 
+	// Candidates larger than the first falsifying one cannot become the next current or search base
+	private List<FalsificationResult<T>> evaluateCandidates(Set<Shrinkable<T>> candidates) {
+		boolean stopAtFirstFalsified = CandidateEvaluation.current() == CandidateEvaluation.LAZY;
+		List<Shrinkable<T>> sortedCandidates = candidates.stream().sorted().collect(Collectors.toList());
+		Optional<ConcurrentCandidateEvaluation> concurrentEvaluation = ConcurrentCandidateEvaluation.current();
+		if (concurrentEvaluation.isPresent()) {
+			return concurrentEvaluation.get().evaluate(sortedCandidates, this::falsify, stopAtFirstFalsified);
+		}
+		List<FalsificationResult<T>> results = new ArrayList<>();
+		for (Shrinkable<T> candidate : sortedCandidates) {
+			FalsificationResult<T> result = falsify(candidate);
+			if (result.status() == FalsificationResult.Status.VERIFIED) {
+				continue;
+			}
+			results.add(result);
+			if (stopAtFirstFalsified && result.status() == FalsificationResult.Status.FALSIFIED) {
+				break;
+			}
+		}
+		return results;
+	}
+
 	private Set<Shrinkable<T>> getShrinkableCandidates() {
 		Set<Shrinkable<T>> candidates = new HashSet<>(candidatesFor.apply(searchBase.shrinkable()));
 		if (searchBase != currentBest) {
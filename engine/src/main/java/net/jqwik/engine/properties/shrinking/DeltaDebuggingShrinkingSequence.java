@@ -0,0 +1,240 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Shrinks a container by removing chunks of its elements from anywhere in the container
+ * following the delta debugging algorithm ({@code ddmin}).
+ *
+ * <p>
+ * The elements are split into {@code n} chunks, starting with two. Each step first tries every chunk on its own
+ * and then every complement, i.e. the elements without one chunk. A falsifying chunk becomes the new current
+ * elements and splitting starts over with two chunks; a falsifying complement becomes the new current
+ * elements with one chunk less. If neither falsifies the number of chunks is doubled until each chunk
+ * is a single element. Shrinking therefore ends with a container from which no single element can be removed.
+ * </p>
+ *
+ * <p>
+ * Chunks and complements are index ranges of the current elements, see {@linkplain ElementRanges}.
+ * Containers that are not backed by a list of elements, e.g. strings on a {@code char[]},
+ * can thereby create candidates without copying their elements into a list first.
+ * </p>
+ *
+ * <p>
+ * Candidates with fewer than {@code minSize} elements are never tried. Like in a {@linkplain DeepSearchShrinkingSequence}
+ * a filtered out candidate can become the base for further removals. This only happens when
+ * no single element can be removed any more, since it does not make the falsified value any smaller.
+ * </p>
+ */
+public class DeltaDebuggingShrinkingSequence<C> implements ShrinkingSequence<C> {
+
+	/**
+	 * The elements of a falsifying container shrinkable by index.
+	 */
+	public interface ElementRanges<C> {
+		int size();
+
+		/**
+		 * @return A container shrinkable with the elements from index {@code from} (inclusive) to {@code to} (exclusive)
+		 */
+		Shrinkable<C> range(int from, int to);
+
+		/**
+		 * @return A container shrinkable with all elements except those from index {@code from} (inclusive) to {@code to} (exclusive)
+		 */
+		Shrinkable<C> withoutRange(int from, int to);
+	}
+
+	private final Function<Shrinkable<C>, ElementRanges<C>> rangesOf;
+	private final int minSize;
+	private final Falsifier<C> falsifier;
+
+	private ElementRanges<C> currentElements;
+	private FalsificationResult<C> currentBest;
+	private int chunks = 2;
+	private boolean shrinkingDone = false;
+
+	/**
+	 * @param elementsOf   Returns the elements of a falsifying container shrinkable. They must not be changed afterwards.
+	 *                     They can be fewer than the elements the shrinkable was created from,
+	 *                     e.g. when only some of the actions in a sequence were run.
+	 * @param toShrinkable Creates a container shrinkable from a subset of the elements
+	 */
+	public <E> DeltaDebuggingShrinkingSequence(
+		Shrinkable<C> startingShrinkable,
+		Function<Shrinkable<C>, List<E>> elementsOf,
+		Function<List<E>, Shrinkable<C>> toShrinkable,
+		int minSize,
+		Falsifier<C> falsifier
+	) {
+		this(startingShrinkable, shrinkable -> new ListRanges<>(elementsOf.apply(shrinkable), toShrinkable), minSize, falsifier);
+	}
+
+	/**
+	 * @param rangesOf Returns the element ranges of a falsifying container shrinkable
+	 */
+	public DeltaDebuggingShrinkingSequence(
+		Shrinkable<C> startingShrinkable,
+		Function<Shrinkable<C>, ElementRanges<C>> rangesOf,
+		int minSize,
+		Falsifier<C> falsifier
+	) {
+		this.currentBest = FalsificationResult.falsified(startingShrinkable);
+		this.currentElements = rangesOf.apply(startingShrinkable);
+		this.rangesOf = rangesOf;
+		this.minSize = minSize;
+		this.falsifier = falsifier;
+	}
+
+	@Override
+	public boolean next(Runnable count, Consumer<FalsificationResult<C>> falsifiedReporter) {
+		while (!shrinkingDone) {
+			int size = currentElements.size();
+			if (size <= minSize) {
+				break;
+			}
+			chunks = Math.min(chunks, size);
+			List<Reduction<C>> reductions = reductions(size);
+			List<FalsificationResult<C>> results = evaluate(reductions);
+			Optional<FalsificationResult<C>> falsified = firstWithStatus(results, FalsificationResult.Status.FALSIFIED);
+			if (falsified.isPresent()) {
+				currentElements = rangesOf.apply(falsified.get().shrinkable());
+				chunks = reductionOf(falsified.get(), reductions).chunksAfterwards;
+				count.run();
+				currentBest = falsified.get();
+				falsifiedReporter.accept(currentBest);
+				return true;
+			}
+			if (chunks < size) {
+				chunks = Math.min(chunks * 2, size);
+				continue;
+			}
+			Optional<FalsificationResult<C>> filteredOut = firstWithStatus(results, FalsificationResult.Status.FILTERED_OUT);
+			if (filteredOut.isPresent()) {
+				currentElements = rangesOf.apply(filteredOut.get().shrinkable());
+				chunks = 2;
+				count.run();
+				return true;
+			}
+			break;
+		}
+		shrinkingDone = true;
+		return false;
+	}
+
+	// Like in a deep search candidates are tried in the order of their shrinking distance.
+	// Among candidates with the same distance those keeping the container's first elements come first.
+	private List<Reduction<C>> reductions(int size) {
+		List<Reduction<C>> reductions = new ArrayList<>();
+		// With two chunks each chunk is the other one's complement
+		if (chunks > 2) {
+			for (int chunk = 0; chunk < chunks; chunk++) {
+				int start = chunkStart(chunk, size);
+				int end = chunkStart(chunk + 1, size);
+				if (end - start >= minSize) {
+					reductions.add(new Reduction<>(currentElements.range(start, end), 2));
+				}
+			}
+		}
+		for (int chunk = chunks - 1; chunk >= 0; chunk--) {
+			int start = chunkStart(chunk, size);
+			int end = chunkStart(chunk + 1, size);
+			if (size - (end - start) >= minSize) {
+				reductions.add(new Reduction<>(currentElements.withoutRange(start, end), Math.max(chunks - 1, 2)));
+			}
+		}
+		reductions.sort(Comparator.comparing(reduction -> reduction.candidate));
+		return reductions;
+	}
+
+	// Back chunks are the larger ones when the elements cannot be split evenly
+	private int chunkStart(int chunk, int size) {
+		return (int) ((long) chunk * size / chunks);
+	}
+
+	private Reduction<C> reductionOf(FalsificationResult<C> result, List<Reduction<C>> reductions) {
+		for (Reduction<C> reduction : reductions) {
+			if (reduction.candidate == result.shrinkable()) {
+				return reduction;
+			}
+		}
+		throw new JqwikException("Falsified shrinkable is not one of the candidates: " + result.shrinkable());
+	}
+
+	private Optional<FalsificationResult<C>> firstWithStatus(List<FalsificationResult<C>> results, FalsificationResult.Status status) {
+		return results.stream().filter(result -> result.status() == status).findFirst();
+	}
+
+	// Evaluation stops at the first falsifying candidate
+	private List<FalsificationResult<C>> evaluate(List<Reduction<C>> reductions) {
+		List<Shrinkable<C>> candidates = new ArrayList<>();
+		reductions.forEach(reduction -> candidates.add(reduction.candidate));
+		Optional<ConcurrentCandidateEvaluation> concurrentEvaluation = ConcurrentCandidateEvaluation.current();
+		if (concurrentEvaluation.isPresent()) {
+			return concurrentEvaluation.get().evaluate(candidates, falsifier::falsify, true);
+		}
+		List<FalsificationResult<C>> results = new ArrayList<>();
+		for (Shrinkable<C> candidate : candidates) {
+			FalsificationResult<C> result = falsifier.falsify(candidate);
+			if (result.status() == FalsificationResult.Status.VERIFIED) {
+				continue;
+			}
+			results.add(result);
+			if (result.status() == FalsificationResult.Status.FALSIFIED) {
+				break;
+			}
+		}
+		return results;
+	}
+
+	@Override
+	public FalsificationResult<C> current() {
+		return currentBest;
+	}
+
+	@Override
+	public void init(FalsificationResult<C> initialCurrent) {
+		currentBest = FalsificationResult.falsified(currentBest.shrinkable(), initialCurrent.throwable().orElse(null));
+	}
+
+	private static class ListRanges<C, E> implements ElementRanges<C> {
+		private final List<E> elements;
+		private final Function<List<E>, Shrinkable<C>> toShrinkable;
+
+		private ListRanges(List<E> elements, Function<List<E>, Shrinkable<C>> toShrinkable) {
+			this.elements = elements;
+			this.toShrinkable = toShrinkable;
+		}
+
+		@Override
+		public int size() {
+			return elements.size();
+		}
+
+		@Override
+		public Shrinkable<C> range(int from, int to) {
+			return toShrinkable.apply(new ArrayList<>(elements.subList(from, to)));
+		}
+
+		@Override
+		public Shrinkable<C> withoutRange(int from, int to) {
+			List<E> remaining = new ArrayList<>(elements.size() - (to - from));
+			remaining.addAll(elements.subList(0, from));
+			remaining.addAll(elements.subList(to, elements.size()));
+			return toShrinkable.apply(remaining);
+		}
+	}
+
+	private static class Reduction<C> {
+		private final Shrinkable<C> candidate;
+		private final int chunksAfterwards;
+
+		private Reduction(Shrinkable<C> candidate, int chunksAfterwards) {
+			this.candidate = candidate;
+			this.chunksAfterwards = chunksAfterwards;
+		}
+	}
+}
@@ -0,0 +1,94 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Shrinks elements of a container that have equal values together, e.g. {@code [1, 1]} to {@code [0, 0]}.
+ * Failures that depend on duplicate elements cannot be shrunk element by element
+ * since shrinking a single element removes the duplicate.
+ */
+class EqualElementsShrinkingSequence<C, E> implements ShrinkingSequence<C> {
+	private final List<Shrinkable<E>> elements;
+	private final Function<List<Shrinkable<E>>, Shrinkable<C>> toContainerShrinkable;
+	private final Falsifier<C> falsifier;
+	private final List<List<Integer>> groupsOfEqualElements;
+
+	private int currentGroup = 0;
+	private ShrinkingSequence<E> currentGroupSequence = null;
+	private FalsificationResult<C> currentResult;
+
+	EqualElementsShrinkingSequence(
+		Shrinkable<C> container,
+		List<Shrinkable<E>> elements,
+		Function<List<Shrinkable<E>>, Shrinkable<C>> toContainerShrinkable,
+		Falsifier<C> falsifier
+	) {
+		this.elements = new ArrayList<>(elements);
+		this.toContainerShrinkable = toContainerShrinkable;
+		this.falsifier = falsifier;
+		this.groupsOfEqualElements = groupsOfEqualElements(elements);
+		this.currentResult = FalsificationResult.falsified(container);
+	}
+
+	private static <E> List<List<Integer>> groupsOfEqualElements(List<Shrinkable<E>> elements) {
+		Map<E, List<Integer>> positionsByValue = new LinkedHashMap<>();
+		for (int i = 0; i < elements.size(); i++) {
+			positionsByValue.computeIfAbsent(elements.get(i).value(), ignore -> new ArrayList<>()).add(i);
+		}
+		List<List<Integer>> groups = new ArrayList<>();
+		for (List<Integer> positions : positionsByValue.values()) {
+			if (positions.size() > 1) {
+				groups.add(positions);
+			}
+		}
+		return groups;
+	}
+
+	@Override
+	public void init(FalsificationResult<C> initialCurrent) {
+		currentResult = FalsificationResult.falsified(currentResult.shrinkable(), initialCurrent.throwable().orElse(null));
+	}
+
+	@Override
+	public boolean next(Runnable count, Consumer<FalsificationResult<C>> falsifiedReporter) {
+		while (currentGroup < groupsOfEqualElements.size()) {
+			List<Integer> positions = groupsOfEqualElements.get(currentGroup);
+			if (currentGroupSequence == null) {
+				Shrinkable<E> groupElement = elements.get(positions.get(0));
+				currentGroupSequence = groupElement.shrink(value -> falsifier.test(containerWith(positions, value)));
+			}
+			Consumer<FalsificationResult<E>> elementReporter =
+				elementResult -> falsifiedReporter.accept(elementResult.map(shrinkable -> containerShrinkableWith(positions, shrinkable)));
+			if (currentGroupSequence.next(count, elementReporter)) {
+				FalsificationResult<E> groupResult = currentGroupSequence.current();
+				positions.forEach(position -> elements.set(position, groupResult.shrinkable()));
+				currentResult = FalsificationResult.falsified(
+					toContainerShrinkable.apply(new ArrayList<>(elements)),
+					groupResult.throwable().orElse(null)
+				);
+				return true;
+			}
+			currentGroupSequence = null;
+			currentGroup++;
+		}
+		return false;
+	}
+
+	private C containerWith(List<Integer> positions, E value) {
+		return containerShrinkableWith(positions, Shrinkable.unshrinkable(value)).value();
+	}
+
+	private Shrinkable<C> containerShrinkableWith(List<Integer> positions, Shrinkable<E> element) {
+		List<Shrinkable<E>> candidate = new ArrayList<>(elements);
+		positions.forEach(position -> candidate.set(position, element));
+		return toContainerShrinkable.apply(candidate);
+	}
+
+	@Override
+	public FalsificationResult<C> current() {
+		return currentResult;
+	}
+}
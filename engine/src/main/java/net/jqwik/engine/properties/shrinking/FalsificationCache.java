@@ -0,0 +1,209 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.lang.reflect.*;
+import java.math.*;
+import java.util.*;
+import java.util.function.*;
+
+import org.junit.platform.commons.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Remembers the outcome of falsifying a list of parameter values so that shrinking
+ * does not evaluate a property more than once for the same parameters.
+ *
+ * <p>
+ * Parameter lists are compared through a key function. A key must not change when a property
+ * mutates its parameters, so the default key is a snapshot: Strings, boxed primitives, big numbers
+ * and enums are used as they are; arrays, lists, sets and maps are copied element by element.
+ * Parameters of any other type are not cached since they might be mutable.
+ * A key function returns {@code null} to mark parameters that must not be cached.
+ * </p>
+ *
+ * <p>
+ * The cache holds at most {@code maxSize} outcomes; the least recently used one is evicted first.
+ * It can be used by several threads at once; a falsifier is never called while holding the cache's lock.
+ * </p>
+ */
+public class FalsificationCache {
+
+	public static final int DEFAULT_MAX_SIZE = 10_000;
+
+	private static final Object NOT_CACHEABLE = new Object();
+
+	private final Function<? super List<?>, Object> keyFunction;
+	private final LeastRecentlyUsed outcomes;
+
+	private int hits = 0;
+
+	public FalsificationCache() {
+		this(DEFAULT_MAX_SIZE, FalsificationCache::defaultKey);
+	}
+
+	public FalsificationCache(int maxSize, Function<? super List<?>, Object> keyFunction) {
+		this.keyFunction = keyFunction;
+		this.outcomes = new LeastRecentlyUsed(maxSize);
+	}
+
+	public static Object defaultKey(List<?> params) {
+		Object key = snapshot(params);
+		return key == NOT_CACHEABLE ? null : key;
+	}
+
+	private static Object snapshot(Object value) {
+		if (value == null || isImmutable(value)) {
+			return value;
+		}
+		if (value.getClass().isArray()) {
+			return ArrayKey.snapshot(value);
+		}
+		if (value instanceof List) {
+			return snapshotElements((List<?>) value, new ArrayList<>());
+		}
+		if (value instanceof Set) {
+			return snapshotElements((Set<?>) value, new HashSet<>());
+		}
+		if (value instanceof Map) {
+			Map<Object, Object> copy = new HashMap<>();
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				Object key = snapshot(entry.getKey());
+				Object entryValue = snapshot(entry.getValue());
+				if (key == NOT_CACHEABLE || entryValue == NOT_CACHEABLE) {
+					return NOT_CACHEABLE;
+				}
+				copy.put(key, entryValue);
+			}
+			return copy;
+		}
+		return NOT_CACHEABLE;
+	}
+
+	private static Object snapshotElements(Collection<?> elements, Collection<Object> copy) {
+		for (Object element : elements) {
+			Object elementSnapshot = snapshot(element);
+			if (elementSnapshot == NOT_CACHEABLE) {
+				return NOT_CACHEABLE;
+			}
+			copy.add(elementSnapshot);
+		}
+		return copy;
+	}
+
+	private static boolean isImmutable(Object value) {
+		return value instanceof String
+				   || value instanceof Integer || value instanceof Long
+				   || value instanceof Short || value instanceof Byte
+				   || value instanceof Double || value instanceof Float
+				   || value instanceof Character || value instanceof Boolean
+				   || value instanceof BigInteger || value instanceof BigDecimal
+				   || value instanceof Enum;
+	}
+
+	public <T extends List<?>> Falsifier<T> cached(Falsifier<T> falsifier) {
+		return params -> {
+			Object key = keyFunction.apply(params);
+			if (key == null) {
+				return falsifier.test(params);
+			}
+			Outcome outcome;
+			synchronized (outcomes) {
+				outcome = outcomes.get(key);
+				if (outcome != null) {
+					hits++;
+				}
+			}
+			if (outcome == null) {
+				outcome = Outcome.of(falsifier, params);
+				synchronized (outcomes) {
+					outcomes.put(key, outcome);
+				}
+			}
+			return outcome.replay();
+		};
+	}
+
+	public int hits() {
+		synchronized (outcomes) {
+			return hits;
+		}
+	}
+
+	private static class LeastRecentlyUsed extends LinkedHashMap<Object, Outcome> {
+		private static final long serialVersionUID = 1L;
+
+		private final int maxSize;
+
+		private LeastRecentlyUsed(int maxSize) {
+			super(16, 0.75f, true);
+			this.maxSize = maxSize;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Object, Outcome> eldest) {
+			return size() > maxSize;
+		}
+	}
+
+	private static class Outcome {
+		private final boolean result;
+		private final Throwable throwable;
+
+		private static <T> Outcome of(Falsifier<T> falsifier, T params) {
+			try {
+				return new Outcome(falsifier.test(params), null);
+			} catch (Throwable throwable) {
+				BlacklistedExceptions.rethrowIfBlacklisted(throwable);
+				return new Outcome(false, throwable);
+			}
+		}
+
+		private Outcome(boolean result, Throwable throwable) {
+			this.result = result;
+			this.throwable = throwable;
+		}
+
+		private boolean replay() {
+			if (throwable != null) {
+				return JqwikReflectionSupport.throwAsUncheckedException(throwable);
+			}
+			return result;
+		}
+	}
+
+	private static class ArrayKey {
+		private final Class<?> componentType;
+		private final List<Object> elements;
+
+		private static Object snapshot(Object array) {
+			List<Object> elements = new ArrayList<>();
+			for (int i = 0; i < Array.getLength(array); i++) {
+				Object elementSnapshot = FalsificationCache.snapshot(Array.get(array, i));
+				if (elementSnapshot == NOT_CACHEABLE) {
+					return NOT_CACHEABLE;
+				}
+				elements.add(elementSnapshot);
+			}
+			return new ArrayKey(array.getClass().getComponentType(), elements);
+		}
+
+		private ArrayKey(Class<?> componentType, List<Object> elements) {
+			this.componentType = componentType;
+			this.elements = elements;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			ArrayKey other = (ArrayKey) o;
+			return componentType == other.componentType && elements.equals(other.elements);
+		}
+
+		@Override
+		public int hashCode() {
+			return elements.hashCode();
+		}
+	}
+}
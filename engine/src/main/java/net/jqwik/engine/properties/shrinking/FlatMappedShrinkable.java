@@ -4,37 +4,52 @@ import java.util.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
 
 public class FlatMappedShrinkable<T, U> implements Shrinkable<U> {
 
 	private final Shrinkable<T> toMap;
 	private final Function<T, RandomGenerator<U>> mapper;
 	private final long randomSeed;
+	private final RandomAlgorithm randomAlgorithm;
 	private final Shrinkable<U> shrinkable;
 	private final U value;
 
-	public FlatMappedShrinkable(Shrinkable<T> toMap, Function<T, Arbitrary<U>> mapper, int genSize, long randomSeed) {
-		this(toMap, value -> mapper.apply(value).generator(genSize), randomSeed);
+	public FlatMappedShrinkable(
+		Shrinkable<T> toMap,
+		Function<T, Arbitrary<U>> mapper,
+		int genSize,
+		long randomSeed,
+		RandomAlgorithm randomAlgorithm
+	) {
+		this(toMap, value -> mapper.apply(value).generator(genSize), randomSeed, randomAlgorithm);
 	}
 
-	public FlatMappedShrinkable(Shrinkable<T> toMap, Function<T, RandomGenerator<U>> mapper, long randomSeed) {
+	/**
+	 * @param randomAlgorithm The algorithm to generate mapped values from {@code randomSeed}, also when they are
+	 *                        generated again during shrinking
+	 */
+	public FlatMappedShrinkable(Shrinkable<T> toMap, Function<T, RandomGenerator<U>> mapper, long randomSeed, RandomAlgorithm randomAlgorithm) {
 		this.toMap = toMap;
 		this.mapper = mapper;
 		this.randomSeed = randomSeed;
+		this.randomAlgorithm = randomAlgorithm;
 		this.shrinkable = generateShrinkable(toMap.value());
 		this.value = shrinkable.value();
 	}
 
 	private Shrinkable<U> generateShrinkable(T value) {
 		RandomGenerator<U> generator = mapper.apply(value);
-		return generator.next(new Random(randomSeed));
+		// Generated from choices the inner value draws from the same choices so that they are shrunk together
+		Random random = ChoiceSequenceRandom.current().orElseGet(() -> SourceOfRandomness.newRandom(randomSeed, randomAlgorithm));
+		return generator.next(random);
 	}
 
 	@Override
 	public ShrinkingSequence<U> shrink(Falsifier<U> falsifier) {
 		Falsifier<T> toMapFalsifier = aT -> falsifier.test(generateShrinkable(aT).value());
 		return toMap.shrink(toMapFalsifier) //
-					.map(result -> result.map(shrinkableT -> new FlatMappedShrinkable<>(result.shrinkable(), mapper, randomSeed))) //
+					.map(result -> result.map(shrinkableT -> new FlatMappedShrinkable<>(result.shrinkable(), mapper, randomSeed, randomAlgorithm))) //
 					.andThen(aShrinkable -> {
 						FlatMappedShrinkable<T, U> flatMappedShrinkable = (FlatMappedShrinkable<T, U>) aShrinkable;
 						return flatMappedShrinkable.shrinkable.shrink(falsifier);
@@ -0,0 +1,83 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.function.*;
+
+import org.opentest4j.*;
+
+import net.jqwik.api.*;
+
+/**
+ * A shrinkable that applies several map and filter stages to a source shrinkable at once.
+ * It replaces one {@linkplain MappedShrinkable} or {@linkplain FilteredShrinkable} per stage.
+ *
+ * <p>
+ * {@code stages} returns the mapped value or {@linkplain #REJECTED} if one of the filters does not accept it.
+ * Shrinking shrinks the source; candidates that are rejected by a filter are treated as filtered out.
+ * </p>
+ */
+public class FusedShrinkable<S, T> implements Shrinkable<T> {
+
+	public static final Object REJECTED = new Object();
+
+	private final Shrinkable<S> source;
+	private final Function<S, Object> stages;
+
+	// Value is only created when needed because most shrinking candidates are thrown away
+	private T value;
+
+	public FusedShrinkable(Shrinkable<S> source, Function<S, Object> stages) {
+		this.source = source;
+		this.stages = stages;
+	}
+
+	public FusedShrinkable(Shrinkable<S> source, Function<S, Object> stages, T value) {
+		this(source, stages);
+		this.value = value;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public T value() {
+		if (value == null) {
+			value = (T) stages.apply(source.value());
+		}
+		return value;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public ShrinkingSequence<T> shrink(Falsifier<T> falsifier) {
+		Falsifier<S> sourceFalsifier = aSource -> {
+			Object result = stages.apply(aSource);
+			if (result == REJECTED) {
+				throw new TestAbortedException();
+			}
+			return falsifier.test((T) result);
+		};
+		return source.shrink(sourceFalsifier)
+					 .map(result -> result.map(shrinkable -> new FusedShrinkable<>(shrinkable, stages)));
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		return source.distance();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		FusedShrinkable<?, ?> that = (FusedShrinkable<?, ?>) o;
+		return source.equals(that.source);
+	}
+
+	@Override
+	public int hashCode() {
+		return source.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Fused(%s)|%s", value(), source);
+	}
+}
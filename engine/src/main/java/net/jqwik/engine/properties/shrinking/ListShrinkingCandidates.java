@@ -10,24 +10,28 @@ public class ListShrinkingCandidates<T> implements ShrinkingCandidates<List<T>>
 		this.minSize = minSize;
 	}
 
+	/**
+	 * Candidates are views on {@code toShrink} so that creating them does not copy any elements.
+	 * {@code toShrink} must therefore not be changed afterwards.
+	 */
 	@Override
 	public Set<List<T>> candidatesFor(List<T> toShrink) {
 		if (toShrink.size() <= minSize)
 			return Collections.emptySet();
-		Set<List<T>> lists = new HashSet<>();
-		appendRightCut(toShrink, lists);
-		appendLeftCut(toShrink, lists);
-		return lists;
+		int elementsToCut = elementsToCut(toShrink.size());
+		List<T> rightCut = toShrink.subList(0, toShrink.size() - elementsToCut);
+		List<T> leftCut = toShrink.subList(elementsToCut, toShrink.size());
+		if (rightCut.equals(leftCut)) {
+			return Collections.singleton(rightCut);
+		}
+		return new TwoCandidates<>(rightCut, leftCut);
 	}
 
-	private void appendLeftCut(List<T> toShrink, Set<List<T>> lists) {
-		List<T> leftCut = new ArrayList<>(toShrink);
-		int elementsToCut = calculateElementsToCut(toShrink.size());
-		cutFromLeft(leftCut, elementsToCut);
-		lists.add(leftCut);
+	int minSize() {
+		return minSize;
 	}
 
-	private int calculateElementsToCut(int listSize) {
+	int elementsToCut(int listSize) {
 		int toCut = rawElementsToCut(listSize);
 		return Math.min(toCut, listSize - minSize);
 	}
@@ -42,24 +46,22 @@ public class ListShrinkingCandidates<T> implements ShrinkingCandidates<List<T>>
 		return listSize / 2;
 	}
 
-	private void cutFromLeft(List<T> leftCut, int elementsToCut) {
-		if (elementsToCut == 0)
-			return;
-		leftCut.remove(0);
-		cutFromLeft(leftCut, --elementsToCut);
-	}
+	// A set of two different candidates which - unlike HashSet - does not need the candidates' hash codes
+	private static class TwoCandidates<T> extends AbstractSet<List<T>> {
+		private final List<List<T>> candidates;
 
-	private void appendRightCut(List<T> toShrink, Set<List<T>> lists) {
-		List<T> rightCut = new ArrayList<>(toShrink);
-		int elementsToCut = calculateElementsToCut(toShrink.size());
-		cutFromRight(rightCut, elementsToCut);
-		lists.add(rightCut);
-	}
+		private TwoCandidates(List<T> first, List<T> second) {
+			this.candidates = Arrays.asList(first, second);
+		}
+
+		@Override
+		public Iterator<List<T>> iterator() {
+			return Collections.unmodifiableList(candidates).iterator();
+		}
 
-	private void cutFromRight(List<T> rightCut, int elementsToCut) {
-		if (elementsToCut == 0)
-			return;
-		rightCut.remove(rightCut.size() - 1);
-		cutFromRight(rightCut, --elementsToCut);
+		@Override
+		public int size() {
+			return 2;
+		}
 	}
 }
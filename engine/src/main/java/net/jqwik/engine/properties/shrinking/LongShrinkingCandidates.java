@@ -0,0 +1,55 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+
+public class LongShrinkingCandidates implements ShrinkingCandidates<Long> {
+
+	private final long shrinkingTarget;
+
+	public LongShrinkingCandidates(long shrinkingTarget) {
+		this.shrinkingTarget = shrinkingTarget;
+	}
+
+	@Override
+	public Set<Long> candidatesFor(Long value) {
+		Set<Long> candidates = new HashSet<>();
+		long lower = Math.min(shrinkingTarget, value);
+		long higher = Math.max(shrinkingTarget, value);
+		// Distance is treated as unsigned long since it can exceed Long.MAX_VALUE
+		long distance = higher - lower;
+		addFibbonaci(candidates, lower, distance);
+		subFibbonaci(candidates, higher, distance);
+		candidates.add(shrinkingTarget);
+		candidates.remove(value);
+		return candidates;
+	}
+
+	private void subFibbonaci(Set<Long> candidates, long target, long distance) {
+		long butLast = 0;
+		long last = 1;
+		while (true) {
+			if (Long.compareUnsigned(last, distance - butLast) >= 0) {
+				break;
+			}
+			long step = butLast + last;
+			candidates.add(target - step);
+			butLast = last;
+			last = step;
+		}
+	}
+
+	private void addFibbonaci(Set<Long> candidates, long target, long distance) {
+		long butLast = 0;
+		long last = 1;
+		while (true) {
+			if (Long.compareUnsigned(last, distance - butLast) >= 0) {
+				break;
+			}
+			long step = butLast + last;
+			candidates.add(target + step);
+			butLast = last;
+			last = step;
+		}
+	}
+
+}
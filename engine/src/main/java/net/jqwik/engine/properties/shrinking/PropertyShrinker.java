@@ -1,11 +1,13 @@
 package net.jqwik.engine.properties.shrinking;
 
+import java.time.*;
 import java.util.*;
 import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
 import org.junit.platform.engine.reporting.*;
+import org.opentest4j.*;
 
 import net.jqwik.api.*;
 import net.jqwik.engine.support.*;
@@ -16,14 +18,103 @@ public class PropertyShrinker {
 
 	private final List<Shrinkable> parameters;
 	private final ShrinkingMode shrinkingMode;
+	private final Duration shrinkingTimeout;
 	private final Consumer<ReportEntry> reporter;
 	private final Reporting[] reporting;
+	private final FalsificationCache falsificationCache;
+	private final int parallelism;
+	private final ShrinkingEngine shrinkingEngine;
+	private final CandidateEvaluation candidateEvaluation;
+	private final Clock clock;
 
 	public PropertyShrinker(List<Shrinkable> parameters, ShrinkingMode shrinkingMode, Consumer<ReportEntry> reporter, Reporting[] reporting) {
+		this(parameters, shrinkingMode, Duration.ZERO, reporter, reporting, new FalsificationCache());
+	}
+
+	public PropertyShrinker(
+		List<Shrinkable> parameters,
+		ShrinkingMode shrinkingMode,
+		Duration shrinkingTimeout,
+		Consumer<ReportEntry> reporter,
+		Reporting[] reporting,
+		FalsificationCache falsificationCache
+	) {
+		this(parameters, shrinkingMode, shrinkingTimeout, reporter, reporting, falsificationCache, 1);
+	}
+
+	/**
+	 * @param parallelism Values greater than 1 evaluate the candidates of each shrinking step concurrently.
+	 *                    The falsifier must then be safe to be called from several threads.
+	 */
+	public PropertyShrinker(
+		List<Shrinkable> parameters,
+		ShrinkingMode shrinkingMode,
+		Duration shrinkingTimeout,
+		Consumer<ReportEntry> reporter,
+		Reporting[] reporting,
+		FalsificationCache falsificationCache,
+		int parallelism
+	) {
+		this(parameters, shrinkingMode, shrinkingTimeout, reporter, reporting, falsificationCache, parallelism, ShrinkingEngine.SHRINKABLES);
+	}
+
+	/**
+	 * @param shrinkingEngine With {@linkplain ShrinkingEngine#CHOICE_SEQUENCE} parameters that were generated
+	 *                        {@linkplain ShrinkablesFromChoices from choices} are shrunk by shrinking their choices.
+	 *                        Their candidates are evaluated one after the other.
+	 */
+	public PropertyShrinker(
+		List<Shrinkable> parameters,
+		ShrinkingMode shrinkingMode,
+		Duration shrinkingTimeout,
+		Consumer<ReportEntry> reporter,
+		Reporting[] reporting,
+		FalsificationCache falsificationCache,
+		int parallelism,
+		ShrinkingEngine shrinkingEngine
+	) {
+		this(parameters, shrinkingMode, shrinkingTimeout, reporter, reporting, falsificationCache, parallelism, shrinkingEngine, CandidateEvaluation.LAZY);
+	}
+
+	/**
+	 * @param candidateEvaluation How the steps of {@linkplain DeepSearchShrinkingSequence deep searches} evaluate their candidates
+	 */
+	public PropertyShrinker(
+		List<Shrinkable> parameters,
+		ShrinkingMode shrinkingMode,
+		Duration shrinkingTimeout,
+		Consumer<ReportEntry> reporter,
+		Reporting[] reporting,
+		FalsificationCache falsificationCache,
+		int parallelism,
+		ShrinkingEngine shrinkingEngine,
+		CandidateEvaluation candidateEvaluation
+	) {
+		this(parameters, shrinkingMode, shrinkingTimeout, reporter, reporting, falsificationCache, parallelism, shrinkingEngine, candidateEvaluation, Clock.systemUTC());
+	}
+
+	PropertyShrinker(
+		List<Shrinkable> parameters,
+		ShrinkingMode shrinkingMode,
+		Duration shrinkingTimeout,
+		Consumer<ReportEntry> reporter,
+		Reporting[] reporting,
+		FalsificationCache falsificationCache,
+		int parallelism,
+		ShrinkingEngine shrinkingEngine,
+		CandidateEvaluation candidateEvaluation,
+		Clock clock
+	) {
 		this.parameters = parameters;
 		this.shrinkingMode = shrinkingMode;
+		this.shrinkingTimeout = shrinkingTimeout;
 		this.reporter = reporter;
 		this.reporting = reporting;
+		this.falsificationCache = falsificationCache;
+		this.parallelism = parallelism;
+		this.shrinkingEngine = shrinkingEngine;
+		this.candidateEvaluation = candidateEvaluation;
+		this.clock = clock;
 	}
 
 	@SuppressWarnings("unchecked")
@@ -32,21 +123,98 @@ public class PropertyShrinker {
 			return new PropertyShrinkingResult(toValues(parameters), 0 , originalError);
 		}
 
-		Function<List<Shrinkable<Object>>, ShrinkingDistance> distanceFunction = ShrinkingDistance::combine;
-		ElementsShrinkingSequence sequence = new ElementsShrinkingSequence(parameters, forAllFalsifier, distanceFunction);
+		Instant startTime = clock.instant();
+		AtomicInteger evaluationsCounter = new AtomicInteger(0);
+		Falsifier<List> countingFalsifier = params -> {
+			evaluationsCounter.incrementAndGet();
+			return forAllFalsifier.test(params);
+		};
+		Falsifier<List> shrinkingFalsifier = withTimeout(falsificationCache.cached(countingFalsifier), startTime);
+
+		ShrinkingSequence sequence = createShrinkingSequence(shrinkingFalsifier);
 		sequence.init(FalsificationResult.falsified(Shrinkable.unshrinkable(toValues(parameters)), originalError));
 
 		Consumer<FalsificationResult> falsifiedReporter = isFalsifiedReportingOn() ? this::reportFalsifiedParams : ignore -> {};
 
 		AtomicInteger shrinkingStepsCounter = new AtomicInteger(0);
+		Runnable shrinking = () -> candidateEvaluation.runInScope(
+			() -> runShrinkingSteps(sequence, shrinkingStepsCounter, falsifiedReporter, startTime)
+		);
+		if (parallelism > 1 && !shrinksChoices()) {
+			ConcurrentCandidateEvaluation.Summary summary = ConcurrentCandidateEvaluation.runInScope(parallelism, shrinking);
+			reportParallelShrinking(summary, shrinkingStepsCounter.get(), evaluationsCounter.get());
+		} else {
+			shrinking.run();
+		}
+		if (isTimeoutReached(startTime)) {
+			reportShrinkingTimeoutReached(
+				shrinkingStepsCounter.get(),
+				evaluationsCounter.get(),
+				Duration.between(startTime, clock.instant()),
+				toValues(parameters),
+				sequence.current().value()
+			);
+		}
+		FalsificationResult<List> current = sequence.current();
+		return new PropertyShrinkingResult(
+			current.value(),
+			shrinkingStepsCounter.get(),
+			current.throwable().orElse(null),
+			falsificationCache.hits()
+		);
+	}
+
+	@SuppressWarnings("unchecked")
+	private ShrinkingSequence createShrinkingSequence(Falsifier<List> shrinkingFalsifier) {
+		if (shrinksChoices()) {
+			return new ChoiceSequenceShrinkingSequence((ShrinkablesFromChoices) parameters, (Falsifier) shrinkingFalsifier);
+		}
+		Function<List<Shrinkable<Object>>, ShrinkingDistance> distanceFunction = ShrinkingDistance::combine;
+		return new ElementsShrinkingSequence(parameters, shrinkingFalsifier, distanceFunction);
+	}
+
+	// Edge case tries and samples that were not generated randomly have no choices to shrink
+	private boolean shrinksChoices() {
+		return shrinkingEngine == ShrinkingEngine.CHOICE_SEQUENCE && parameters instanceof ShrinkablesFromChoices;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void runShrinkingSteps(
+		ShrinkingSequence sequence,
+		AtomicInteger shrinkingStepsCounter,
+		Consumer<FalsificationResult> falsifiedReporter,
+		Instant startTime
+	) {
 		while (sequence.next(shrinkingStepsCounter::incrementAndGet, falsifiedReporter)) {
 			if (shrinkingMode == ShrinkingMode.BOUNDED && shrinkingStepsCounter.get() >= BOUNDED_SHRINK_STEPS) {
 				reportShrinkingBoundReached(shrinkingStepsCounter.get(), toValues(parameters), sequence.current().value());
 				break;
 			}
+			if (isTimeoutReached(startTime)) {
+				break;
+			}
 		}
-		FalsificationResult<List> current = sequence.current();
-		return new PropertyShrinkingResult(current.value(), shrinkingStepsCounter.get(), current.throwable().orElse(null));
+	}
+
+	// After the timeout every candidate is rejected so that a running shrinking sequence ends quickly
+	private Falsifier<List> withTimeout(Falsifier<List> falsifier, Instant startTime) {
+		if (!hasTimeout()) {
+			return falsifier;
+		}
+		return params -> {
+			if (isTimeoutReached(startTime)) {
+				throw new TestAbortedException("Shrinking timeout reached");
+			}
+			return falsifier.test(params);
+		};
+	}
+
+	private boolean hasTimeout() {
+		return !shrinkingTimeout.isZero() && !shrinkingTimeout.isNegative();
+	}
+
+	private boolean isTimeoutReached(Instant startTime) {
+		return hasTimeout() && Duration.between(startTime, clock.instant()).compareTo(shrinkingTimeout) >= 0;
 	}
 
 	private boolean isFalsifiedReportingOn() {
@@ -75,4 +243,39 @@ public class PropertyShrinker {
 		reporter.accept(ReportEntry.from("shrinking bound reached", value));
 	}
 
+	private void reportShrinkingTimeoutReached(int steps, int evaluations, Duration elapsed, Object originalValue, Object bestShrunkValue) {
+		String value = String.format(
+			"%n    timeout     : %s" +
+				"%n    elapsed     : %sms" +
+				"%n    steps       : %s" +
+				"%n    evaluations : %s" +
+				"%n    original parameters : %s" +
+				"%n    shrunk parameters   : %s" +
+				"%nYou can change the timeout with '@Property(shrinkingTimeout = \"...\")'",
+			JqwikDurationSupport.displayString(shrinkingTimeout),
+			elapsed.toMillis(),
+			steps,
+			evaluations,
+			JqwikStringSupport.displayString(originalValue),
+			JqwikStringSupport.displayString(bestShrunkValue)
+		);
+		reporter.accept(ReportEntry.from("shrinking timeout reached", value));
+	}
+
+	private void reportParallelShrinking(ConcurrentCandidateEvaluation.Summary summary, int steps, int evaluations) {
+		String value = String.format(
+			"%n    threads            : %s" +
+				"%n    steps              : %s" +
+				"%n    evaluations        : %s" +
+				"%n    wasted evaluations : %s" +
+				"%n    speedup            : %.2f",
+			summary.parallelism(),
+			steps,
+			evaluations,
+			summary.wastedEvaluations(),
+			summary.speedup()
+		);
+		reporter.accept(ReportEntry.from("parallel shrinking", value));
+	}
+
 }
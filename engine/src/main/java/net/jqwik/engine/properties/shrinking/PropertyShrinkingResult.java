@@ -6,11 +6,17 @@ public class PropertyShrinkingResult {
 	private final List values;
 	private final int steps;
 	private final Throwable throwable;
+	private final int cacheHits;
 
 	public PropertyShrinkingResult(List values, int steps, Throwable throwable) {
+		this(values, steps, throwable, 0);
+	}
+
+	public PropertyShrinkingResult(List values, int steps, Throwable throwable, int cacheHits) {
 		this.values = values;
 		this.steps = steps;
 		this.throwable = throwable;
+		this.cacheHits = cacheHits;
 	}
 
 	public List values() {
@@ -24,4 +30,11 @@ public class PropertyShrinkingResult {
 	public int steps() {
 		return steps;
 	}
+
+	/**
+	 * @return The number of property evaluations that were answered by the falsification cache
+	 */
+	public int cacheHits() {
+		return cacheHits;
+	}
 }
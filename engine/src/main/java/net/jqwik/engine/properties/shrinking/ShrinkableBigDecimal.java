@@ -22,6 +22,23 @@ public class ShrinkableBigDecimal extends AbstractShrinkable<BigDecimal> {
 		this.shrinkingCandidates = new BigDecimalShrinkingCandidates(this.range, this.target);
 	}
 
+	// Distances are counted in units of the last decimal place
+	@Override
+	public ShrinkingSequence<BigDecimal> shrink(Falsifier<BigDecimal> falsifier) {
+		boolean belowTarget = value().compareTo(target) < 0;
+		BigInteger startingDistance = value().subtract(target).abs().scaleByPowerOfTen(scale).setScale(0, RoundingMode.UP).toBigInteger();
+		return new BisectionShrinkingSequence<>(
+			this,
+			startingDistance,
+			distance -> {
+				BigDecimal decimalDistance = new BigDecimal(distance, scale);
+				BigDecimal shrunkValue = belowTarget ? target.subtract(decimalDistance) : target.add(decimalDistance);
+				return new ShrinkableBigDecimal(shrunkValue, range, scale);
+			},
+			falsifier
+		);
+	}
+
 	@Override
 	public Set<Shrinkable<BigDecimal>> shrinkCandidatesFor(Shrinkable<BigDecimal> shrinkable) {
 		return shrinkingCandidates.candidatesFor(shrinkable.value())
@@ -19,6 +19,17 @@ public class ShrinkableBigInteger extends AbstractShrinkable<BigInteger> {
 		this.shrinkingCandidates = new BigIntegerShrinkingCandidates(this.target);
 	}
 
+	@Override
+	public ShrinkingSequence<BigInteger> shrink(Falsifier<BigInteger> falsifier) {
+		boolean belowTarget = value().compareTo(target) < 0;
+		return new BisectionShrinkingSequence<>(
+			this,
+			value().subtract(target).abs(),
+			distance -> new ShrinkableBigInteger(belowTarget ? target.subtract(distance) : target.add(distance), range),
+			falsifier
+		);
+	}
+
 	@Override
 	public Set<Shrinkable<BigInteger>> shrinkCandidatesFor(Shrinkable<BigInteger> shrinkable) {
 		return shrinkingCandidates.candidatesFor(shrinkable.value()) //
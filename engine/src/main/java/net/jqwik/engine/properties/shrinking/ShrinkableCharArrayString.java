@@ -0,0 +1,192 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+/**
+ * A shrinkable string whose characters are kept in a {@code char[]} instead of a list of shrinkable characters.
+ *
+ * <p>
+ * Shrinking follows the same steps as {@linkplain ShrinkableString}: First chunks of characters are removed
+ * by a {@linkplain DeltaDebuggingShrinkingSequence}, then each character is simplified towards the first character
+ * of its {@linkplain CharacterDomain} and finally chunks are removed again.
+ * Chunk candidates are views on the same array, the string value is only created when needed.
+ * </p>
+ */
+public class ShrinkableCharArrayString implements Shrinkable<String> {
+
+	private final char[] chars;
+	private final int offset;
+	private final int length;
+	private final CharacterDomain characters;
+	private final int minLength;
+
+	// Value and distance are only created when needed because most shrinking candidates are thrown away
+	private String value;
+	private ShrinkingDistance distance;
+	private int hashCode = 0;
+
+	public ShrinkableCharArrayString(char[] chars, CharacterDomain characters, int minLength) {
+		this(chars, 0, chars.length, characters, minLength);
+	}
+
+	private ShrinkableCharArrayString(char[] chars, int offset, int length, CharacterDomain characters, int minLength) {
+		this.chars = chars;
+		this.offset = offset;
+		this.length = length;
+		this.characters = characters;
+		this.minLength = minLength;
+	}
+
+	@Override
+	public String value() {
+		if (value == null) {
+			value = new String(chars, offset, length);
+		}
+		return value;
+	}
+
+	@Override
+	public ShrinkingSequence<String> shrink(Falsifier<String> falsifier) {
+		return removeCharacters(this, falsifier)
+				   .andThen(shrinkableString -> new CharactersShrinkingSequence(shrinkableString, falsifier))
+				   .andThen(shrinkableString -> removeCharacters(shrinkableString, falsifier));
+	}
+
+	private ShrinkingSequence<String> removeCharacters(Shrinkable<String> shrinkable, Falsifier<String> falsifier) {
+		return new DeltaDebuggingShrinkingSequence<>(
+			shrinkable,
+			string -> ((ShrinkableCharArrayString) string).characterRanges(),
+			minLength,
+			falsifier
+		);
+	}
+
+	private DeltaDebuggingShrinkingSequence.ElementRanges<String> characterRanges() {
+		return new DeltaDebuggingShrinkingSequence.ElementRanges<String>() {
+			@Override
+			public int size() {
+				return length;
+			}
+
+			@Override
+			public Shrinkable<String> range(int from, int to) {
+				return new ShrinkableCharArrayString(chars, offset + from, to - from, characters, minLength);
+			}
+
+			@Override
+			public Shrinkable<String> withoutRange(int from, int to) {
+				char[] remaining = new char[length - (to - from)];
+				System.arraycopy(chars, offset, remaining, 0, from);
+				System.arraycopy(chars, offset + to, remaining, from, length - to);
+				return new ShrinkableCharArrayString(remaining, characters, minLength);
+			}
+		};
+	}
+
+	private Set<Shrinkable<String>> characterCandidatesAt(int position) {
+		Set<Shrinkable<String>> candidates = new HashSet<>();
+		for (char candidate : characters.shrinkCandidatesFor(chars[offset + position])) {
+			char[] shrunkChars = Arrays.copyOfRange(chars, offset, offset + length);
+			shrunkChars[position] = candidate;
+			candidates.add(new ShrinkableCharArrayString(shrunkChars, characters, minLength));
+		}
+		return candidates;
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		if (distance == null) {
+			long sumOfCharacterDistances = 0;
+			for (int i = offset; i < offset + length; i++) {
+				sumOfCharacterDistances += characters.distance(chars[i]);
+			}
+			distance = ShrinkingDistance.of(length, sumOfCharacterDistances);
+		}
+		return distance;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		ShrinkableCharArrayString that = (ShrinkableCharArrayString) o;
+		if (length != that.length) return false;
+		for (int i = 0; i < length; i++) {
+			if (chars[offset + i] != that.chars[that.offset + i]) return false;
+		}
+		return true;
+	}
+
+	// Hashing the characters avoids creating the value.
+	@Override
+	public int hashCode() {
+		if (hashCode == 0) {
+			int result = 1;
+			for (int i = offset; i < offset + length; i++) {
+				result = 31 * result + chars[i];
+			}
+			hashCode = result;
+		}
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s<String>(%s:%s)", getClass().getSimpleName(), value(), distance());
+	}
+
+	/**
+	 * Simplifies one character after the other. Each position is shrunk by a deep search
+	 * of its own which starts from the best string found for the previous position.
+	 */
+	private static class CharactersShrinkingSequence implements ShrinkingSequence<String> {
+		private final Falsifier<String> falsifier;
+		private FalsificationResult<String> currentResult;
+		private int currentPosition = 0;
+		private ShrinkingSequence<String> positionSequence = null;
+
+		private CharactersShrinkingSequence(Shrinkable<String> startingShrinkable, Falsifier<String> falsifier) {
+			this.currentResult = FalsificationResult.falsified(startingShrinkable);
+			this.falsifier = falsifier;
+		}
+
+		@Override
+		public boolean next(Runnable count, Consumer<FalsificationResult<String>> falsifiedReporter) {
+			while (currentPosition < currentResult.value().length()) {
+				if (positionSequence == null) {
+					positionSequence = createPositionSequence(currentPosition);
+				}
+				if (positionSequence.next(count, falsifiedReporter)) {
+					currentResult = positionSequence.current();
+					return true;
+				}
+				positionSequence = null;
+				currentPosition++;
+			}
+			return false;
+		}
+
+		private ShrinkingSequence<String> createPositionSequence(int position) {
+			ShrinkingSequence<String> sequence = new DeepSearchShrinkingSequence<>(
+				currentResult.shrinkable(),
+				shrinkable -> ((ShrinkableCharArrayString) shrinkable).characterCandidatesAt(position),
+				falsifier
+			);
+			sequence.init(currentResult);
+			return sequence;
+		}
+
+		@Override
+		public FalsificationResult<String> current() {
+			return currentResult;
+		}
+
+		@Override
+		public void init(FalsificationResult<String> initialCurrent) {
+			currentResult = FalsificationResult.falsified(currentResult.shrinkable(), initialCurrent.throwable().orElse(null));
+		}
+	}
+}
@@ -7,13 +7,16 @@ import net.jqwik.api.*;
 
 abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 	private final List<Shrinkable<E>> elements;
-	private final ListShrinkingCandidates<Shrinkable<E>> shrinkCandidates;
-	private final C value;
+	private final int minSize;
+
+	// Value and distance are only created when needed because most shrinking candidates are thrown away
+	private C value;
+	private ShrinkingDistance distance;
+	private int hashCode = 0;
 
 	ShrinkableContainer(List<Shrinkable<E>> elements, int minSize) {
 		this.elements = elements;
-		this.shrinkCandidates = new ListShrinkingCandidates<>(minSize);
-		this.value = createValue(elements);
+		this.minSize = minSize;
 	}
 
 	private C createValue(List<Shrinkable<E>> shrinkables) {
@@ -25,19 +28,36 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 
 	@Override
 	public C value() {
+		if (value == null) {
+			value = createValue(elements);
+		}
 		return value;
 	}
 
 	@Override
 	public ShrinkingSequence<C> shrink(Falsifier<C> falsifier) {
-		return new DeepSearchShrinkingSequence<>(this, this::shrinkCandidatesFor, falsifier)
+		return removeElements(this, falsifier)
+				   .andThen(shrinkableContainer -> shrinkEqualElements(shrinkableContainer, falsifier))
 				   .andThen(shrinkableList -> {
 					   List<Shrinkable<E>> elements = ((ShrinkableContainer<C, E>) shrinkableList).elements;
 					   Falsifier<List<E>> listFalsifier = list -> falsifier.test(toContainer(list));
 					   return new ContainerShrinkingSequence<>(elements, listFalsifier, ShrinkingDistance::forCollection, this::toContainerShrinkable);
-				   }).andThen(shrinkableContainer ->
-								  new DeepSearchShrinkingSequence<>(shrinkableContainer, this::shrinkCandidatesFor, falsifier)
-			);
+				   }).andThen(shrinkableContainer -> removeElements(shrinkableContainer, falsifier));
+	}
+
+	private ShrinkingSequence<C> removeElements(Shrinkable<C> shrinkable, Falsifier<C> falsifier) {
+		return new DeltaDebuggingShrinkingSequence<>(
+			shrinkable,
+			container -> ((ShrinkableContainer<C, E>) container).elements,
+			this::createShrinkable,
+			minSize,
+			falsifier
+		);
+	}
+
+	private ShrinkingSequence<C> shrinkEqualElements(Shrinkable<C> shrinkable, Falsifier<C> falsifier) {
+		List<Shrinkable<E>> elements = ((ShrinkableContainer<C, E>) shrinkable).elements;
+		return new EqualElementsShrinkingSequence<>(shrinkable, elements, this::createShrinkable, falsifier);
 	}
 
 	private C toContainer(List<E> listOfE) {
@@ -52,17 +72,12 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 		return createShrinkable(shrinkableElements);
 	}
 
-	private Set<Shrinkable<C>> shrinkCandidatesFor(Shrinkable<C> shrinkable) {
-		ShrinkableContainer<C, E> listShrinkable = (ShrinkableContainer<C, E>) shrinkable;
-		return shrinkCandidates.candidatesFor(listShrinkable.elements) //
-			.stream() //
-			.map(this::createShrinkable) //
-			.collect(Collectors.toSet());
-	}
-
 	@Override
 	public ShrinkingDistance distance() {
-		return ShrinkingDistance.forCollection(elements);
+		if (distance == null) {
+			distance = ShrinkingDistance.forCollection(elements);
+		}
+		return distance;
 	}
 
 	@Override
@@ -73,9 +88,18 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 		return value().equals(that.value());
 	}
 
+	// Equal lists and strings have equal elements in the same order. Hashing the elements' values avoids creating the value.
+	// Sets override it since their elements can be in any order.
 	@Override
 	public int hashCode() {
-		return Objects.hash(elements);
+		if (hashCode == 0) {
+			int result = 1;
+			for (Shrinkable<E> element : elements) {
+				result = 31 * result + Objects.hashCode(element.value());
+			}
+			hashCode = result;
+		}
+		return hashCode;
 	}
 
 	@Override
@@ -0,0 +1,129 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.arbitraries.*;
+
+public class ShrinkableDouble extends AbstractShrinkable<Double> {
+
+	// Absolute values below this limit can be shrunk in long arithmetic
+	private static final double LONG_LIMIT = 0x1p63;
+
+	private final int scale;
+	private final Range<Double> range;
+	private final double target;
+
+	public ShrinkableDouble(double value, Range<Double> range, int scale) {
+		super(value);
+		this.range = range;
+		this.scale = scale;
+		this.target = determineTarget(value);
+	}
+
+	private ShrinkableDouble(double value, Range<Double> range, int scale, double target) {
+		super(value);
+		this.range = range;
+		this.scale = scale;
+		this.target = target;
+	}
+
+	// Distances are counted in units of the last decimal place and computed in decimal arithmetic
+	@Override
+	public ShrinkingSequence<Double> shrink(Falsifier<Double> falsifier) {
+		boolean belowTarget = value() < target;
+		BigDecimal decimalTarget = BigDecimal.valueOf(target);
+		BigDecimal decimalValue = BigDecimal.valueOf(value());
+		BigInteger startingDistance = decimalValue.subtract(decimalTarget).abs().scaleByPowerOfTen(scale).setScale(0, RoundingMode.UP).toBigInteger();
+		return new BisectionShrinkingSequence<>(
+			this,
+			startingDistance,
+			distance -> {
+				BigDecimal decimalDistance = new BigDecimal(distance, scale);
+				BigDecimal shrunkValue = belowTarget ? decimalTarget.subtract(decimalDistance) : decimalTarget.add(decimalDistance);
+				return new ShrinkableDouble(shrunkValue.doubleValue(), range, scale, target);
+			},
+			falsifier
+		);
+	}
+
+	@Override
+	public Set<Shrinkable<Double>> shrinkCandidatesFor(Shrinkable<Double> shrinkable) {
+		double value = shrinkable.value();
+		Set<Double> candidates = new HashSet<>();
+		if (hasDecimals(value))
+			candidates.addAll(shrinkDecimals(value));
+		candidates.addAll(shrinkIntegral(value));
+		double distanceToTarget = Math.abs(value - target);
+		return candidates
+			.stream() //
+			.filter(aDouble -> Math.abs(aDouble - target) < distanceToTarget) //
+			.map(aDouble -> new ShrinkableDouble(aDouble, range, scale, target)) //
+			.collect(Collectors.toSet());
+	}
+
+	private boolean hasDecimals(double value) {
+		return Math.rint(value) != value;
+	}
+
+	// Decimal places cannot be handled reliably in binary arithmetic. Only two candidates per step are affected, though.
+	private Set<Double> shrinkDecimals(double value) {
+		Set<Double> shrunkDecimals = new HashSet<>();
+		BigDecimal decimal = BigDecimal.valueOf(value).stripTrailingZeros();
+		int shrunkScale = decimal.scale() - 1;
+		range.ifIncluded(decimal.setScale(shrunkScale, RoundingMode.DOWN).doubleValue(), shrunkDecimals::add);
+		range.ifIncluded(decimal.setScale(shrunkScale, RoundingMode.UP).doubleValue(), shrunkDecimals::add);
+		return shrunkDecimals;
+	}
+
+	private Set<Double> shrinkIntegral(double value) {
+		double integral = integralPart(value);
+		double targetIntegral = integralPart(target);
+		if (Math.abs(integral) < LONG_LIMIT && Math.abs(targetIntegral) < LONG_LIMIT) {
+			return new LongShrinkingCandidates((long) targetIntegral).candidatesFor((long) integral)
+				.stream() //
+				.map(Long::doubleValue) //
+				.filter(range::includes) //
+				.collect(Collectors.toSet());
+		}
+		BigInteger bigTarget = BigDecimal.valueOf(targetIntegral).toBigInteger();
+		return new BigIntegerShrinkingCandidates(bigTarget).candidatesFor(BigDecimal.valueOf(integral).toBigInteger())
+			.stream() //
+			.map(BigInteger::doubleValue) //
+			.filter(range::includes) //
+			.collect(Collectors.toSet());
+	}
+
+	private static double integralPart(double value) {
+		return value < 0 ? Math.ceil(value) : Math.floor(value);
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		double integral = integralPart(value());
+		// Casting to long caps at Long.MAX_VALUE
+		long integralDistance = (long) Math.abs(integral - integralPart(target));
+		double fractionalPart = Math.abs(value() - integral);
+		long decimalDistance = (long) Math.rint(fractionalPart * Math.pow(10, scale));
+		return ShrinkingDistance.of(integralDistance, decimalDistance);
+	}
+
+	private double determineTarget(double value) {
+		if (!range.includes(value)) {
+			String message = String.format("Number <%s> is outside allowed range %s", value, range);
+			throw new JqwikException(message);
+		}
+		if (range.includes(0.0))
+			return 0.0;
+		else {
+			if (value < 0)
+				return range.max;
+			if (value > 0)
+				return range.min;
+		}
+		return value; // Should never get here
+	}
+
+}
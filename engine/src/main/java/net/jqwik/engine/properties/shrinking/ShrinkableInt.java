@@ -0,0 +1,66 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.arbitraries.*;
+
+public class ShrinkableInt extends AbstractShrinkable<Integer> {
+	private final Range<Integer> range;
+	private final int target;
+	private final LongShrinkingCandidates shrinkingCandidates;
+
+	public ShrinkableInt(int value, Range<Integer> range) {
+		super(value);
+		this.range = range;
+		this.target = determineTarget(value);
+		this.shrinkingCandidates = new LongShrinkingCandidates(this.target);
+	}
+
+	private ShrinkableInt(int value, Range<Integer> range, int target, LongShrinkingCandidates shrinkingCandidates) {
+		super(value);
+		this.range = range;
+		this.target = target;
+		this.shrinkingCandidates = shrinkingCandidates;
+	}
+
+	@Override
+	public ShrinkingSequence<Integer> shrink(Falsifier<Integer> falsifier) {
+		long direction = value() < target ? -1 : 1;
+		return new BisectionShrinkingSequence<>(
+			this,
+			BigInteger.valueOf(Math.abs((long) value() - target)),
+			distance -> new ShrinkableInt((int) (target + direction * distance.longValue()), range, target, shrinkingCandidates),
+			falsifier
+		);
+	}
+
+	@Override
+	public Set<Shrinkable<Integer>> shrinkCandidatesFor(Shrinkable<Integer> shrinkable) {
+		return shrinkingCandidates.candidatesFor((long) shrinkable.value()) //
+			.stream() //
+			.map(aLong -> new ShrinkableInt(aLong.intValue(), range, target, shrinkingCandidates)) //
+			.collect(Collectors.toSet());
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		return ShrinkingDistance.of(Math.abs((long) value() - target));
+	}
+
+	private int determineTarget(int value) {
+		if (!range.includes(value)) {
+			String message = String.format("Number <%s> is outside allowed range %s", value, range);
+			throw new JqwikException(message);
+		}
+		if (range.includes(0)) {
+			return 0;
+		}
+		if (value < 0) return range.max;
+		if (value > 0) return range.min;
+		return value; // Should never get here
+	}
+
+}
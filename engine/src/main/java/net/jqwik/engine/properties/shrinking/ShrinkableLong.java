@@ -0,0 +1,74 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.arbitraries.*;
+
+public class ShrinkableLong extends AbstractShrinkable<Long> {
+	private final Range<Long> range;
+	private final long target;
+	private final LongShrinkingCandidates shrinkingCandidates;
+
+	public ShrinkableLong(long value, Range<Long> range) {
+		super(value);
+		this.range = range;
+		this.target = determineTarget(value);
+		this.shrinkingCandidates = new LongShrinkingCandidates(this.target);
+	}
+
+	private ShrinkableLong(long value, Range<Long> range, long target, LongShrinkingCandidates shrinkingCandidates) {
+		super(value);
+		this.range = range;
+		this.target = target;
+		this.shrinkingCandidates = shrinkingCandidates;
+	}
+
+	// Distances can exceed Long.MAX_VALUE; long arithmetic still wraps around to the right value
+	@Override
+	public ShrinkingSequence<Long> shrink(Falsifier<Long> falsifier) {
+		long direction = value() < target ? -1 : 1;
+		return new BisectionShrinkingSequence<>(
+			this,
+			BigInteger.valueOf(value()).subtract(BigInteger.valueOf(target)).abs(),
+			distance -> new ShrinkableLong(target + direction * distance.longValue(), range, target, shrinkingCandidates),
+			falsifier
+		);
+	}
+
+	@Override
+	public Set<Shrinkable<Long>> shrinkCandidatesFor(Shrinkable<Long> shrinkable) {
+		return shrinkingCandidates.candidatesFor(shrinkable.value()) //
+			.stream() //
+			.map(aLong -> new ShrinkableLong(aLong, range, target, shrinkingCandidates)) //
+			.collect(Collectors.toSet());
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		return distanceFor(value(), target);
+	}
+
+	static ShrinkingDistance distanceFor(long value, long target) {
+		long distance = Math.max(value, target) - Math.min(value, target);
+		// Overflow means distance is beyond Long.MAX_VALUE
+		if (distance < 0) return ShrinkingDistance.of(Long.MAX_VALUE);
+		return ShrinkingDistance.of(distance);
+	}
+
+	private long determineTarget(long value) {
+		if (!range.includes(value)) {
+			String message = String.format("Number <%s> is outside allowed range %s", value, range);
+			throw new JqwikException(message);
+		}
+		if (range.includes(0L)) {
+			return 0L;
+		}
+		if (value < 0) return range.max;
+		if (value > 0) return range.min;
+		return value; // Should never get here
+	}
+
+}
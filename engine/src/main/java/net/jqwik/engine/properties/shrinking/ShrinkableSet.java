@@ -23,6 +23,12 @@ public class ShrinkableSet<E> extends ShrinkableContainer<Set<E>, E> {
 		return super.shrink(falsifier.withFilter(set -> set.size() >= minSize));
 	}
 
+	// Shrunk elements can have equal values so that the set's size may differ from the number of elements
+	@Override
+	public int hashCode() {
+		return value().hashCode();
+	}
+
 	@Override
 	Collector<E, ?, Set<E>> containerCollector() {
 		return Collectors.toSet();
@@ -0,0 +1,76 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+/**
+ * The parameters of a try together with the {@linkplain ChoiceSequence choices} they were generated from
+ * and the generator that can generate them again from other choices.
+ *
+ * @see ChoiceSequenceShrinkingSequence
+ */
+public class ShrinkablesFromChoices extends AbstractList<Shrinkable> {
+
+	public static ShrinkablesFromChoices generate(Random source, Function<Random, List<Shrinkable>> generator) {
+		ChoiceSequenceRandom random = ChoiceSequenceRandom.recording(source);
+		List<Shrinkable> shrinkables = generateWith(random, generator);
+		return new ShrinkablesFromChoices(shrinkables, random.choices(), generator);
+	}
+
+	private static List<Shrinkable> generateWith(ChoiceSequenceRandom random, Function<Random, List<Shrinkable>> generator) {
+		return random.generate(r -> {
+			List<Shrinkable> shrinkables = generator.apply(r);
+			// Values that are created lazily must draw their choices while the random is active
+			shrinkables.forEach(Shrinkable::value);
+			return shrinkables;
+		});
+	}
+
+	private final List<Shrinkable> shrinkables;
+	private final ChoiceSequence choices;
+	private final Function<Random, List<Shrinkable>> generator;
+
+	private ShrinkablesFromChoices(List<Shrinkable> shrinkables, ChoiceSequence choices, Function<Random, List<Shrinkable>> generator) {
+		this.shrinkables = shrinkables;
+		this.choices = choices;
+		this.generator = generator;
+	}
+
+	public ChoiceSequence choices() {
+		return choices;
+	}
+
+	@SuppressWarnings("unchecked")
+	public ShrinkingDistance distance() {
+		return ShrinkingDistance.combine((List) shrinkables);
+	}
+
+	/**
+	 * Generate the parameters from other choices.
+	 *
+	 * @param maxChoices The maximum number of choices generation may draw
+	 * @return the parameters or nothing if they cannot be generated from these choices
+	 */
+	public Optional<ShrinkablesFromChoices> replay(ChoiceSequence otherChoices, int maxChoices) {
+		ChoiceSequenceRandom random = ChoiceSequenceRandom.replaying(otherChoices, maxChoices);
+		try {
+			List<Shrinkable> shrinkables = generateWith(random, generator);
+			return Optional.of(new ShrinkablesFromChoices(shrinkables, random.choices(), generator));
+		} catch (JqwikException cannotBeGenerated) {
+			// Choices that never come up randomly can exhaust a filter or the choices themselves
+			return Optional.empty();
+		}
+	}
+
+	@Override
+	public Shrinkable get(int index) {
+		return shrinkables.get(index);
+	}
+
+	@Override
+	public int size() {
+		return shrinkables.size();
+	}
+}
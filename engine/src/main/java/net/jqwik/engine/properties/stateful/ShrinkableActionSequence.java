@@ -10,8 +10,6 @@ import net.jqwik.engine.properties.shrinking.*;
 
 class ShrinkableActionSequence<T> implements Shrinkable<ActionSequence<T>> {
 
-	private final ComprehensiveListShrinkingCandidates listShrinkingCandidates = new ComprehensiveListShrinkingCandidates();
-
 	private final ActionSequence<T> value;
 	private final ActionGenerator<T> actionGenerator;
 	private final int minSize;
@@ -47,19 +45,15 @@ class ShrinkableActionSequence<T> implements Shrinkable<ActionSequence<T>> {
 
 	}
 
+	// At least one action will be kept
 	private Function<Shrinkable<List<Action<T>>>, ShrinkingSequence<List<Action<T>>>> shrinkListOfActions(Falsifier<List<Action<T>>> listFalsifier) {
 		return shrinkableListOfActions ->
-			new DeepSearchShrinkingSequence<>(shrinkableListOfActions, this::shrinkActionListCandidates, listFalsifier);
+			new DeltaDebuggingShrinkingSequence<>(shrinkableListOfActions, Shrinkable::value, this::toShrinkableListOfActions, 1, listFalsifier);
 	}
 
-	private Set<Shrinkable<List<Action<T>>>> shrinkActionListCandidates(Shrinkable<List<Action<T>>> shrinkableList) {
-		//noinspection unchecked
-		return listShrinkingCandidates
-			.candidatesFor(shrinkableList.value())
-			.stream()
-			.map(elements -> elements.stream().map(Shrinkable::unshrinkable).collect(Collectors.toList()))
-			.map((List<Shrinkable<Action<T>>> shrinkableElements) -> (Shrinkable<List<Action<T>>>) new ShrinkableList(shrinkableElements, 1)) //
-			.collect(Collectors.toSet());
+	private Shrinkable<List<Action<T>>> toShrinkableListOfActions(List<Action<T>> listOfActions) {
+		List<Shrinkable<Action<T>>> shrinkableElements = listOfActions.stream().map(Shrinkable::unshrinkable).collect(Collectors.toList());
+		return new ShrinkableList<>(shrinkableElements, 1);
 	}
 
 	private ElementsShrinkingSequence<Action<T>> shrinkIndividualActions(
@@ -87,17 +81,15 @@ class ShrinkableActionSequence<T> implements Shrinkable<ActionSequence<T>> {
 		return new ShrinkableActionSequence<>(newGenerator, 1, list.size(), newDistance);
 	}
 
-	private DeepSearchShrinkingSequence<ActionSequence<T>> shrinkSequenceOfActions(Falsifier<ActionSequence<T>> falsifier) {
-		return new DeepSearchShrinkingSequence<>(this, this::shrinkSequenceCandidates, falsifier);
-	}
-
-	private Set<Shrinkable<ActionSequence<T>>> shrinkSequenceCandidates(Shrinkable<ActionSequence<T>> shrinkable) {
-		ShrinkableActionSequence<T> shrinkableSequence = (ShrinkableActionSequence<T>) shrinkable;
-		return listShrinkingCandidates
-			.candidatesFor(shrinkableSequence.actionGenerator.generated())
-			.stream()
-			.map(this::toShrinkableActionSequence)
-			.collect(Collectors.toSet());
+	// Only the actions that have been run are shrunk. At least one action will be kept.
+	private DeltaDebuggingShrinkingSequence<ActionSequence<T>> shrinkSequenceOfActions(Falsifier<ActionSequence<T>> falsifier) {
+		return new DeltaDebuggingShrinkingSequence<>(
+			this,
+			shrinkable -> new ArrayList<>(((ShrinkableActionSequence<T>) shrinkable).actionGenerator.generated()),
+			this::toShrinkableActionSequence,
+			1,
+			falsifier
+		);
 	}
 
 	@Override
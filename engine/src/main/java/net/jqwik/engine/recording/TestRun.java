@@ -1,36 +1,49 @@
 package net.jqwik.engine.recording;
 
-import java.io.*;
 import java.util.*;
+import java.util.function.*;
 
 import org.junit.platform.engine.*;
 
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
 
-public class TestRun implements Serializable {
+public class TestRun {
 	private final String uniqueIdString;
 	private final int statusOrdinal;
 	private final String randomSeed;
-	private final List<Object> falsifiedSample;
+	private Supplier<List<Object>> falsifiedSample;
+	private List<Object> loadedSample = null;
+	private UniqueId uniqueId = null;
 
 	public TestRun(UniqueId uniqueId, PropertyExecutionResult.Status status, String randomSeed, List<Object> falsifiedSample) {
-		this.uniqueIdString = uniqueId.toString();
+		this(uniqueId.toString(), status, randomSeed, () -> falsifiedSample);
+		this.uniqueId = uniqueId;
+	}
+
+	/**
+	 * Used for test runs read from a database where the falsified sample is only loaded on demand.
+	 */
+	TestRun(String uniqueIdString, PropertyExecutionResult.Status status, String randomSeed, Supplier<List<Object>> falsifiedSample) {
+		this.uniqueIdString = uniqueIdString;
 		this.statusOrdinal = status.ordinal();
 		this.randomSeed = randomSeed;
 		this.falsifiedSample = falsifiedSample;
 	}
 
-	boolean hasUniqueId(UniqueId uniqueId) {
-		return getUniqueId().equals(uniqueId);
-	}
-
 	public boolean isNotSuccessful() {
 		return getStatus() != Status.SUCCESSFUL;
 	}
 
+	String getUniqueIdString() {
+		return uniqueIdString;
+	}
+
 	public UniqueId getUniqueId() {
-		return UniqueId.parse(uniqueIdString);
+		if (uniqueId == null) {
+			uniqueId = UniqueId.parse(uniqueIdString);
+		}
+		return uniqueId;
 	}
 
 	public Status getStatus() {
@@ -41,8 +54,13 @@ public class TestRun implements Serializable {
 		return Optional.ofNullable(randomSeed);
 	}
 
-	public Optional<List<Object>> falsifiedSample() {
-		return Optional.ofNullable(falsifiedSample);
+	public synchronized Optional<List<Object>> falsifiedSample() {
+		// Loading a stored sample means deserializing it, which is only done once
+		if (falsifiedSample != null) {
+			loadedSample = falsifiedSample.get();
+			falsifiedSample = null;
+		}
+		return Optional.ofNullable(loadedSample);
 	}
 
 	@Override
@@ -50,8 +68,4 @@ public class TestRun implements Serializable {
 		String randomSeedString = randomSeed().map(s -> ":" + s).orElse("");
 		return String.format("TestRun[%s:%s%s]", uniqueIdString, getStatus(), randomSeedString);
 	}
-
-	TestRun withoutFalsifiedSample() {
-		return new TestRun(getUniqueId(), getStatus(), randomSeed, null);
-	}
 }
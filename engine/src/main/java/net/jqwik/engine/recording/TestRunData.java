@@ -8,35 +8,43 @@ import org.junit.platform.engine.*;
 
 public class TestRunData {
 
-	private final Collection<TestRun> data;
+	private final Map<UniqueId, TestRun> runsByUniqueId = new LinkedHashMap<>();
+	private final Map<UniqueId, TestRun> nonSuccessfulRuns = new LinkedHashMap<>();
 
 	public TestRunData(Collection<TestRun> data) {
-		this.data = data;
+		data.forEach(this::add);
 	}
 
 	public TestRunData() {
-		this(new HashSet<>());
 	}
 
+	/**
+	 * Add a test run. A test run for the same unique id that has been added before will be replaced.
+	 */
 	public void add(TestRun testRun) {
-		data.add(testRun);
-	}
-
-	public Optional<TestRun> byUniqueId(UniqueId uniqueId) {
+		UniqueId uniqueId;
 		try {
-			return data.stream() //
-					.filter(testRun -> testRun.hasUniqueId(uniqueId)) //
-					.findFirst();
+			uniqueId = testRun.getUniqueId();
 		} catch (Throwable t) {
 			// An exception during test run data read should not stop the test run.
 			// Most of the time it's an error due to format change which will go away
 			// after one test run where the test run data has been written anew.
 			BlacklistedExceptions.rethrowIfBlacklisted(t);
-			return Optional.empty();
+			return;
+		}
+		runsByUniqueId.put(uniqueId, testRun);
+		if (testRun.isNotSuccessful()) {
+			nonSuccessfulRuns.put(uniqueId, testRun);
+		} else {
+			nonSuccessfulRuns.remove(uniqueId);
 		}
 	}
 
+	public Optional<TestRun> byUniqueId(UniqueId uniqueId) {
+		return Optional.ofNullable(runsByUniqueId.get(uniqueId));
+	}
+
 	public Stream<TestRun> allNonSuccessfulTests() {
-		return data.stream().filter(TestRun::isNotSuccessful);
+		return nonSuccessfulRuns.values().stream();
 	}
 }
@@ -1,20 +1,54 @@
 package net.jqwik.engine.recording;
 
 import java.io.*;
+import java.nio.channels.*;
 import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.time.*;
 import java.util.*;
+import java.util.function.*;
 import java.util.logging.*;
+import java.util.stream.*;
 
+import net.jqwik.engine.recording.TestRunRecordFormat.*;
+
+/**
+ * Stores test runs in the format described in {@linkplain TestRunRecordFormat}.
+ * New runs are appended to the existing database. Test runs that have not been recorded
+ * for {@linkplain #EXPIRY} are dropped, e.g. those of deleted or renamed properties.
+ * The database is compacted while being loaded if it contains more superseded or expired
+ * than current records.
+ *
+ * <p>
+ * Several JVMs, e.g. parallel test forks, can share a database: Loading, appending and
+ * compaction hold a lock on a sibling file with suffix {@code .lock}.
+ * </p>
+ */
 public class TestRunDatabase {
 
+	static final Duration EXPIRY = Duration.ofDays(30);
+
 	private static final Logger LOG = Logger.getLogger(TestRunDatabase.class.getName());
 
+	// File locks are held per JVM, so threads of the same JVM must not request them concurrently
+	private static final Object JVM_LOCK = new Object();
+
 	private final Path databasePath;
+	private final Path lockPath;
+	private final Clock clock;
 	private final TestRunData previousRunData;
+	// Sample offsets are only valid as long as the database has not been compacted by another JVM
+	private Object loadedFileKey = null;
 	private boolean stopRecording = false;
 
 	public TestRunDatabase(Path databasePath) {
+		this(databasePath, Clock.systemUTC());
+	}
+
+	TestRunDatabase(Path databasePath, Clock clock) {
 		this.databasePath = databasePath;
+		this.lockPath = databasePath.resolveSibling(databasePath.getFileName() + ".lock");
+		this.clock = clock;
 		this.previousRunData = loadExistingRunData();
 	}
 
@@ -22,39 +56,144 @@ public class TestRunDatabase {
 		if (!Files.exists(databasePath)) {
 			return new TestRunData();
 		}
-
-		try (ObjectInputStream ois = createObjectInputStream()) {
-			List<TestRun> data = readAllTestRuns(ois);
-			return new TestRunData(data);
+		try {
+			return withLock(() -> {
+				if (!Files.exists(databasePath)) {
+					return new TestRunData();
+				}
+				try {
+					StoredRuns storedRuns = readStoredRuns();
+					if (storedRuns.needsCompaction()) {
+						compact(storedRuns.latestRuns.values());
+						storedRuns = readStoredRuns();
+					}
+					loadedFileKey = fileKey();
+					List<TestRun> data = storedRuns.latestRuns.values().stream()
+															  .map(this::toTestRun)
+															  .collect(Collectors.toList());
+					return new TestRunData(data);
+				} catch (Exception e) {
+					logReadException(e);
+					deleteDatabase();
+					return new TestRunData();
+				}
+			});
 		} catch (Exception e) {
 			logReadException(e);
-			deleteDatabase();
 			return new TestRunData();
 		}
 	}
 
-	private void deleteDatabase() {
+	private StoredRuns readStoredRuns() throws IOException {
+		StoredRuns storedRuns = new StoredRuns();
+		if (Files.size(databasePath) == 0) {
+			return storedRuns;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(databasePath)))) {
+			TestRunRecordFormat.readHeader(in);
+			long position = TestRunRecordFormat.HEADER_LENGTH;
+			while (true) {
+				StoredTestRun storedRun;
+				try {
+					storedRun = TestRunRecordFormat.readRecord(in, position);
+				} catch (IOException incompleteRecord) {
+					// Usually the result of an interrupted write; compaction will remove it
+					storedRuns.hasCorruptedTail = true;
+					break;
+				}
+				if (storedRun == null) {
+					break;
+				}
+				storedRuns.add(storedRun);
+				position = storedRun.sampleOffset + Math.max(storedRun.sampleLength, 0);
+			}
+		}
+		storedRuns.expireRecordedBefore(clock.millis() - EXPIRY.toMillis());
+		return storedRuns;
+	}
+
+	private void compact(Collection<StoredTestRun> latestRuns) throws IOException {
+		Path compactedPath = databasePath.resolveSibling(databasePath.getFileName() + ".compacted");
+		try (
+			RandomAccessFile original = new RandomAccessFile(databasePath.toFile(), "r");
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(compactedPath)))
+		) {
+			TestRunRecordFormat.writeHeader(out);
+			for (StoredTestRun storedRun : latestRuns) {
+				byte[] sampleBytes = storedRun.hasSample() ? readSampleBytes(original, storedRun) : null;
+				out.write(TestRunRecordFormat.createRecord(
+					storedRun.uniqueIdString, storedRun.status, storedRun.recordedAt, storedRun.randomSeed, sampleBytes
+				));
+			}
+		}
+		Files.move(compactedPath, databasePath, StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	private TestRun toTestRun(StoredTestRun storedRun) {
+		Supplier<List<Object>> sampleLoader = storedRun.hasSample() ? () -> loadSample(storedRun) : () -> null;
+		return new TestRun(storedRun.uniqueIdString, storedRun.status, storedRun.randomSeed, sampleLoader);
+	}
+
+	private List<Object> loadSample(StoredTestRun storedRun) {
 		try {
-			Files.delete(databasePath);
-		} catch (IOException ignore) {
+			return withLock(() -> {
+				if (!Objects.equals(fileKey(), loadedFileKey)) {
+					return null;
+				}
+				try (RandomAccessFile database = new RandomAccessFile(databasePath.toFile(), "r")) {
+					return TestRunRecordFormat.deserializeSample(readSampleBytes(database, storedRun));
+				}
+			});
+		} catch (Exception e) {
+			// A sample that cannot be read, e.g. due to class changes, should not stop the test run
+			logReadException(e);
+			return null;
 		}
 	}
 
-	private List<TestRun> readAllTestRuns(ObjectInputStream ois) throws IOException, ClassNotFoundException {
-		List<TestRun> testRuns = new ArrayList<>();
-		while (true) {
-			try {
-				TestRun testRun = (TestRun) ois.readObject();
-				testRuns.add(testRun);
-			} catch (EOFException eof) {
-				break;
-			} catch (IOException eof) {
-				logReadException(eof);
-				deleteDatabase();
-				break;
+	private byte[] readSampleBytes(RandomAccessFile database, StoredTestRun storedRun) throws IOException {
+		byte[] sampleBytes = new byte[storedRun.sampleLength];
+		database.seek(storedRun.sampleOffset);
+		database.readFully(sampleBytes);
+		return sampleBytes;
+	}
+
+	// Some file systems have no file keys; the database is then not checked for replacement
+	private Object fileKey() throws IOException {
+		if (!Files.exists(databasePath)) {
+			return null;
+		}
+		return Files.readAttributes(databasePath, BasicFileAttributes.class).fileKey();
+	}
+
+	private <T> T withLock(LockedAction<T> action) throws Exception {
+		synchronized (JVM_LOCK) {
+			try (
+				FileChannel lockChannel = FileChannel.open(lockPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+				FileLock ignore = lockChannel.lock()
+			) {
+				return action.run();
+			}
+		}
+	}
+
+	private void append(byte[] record) throws IOException {
+		boolean isNewDatabase = !Files.exists(databasePath) || Files.size(databasePath) == 0;
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+			Files.newOutputStream(databasePath, StandardOpenOption.CREATE, StandardOpenOption.APPEND)
+		))) {
+			if (isNewDatabase) {
+				TestRunRecordFormat.writeHeader(out);
 			}
+			out.write(record);
+		}
+	}
+
+	private void deleteDatabase() {
+		try {
+			Files.delete(databasePath);
+		} catch (IOException ignore) {
 		}
-		return testRuns;
 	}
 
 	private void logReadException(Exception eof) {
@@ -65,55 +204,68 @@ public class TestRunDatabase {
 		LOG.log(Level.WARNING, e, () -> String.format("Cannot write database [%s]", databasePath.toAbsolutePath()));
 	}
 
-	private ObjectOutputStream createObjectOutputStream() {
-		try {
-			return new ObjectOutputStream(Files.newOutputStream(databasePath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING));
-		} catch (IOException e) {
-			stopRecording = true;
-			logWriteException(e);
-			return null;
-		}
-	}
-
-	private ObjectInputStream createObjectInputStream() throws IOException {
-		return new ObjectInputStream(Files.newInputStream(databasePath, StandardOpenOption.CREATE));
+	private interface LockedAction<T> {
+		T run() throws Exception;
 	}
 
-	private class Recorder implements TestRunRecorder {
+	private static class StoredRuns {
+		private final Map<String, StoredTestRun> latestRuns = new LinkedHashMap<>();
+		private int countRecords = 0;
+		private boolean hasCorruptedTail = false;
 
-		private final ObjectOutputStream objectOutputStream;
+		private void add(StoredTestRun storedRun) {
+			// Remove first to keep insertion order in line with the latest record
+			latestRuns.remove(storedRun.uniqueIdString);
+			latestRuns.put(storedRun.uniqueIdString, storedRun);
+			countRecords++;
+		}
 
-		private Recorder(ObjectOutputStream objectOutputStream) {
-			this.objectOutputStream = objectOutputStream;
+		private void expireRecordedBefore(long expiryMillis) {
+			latestRuns.values().removeIf(storedRun -> storedRun.recordedAt < expiryMillis);
 		}
 
-		@Override
-		public void record(TestRun testRun) {
-			record(testRun, false);
+		private boolean needsCompaction() {
+			int countSupersededOrExpired = countRecords - latestRuns.size();
+			return hasCorruptedTail || countSupersededOrExpired > latestRuns.size();
 		}
+	}
 
-		private void record(TestRun testRun, boolean secondTry) {
+	private class Recorder implements TestRunRecorder {
+
+		@Override
+		public synchronized void record(TestRun testRun) {
 			if (stopRecording)
 				return;
 			try {
-				objectOutputStream.writeObject(testRun);
-			} catch (NotSerializableException e) {
-				logWriteException(e);
-				if (!secondTry) {
-					record(testRun.withoutFalsifiedSample(), true);
-				}
-			} catch (IOException e) {
+				byte[] record = TestRunRecordFormat.createRecord(
+					testRun.getUniqueIdString(),
+					testRun.getStatus(),
+					clock.millis(),
+					testRun.randomSeed().orElse(null),
+					sampleBytes(testRun)
+				);
+				// Each record is appended as a whole so that records of other JVMs cannot interleave
+				withLock(() -> {
+					append(record);
+					return null;
+				});
+			} catch (Exception e) {
 				stopRecording = true;
 				logWriteException(e);
 			}
 		}
 
-		@Override
-		public void close() {
+		private byte[] sampleBytes(TestRun testRun) {
+			Optional<List<Object>> falsifiedSample = testRun.falsifiedSample();
+			if (!falsifiedSample.isPresent()) {
+				return null;
+			}
 			try {
-				objectOutputStream.close();
+				return TestRunRecordFormat.serializeSample(falsifiedSample.get());
 			} catch (IOException e) {
+				// Record test run without sample
 				logWriteException(e);
+				return null;
 			}
 		}
 
@@ -124,6 +276,6 @@ public class TestRunDatabase {
 	}
 
 	public TestRunRecorder recorder() {
-		return new Recorder(createObjectOutputStream());
+		return new Recorder();
 	}
 }
@@ -0,0 +1,209 @@
+package net.jqwik.engine.recording;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+
+import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
+
+/**
+ * Binary format of a test run database:
+ *
+ * <pre>
+ * file    := MAGIC_NUMBER:int VERSION:int record*
+ * record  := length:int uniqueId:string status:byte recordedAt:long seed:string? sample
+ * string  := length:int utf8:byte[length]
+ * sample  := length:int bytes:byte[length]   (length -1 means no sample)
+ * </pre>
+ *
+ * The length of a record does not include the length field itself. {@code recordedAt} is the time
+ * of recording in milliseconds since the epoch; it is used to expire test runs. A missing seed is
+ * stored as string length -1. The sample is a serialized {@code List<Object>};
+ * it is deserialized only when a test run's falsified sample is requested.
+ * Later records for the same unique id supersede earlier ones.
+ */
+class TestRunRecordFormat {
+
+	static final int MAGIC_NUMBER = 0x4A51574B; // "JQWK"
+	static final int VERSION = 2;
+	static final int HEADER_LENGTH = 8;
+
+	private static final int NULL_LENGTH = -1;
+
+	private TestRunRecordFormat() {
+	}
+
+	static class StoredTestRun {
+		final String uniqueIdString;
+		final Status status;
+		final long recordedAt;
+		final String randomSeed;
+		final long sampleOffset;
+		final int sampleLength;
+
+		private StoredTestRun(String uniqueIdString, Status status, long recordedAt, String randomSeed, long sampleOffset, int sampleLength) {
+			this.uniqueIdString = uniqueIdString;
+			this.status = status;
+			this.recordedAt = recordedAt;
+			this.randomSeed = randomSeed;
+			this.sampleOffset = sampleOffset;
+			this.sampleLength = sampleLength;
+		}
+
+		boolean hasSample() {
+			return sampleLength != NULL_LENGTH;
+		}
+	}
+
+	static void writeHeader(DataOutput out) throws IOException {
+		out.writeInt(MAGIC_NUMBER);
+		out.writeInt(VERSION);
+	}
+
+	/**
+	 * @throws IOException if the header does not belong to a supported database format
+	 */
+	static void readHeader(DataInput in) throws IOException {
+		int magicNumber = in.readInt();
+		if (magicNumber != MAGIC_NUMBER) {
+			throw new IOException("Not a jqwik database");
+		}
+		int version = in.readInt();
+		if (version != VERSION) {
+			throw new IOException(String.format("Unsupported database version [%s]", version));
+		}
+	}
+
+	static byte[] serializeSample(List<Object> sample) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(new ArrayList<>(sample));
+		}
+		return bytes.toByteArray();
+	}
+
+	@SuppressWarnings("unchecked")
+	static List<Object> deserializeSample(byte[] sampleBytes) throws IOException, ClassNotFoundException {
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(sampleBytes))) {
+			return (List<Object>) in.readObject();
+		}
+	}
+
+	static byte[] createRecord(String uniqueIdString, Status status, long recordedAt, String randomSeed, byte[] sampleBytes) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream payload = new DataOutputStream(bytes);
+		writeString(payload, uniqueIdString);
+		payload.writeByte(status.ordinal());
+		payload.writeLong(recordedAt);
+		writeString(payload, randomSeed);
+		if (sampleBytes == null) {
+			payload.writeInt(NULL_LENGTH);
+		} else {
+			payload.writeInt(sampleBytes.length);
+			payload.write(sampleBytes);
+		}
+		payload.flush();
+
+		ByteArrayOutputStream record = new ByteArrayOutputStream(bytes.size() + 4);
+		DataOutputStream recordOut = new DataOutputStream(record);
+		recordOut.writeInt(bytes.size());
+		bytes.writeTo(recordOut);
+		recordOut.flush();
+		return record.toByteArray();
+	}
+
+	/**
+	 * Read the next record without reading its sample.
+	 *
+	 * @param in       stream positioned at the start of a record
+	 * @param position the position of the record in the database file
+	 * @return the record or {@code null} if the stream ends exactly before the record
+	 * @throws IOException if the record is incomplete or corrupted
+	 */
+	static StoredTestRun readRecord(DataInputStream in, long position) throws IOException {
+		int recordLength;
+		try {
+			recordLength = in.readInt();
+		} catch (EOFException endOfRecords) {
+			return null;
+		}
+		if (recordLength < 0) {
+			throw new IOException("Negative record length");
+		}
+		long offset = position + 4;
+		byte[] uniqueIdBytes = readBytes(in, recordLength);
+		if (uniqueIdBytes == null) {
+			throw new IOException("Record without unique id");
+		}
+		offset += 4 + uniqueIdBytes.length;
+		Status status = readStatus(in.readByte());
+		offset += 1;
+		long recordedAt = in.readLong();
+		offset += 8;
+		byte[] seedBytes = readBytes(in, recordLength);
+		offset += 4 + (seedBytes == null ? 0 : seedBytes.length);
+		int sampleLength = in.readInt();
+		offset += 4;
+		long sampleOffset = offset;
+		if (sampleLength != NULL_LENGTH) {
+			if (sampleLength < 0 || sampleLength > recordLength) {
+				throw new IOException(String.format("Invalid sample length [%s]", sampleLength));
+			}
+			skipFully(in, sampleLength);
+			offset += sampleLength;
+		}
+		if (offset - position - 4 != recordLength) {
+			throw new IOException("Record length does not match its content");
+		}
+		return new StoredTestRun(toString(uniqueIdBytes), status, recordedAt, toString(seedBytes), sampleOffset, sampleLength);
+	}
+
+	private static Status readStatus(byte ordinal) throws IOException {
+		Status[] values = Status.values();
+		if (ordinal < 0 || ordinal >= values.length) {
+			throw new IOException(String.format("Unknown status [%s]", ordinal));
+		}
+		return values[ordinal];
+	}
+
+	private static void writeString(DataOutput out, String string) throws IOException {
+		if (string == null) {
+			out.writeInt(NULL_LENGTH);
+			return;
+		}
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static byte[] readBytes(DataInput in, int maxLength) throws IOException {
+		int length = in.readInt();
+		if (length == NULL_LENGTH) {
+			return null;
+		}
+		if (length < 0 || length > maxLength) {
+			throw new IOException(String.format("Invalid length [%s]", length));
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return bytes;
+	}
+
+	private static String toString(byte[] utf8Bytes) {
+		return utf8Bytes == null ? null : new String(utf8Bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void skipFully(DataInputStream in, int length) throws IOException {
+		int remaining = length;
+		while (remaining > 0) {
+			int skipped = in.skipBytes(remaining);
+			if (skipped <= 0) {
+				if (in.read() < 0) {
+					throw new EOFException();
+				}
+				skipped = 1;
+			}
+			remaining -= skipped;
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package net.jqwik.engine.support;
+
+import java.time.*;
+import java.util.regex.*;
+
+import net.jqwik.api.*;
+
+public class JqwikDurationSupport {
+
+	private static final Pattern DURATION_PATTERN = Pattern.compile("(\\d+)\\s*(ms|s|m|h)?");
+
+	/**
+	 * Parse a duration like {@code "500ms"}, {@code "30s"}, {@code "2m"} or {@code "1h"}.
+	 * A number without unit is taken as seconds.
+	 *
+	 * @throws JqwikException if the string cannot be parsed
+	 */
+	public static Duration parseDuration(String durationString) {
+		Matcher matcher = DURATION_PATTERN.matcher(durationString.trim());
+		if (!matcher.matches()) {
+			String message = String.format("Cannot parse duration [%s]. Use a format like '500ms', '30s', '2m' or '1h'.", durationString);
+			throw new JqwikException(message);
+		}
+		long amount = Long.parseLong(matcher.group(1));
+		String unit = matcher.group(2) == null ? "s" : matcher.group(2);
+		switch (unit) {
+			case "ms":
+				return Duration.ofMillis(amount);
+			case "m":
+				return Duration.ofMinutes(amount);
+			case "h":
+				return Duration.ofHours(amount);
+			default:
+				return Duration.ofSeconds(amount);
+		}
+	}
+
+	public static String displayString(Duration duration) {
+		long millis = duration.toMillis();
+		if (millis % 1000 != 0) {
+			return millis + "ms";
+		}
+		return millis / 1000 + "s";
+	}
+}
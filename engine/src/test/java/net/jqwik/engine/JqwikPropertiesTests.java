@@ -1,6 +1,10 @@
 package net.jqwik.engine;
 
+import java.time.*;
+
 import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -21,5 +25,11 @@ class JqwikPropertiesTests {
 		assertThat(properties.useJunitPlatformReporter()).isEqualTo(false);
 
 		assertThat(properties.defaultAfterFailure()).isEqualTo(AfterFailureMode.PREVIOUS_SEED);
+		assertThat(properties.defaultParallelism()).isEqualTo(1);
+		assertThat(properties.executionParallelism()).isEqualTo(1);
+		assertThat(properties.defaultShrinkingTimeout()).isEqualTo(Duration.ZERO);
+		assertThat(properties.randomAlgorithm()).isEqualTo(RandomAlgorithm.SPLIT_MIX);
+		assertThat(properties.defaultEdgeCaseTries()).isEqualTo(50);
+		assertThat(properties.shrinkingCandidateEvaluation()).isEqualTo(CandidateEvaluation.LAZY);
 	}
 }
@@ -1,6 +1,7 @@
 package net.jqwik.engine;
 
 import java.lang.reflect.*;
+import java.time.*;
 import java.util.*;
 import java.util.function.*;
 import java.util.stream.*;
@@ -12,6 +13,7 @@ import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.engine.support.*;
 
 public class TestHelper {
@@ -49,7 +51,7 @@ public class TestHelper {
 	) {
 		UniqueId uniqueId = UniqueId.root("test", "i dont care");
 		Method method = getMethod(containerClass, methodName);
-		PropertyConfiguration propertyConfig = new PropertyConfiguration("Property", seed, null, null, tries, maxDiscardRatio, shrinking, GenerationMode.AUTO, AfterFailureMode.PREVIOUS_SEED);
+		PropertyConfiguration propertyConfig = new PropertyConfiguration("Property", seed, null, null, tries, maxDiscardRatio, shrinking, GenerationMode.AUTO, AfterFailureMode.PREVIOUS_SEED, 1, Duration.ZERO, 0, ShrinkingEngine.SHRINKABLES, RandomAlgorithm.DEFAULT, CandidateEvaluation.LAZY);
 		return new PropertyMethodDescriptor(uniqueId, method, containerClass, propertyConfig);
 	}
 
@@ -1,6 +1,9 @@
 package net.jqwik.engine.execution;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
 
 import org.junit.platform.engine.*;
 import org.mockito.*;
@@ -113,4 +116,76 @@ class ExecutionPipelineTests {
 
 	}
 
+	@Group
+	class Concurrently {
+
+		private ExecutionPipeline concurrentPipeline = new ExecutionPipeline(listener, 4);
+
+		@Example
+		void predecessorsAreFinishedBeforeTaskIsStarted() {
+			MockExecutionTask task1 = new MockExecutionTask("1");
+			MockExecutionTask task2 = new MockExecutionTask("2");
+			MockExecutionTask task3 = new MockExecutionTask("3");
+			concurrentPipeline.submit(task3, task2);
+			concurrentPipeline.submit(task2, task1);
+			concurrentPipeline.submit(task1);
+			concurrentPipeline.runToTermination();
+
+			InOrder events = Mockito.inOrder(listener);
+			events.verify(listener).executionStarted(task1);
+			events.verify(listener).executionStarted(task2);
+			events.verify(listener).executionStarted(task3);
+		}
+
+		@Example
+		void independentTasksAreExecutedAtTheSameTime() {
+			CountDownLatch bothStarted = new CountDownLatch(2);
+			AtomicInteger countMet = new AtomicInteger(0);
+			Consumer<PropertyExecutionListener> awaitOtherTask = listener -> {
+				bothStarted.countDown();
+				try {
+					if (bothStarted.await(10, TimeUnit.SECONDS))
+						countMet.incrementAndGet();
+				} catch (InterruptedException ignore) {
+				}
+			};
+			concurrentPipeline.submit(ExecutionTask.from(awaitOtherTask, UniqueId.root("test", "1"), "task 1"));
+			concurrentPipeline.submit(ExecutionTask.from(awaitOtherTask, UniqueId.root("test", "2"), "task 2"));
+			concurrentPipeline.runToTermination();
+
+			assertThat(countMet.get()).isEqualTo(2);
+		}
+
+		@Example
+		void tasksWithSameSerializationKeyAreNotExecutedAtTheSameTime() {
+			AtomicInteger countRunning = new AtomicInteger(0);
+			AtomicInteger maxRunning = new AtomicInteger(0);
+			Consumer<PropertyExecutionListener> countingTask = listener -> {
+				maxRunning.accumulateAndGet(countRunning.incrementAndGet(), Math::max);
+				try {
+					Thread.sleep(5);
+				} catch (InterruptedException ignore) {
+				}
+				countRunning.decrementAndGet();
+			};
+			for (int i = 0; i < 10; i++) {
+				UniqueId ownerId = UniqueId.root("test", Integer.toString(i));
+				concurrentPipeline.submit(ExecutionTask.from(countingTask, ownerId, "same key", "task " + i));
+			}
+			concurrentPipeline.runToTermination();
+
+			assertThat(maxRunning.get()).isEqualTo(1);
+		}
+
+		@Example
+		void exceptionInTaskIsRethrown() {
+			JqwikException exception = new JqwikException("failing task");
+			concurrentPipeline.submit(ExecutionTask.from(listener -> {
+				throw exception;
+			}, UniqueId.root("test", "1"), "failing task"));
+
+			assertThatThrownBy(() -> concurrentPipeline.runToTermination()).isSameAs(exception);
+		}
+	}
+
 }
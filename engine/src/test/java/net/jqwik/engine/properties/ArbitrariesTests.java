@@ -278,6 +278,32 @@ class ArbitrariesTests {
 			assertThatThrownBy(() -> Arbitraries.frequency(Tuple.of(0, "a"))).isInstanceOf(JqwikException.class);
 		}
 
+		@Property(tries = 10)
+		void manyPairs() {
+			List<Tuple.Tuple2<Integer, Integer>> frequencies = new ArrayList<>();
+			for (int i = 0; i < 200; i++) {
+				frequencies.add(Tuple.of(i % 2 == 0 ? 0 : i, i));
+			}
+			Arbitrary<Integer> many = Arbitraries.frequency(frequencies);
+
+			Map<Integer, Long> counts = ArbitraryTestHelper.count(many.generator(1000), 10000);
+			assertThat(counts.keySet()).allMatch(value -> value % 2 == 1);
+			assertThat(counts.get(199)).isGreaterThan(counts.getOrDefault(1, 0L));
+		}
+
+		@Property(tries = 10)
+		void sameValueInSeveralPairs() {
+			Arbitrary<String> one = Arbitraries.frequency(Tuple.of(1, "a"), Tuple.of(1, "b"), Tuple.of(2, "a"));
+			Map<String, Long> counts = ArbitraryTestHelper.count(one.generator(1000), 1000);
+			assertThat(counts.get("a")).isGreaterThan(counts.get("b"));
+		}
+
+		@Example
+		void sumOfFrequenciesMustNotOverflow() {
+			assertThatThrownBy(() -> Arbitraries.frequency(Tuple.of(Integer.MAX_VALUE, "a"), Tuple.of(1, "b")))
+				.isInstanceOf(JqwikException.class);
+		}
+
 	}
 
 	@Group
@@ -438,6 +464,47 @@ class ArbitrariesTests {
 			ArbitraryTestHelper.assertAllGenerated(generator, value -> value >= -100L && value <= 100L);
 		}
 
+		@Example
+		void longsWithSingleValuePartition() {
+			// The default partition point 10 leaves a partition with the single value 9
+			Arbitrary<Long> longArbitrary = Arbitraries.longs().between(9L, 20L);
+			RandomGenerator<Long> generator = longArbitrary.generator(1);
+
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value == 9L);
+			ArbitraryTestHelper.assertAllGenerated(generator, value -> value >= 9L && value <= 20L);
+		}
+
+		@Example
+		void integersMultipleOf() {
+			Arbitrary<Integer> intArbitrary = Arbitraries.integers().between(-100, 1000).multipleOf(7);
+			RandomGenerator<Integer> generator = intArbitrary.generator(1000);
+
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value < 0);
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value > 500);
+			ArbitraryTestHelper.assertAllGenerated(generator, value -> value % 7 == 0 && value >= -100 && value <= 1000);
+		}
+
+		@Example
+		void longsMultipleOf() {
+			Arbitrary<Long> longArbitrary = Arbitraries.longs().multipleOf(1000L);
+			RandomGenerator<Long> generator = longArbitrary.generator(1000);
+
+			ArbitraryTestHelper.assertAllGenerated(generator, value -> value % 1000L == 0);
+		}
+
+		@Example
+		void multiplesAreShrunkToMultiples() {
+			Arbitrary<Integer> intArbitrary = Arbitraries.integers().between(10, 1000).multipleOf(7);
+			ArbitraryTestHelper.assertAllValuesAreShrunkTo(14, intArbitrary, random);
+		}
+
+		@Example
+		void failIfThereIsNoMultipleInRange() {
+			Arbitrary<Integer> intArbitrary = Arbitraries.integers().between(1, 6).multipleOf(7);
+
+			assertThatThrownBy(() -> intArbitrary.generator(1000)).isInstanceOf(JqwikException.class);
+		}
+
 		@Example
 		void bigIntegers() {
 			Arbitrary<BigInteger> bigIntegerArbitrary = Arbitraries.bigIntegers().between(valueOf(-100L), valueOf(100L));
@@ -520,6 +587,33 @@ class ArbitrariesTests {
 			});
 		}
 
+		@Example
+		void doublesWithStandardSpecialValues() {
+			Arbitrary<Double> doubleArbitrary = Arbitraries.doubles().between(-10.0, 10.0).withStandardSpecialValues();
+			RandomGenerator<Double> generator = doubleArbitrary.generator(10);
+
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value.isNaN());
+			ArbitraryTestHelper.assertAtLeastOneGeneratedOf(
+				generator,
+				-0.0, Double.MIN_VALUE, Double.MIN_NORMAL, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY
+			);
+		}
+
+		@Example
+		void floatsWithSpecialValue() {
+			Arbitrary<Float> floatArbitrary = Arbitraries.floats().between(-10.0f, 10.0f).withSpecialValue(Float.NaN);
+			RandomGenerator<Float> generator = floatArbitrary.generator(10);
+
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value.isNaN());
+			ArbitraryTestHelper.assertAllGenerated(generator, value -> value.isNaN() || (value >= -10.0f && value <= 10.0f));
+		}
+
+		@Example
+		void doublesRangeWithoutValueOfScaleFails() {
+			Arbitrary<Double> doubleArbitrary = Arbitraries.doubles().between(0.001, 0.005).ofScale(2);
+			assertThatThrownBy(() -> doubleArbitrary.generator(10)).isInstanceOf(JqwikException.class);
+		}
+
 		@Example
 		void bigDecimals() {
 			Arbitrary<BigDecimal> arbitrary = Arbitraries.bigDecimals() //
@@ -559,6 +653,45 @@ class ArbitrariesTests {
 			assertGeneratedSet(generator, 2, 7);
 		}
 
+		@Example
+		void setOfNearlyAllValuesInRange() {
+			Arbitrary<Set<Integer>> setArbitrary = Arbitraries.integers().between(0, 300).set().ofSize(290);
+
+			RandomGenerator<Set<Integer>> generator = setArbitrary.generator(1000);
+
+			ArbitraryTestHelper.assertAllGenerated(generator, set -> {
+				assertThat(set).hasSize(290);
+				assertThat(set).allMatch(anInt -> anInt >= 0 && anInt <= 300);
+			});
+		}
+
+		@Example
+		void setSizeIsLimitedByNumberOfDistinctElements() {
+			Arbitrary<Set<String>> setArbitrary = Arbitraries.of("a", "b", "c").set();
+
+			RandomGenerator<Set<String>> generator = setArbitrary.generator(1000);
+
+			ArbitraryTestHelper.assertAllGenerated(generator, set -> {
+				assertThat(set.size()).isLessThanOrEqualTo(3);
+			});
+		}
+
+		@Example
+		void setThatCannotReachMinSizeFails() {
+			Arbitrary<Set<Integer>> setArbitrary = Arbitraries.integers().between(1, 10).set().ofMinSize(11);
+
+			assertThatThrownBy(() -> setArbitrary.generator(1000)).isInstanceOf(JqwikException.class);
+		}
+
+		@Example
+		void setWithOpaqueElementsFailsWhenTooManyDuplicatesAreGenerated() {
+			Arbitrary<Set<Integer>> setArbitrary = Arbitraries.randomValue(random -> random.nextInt(5)).set().ofSize(6);
+
+			RandomGenerator<Set<Integer>> generator = setArbitrary.generator(1000);
+
+			assertThatThrownBy(() -> generator.next(random)).isInstanceOf(TooManyFilterMissesException.class);
+		}
+
 		@Example
 		void stream() {
 			Arbitrary<Integer> integerArbitrary = Arbitraries.integers().between(1, 10);
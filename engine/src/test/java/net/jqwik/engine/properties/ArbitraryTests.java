@@ -6,6 +6,7 @@ import java.util.stream.*;
 import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
 import net.jqwik.api.arbitraries.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -130,6 +131,50 @@ class ArbitraryTests {
 			assertThatThrownBy(() -> generator.next(random)).isInstanceOf(JqwikException.class);
 		}
 
+		@Example
+		void uniqueValuesOfDenseRangeAreGeneratedWithoutMisses() {
+			RandomGenerator<Integer> generator = Arbitraries.integers().between(1, 1000).unique().generator(1000);
+
+			Set<Integer> generatedValues =
+				generator.stream(random)
+						 .map(Shrinkable::value)
+						 .limit(1000)
+						 .collect(Collectors.toSet());
+
+			assertThat(generatedValues).hasSize(1000);
+			assertThatThrownBy(() -> generator.next(random))
+				.isInstanceOf(TooManyFilterMissesException.class)
+				.hasMessageContaining("already generated all 1000 values");
+		}
+
+		@Example
+		void allBytesCanBeGeneratedUniquely() {
+			RandomGenerator<Byte> generator = Arbitraries.bytes().unique().generator(1000);
+
+			Set<Byte> generatedValues =
+				generator.stream(random)
+						 .map(Shrinkable::value)
+						 .limit(256)
+						 .collect(Collectors.toSet());
+
+			assertThat(generatedValues).hasSize(256);
+		}
+
+		@Example
+		void uniqueValuesAreForgottenWhenScopeEnds() {
+			RandomGenerator<Integer> generator = Arbitraries.integers().between(1, 5).unique().generator(10);
+
+			for (int i = 0; i < 3; i++) {
+				Set<Integer> generatedValues = UniquenessScope.runInScope(
+					() -> generator.stream(random)
+								   .map(Shrinkable::value)
+								   .limit(5)
+								   .collect(Collectors.toSet())
+				);
+				assertThat(generatedValues).containsExactlyInAnyOrder(1, 2, 3, 4, 5);
+			}
+		}
+
 		@Property(generation = RANDOMIZED)
 		void uniquenessIsResetPerTry(@ForAll("uniqueIntegers") int anInt) {
 		}
@@ -146,7 +146,49 @@ class CheckedPropertyTests {
 			assertThat(check.randomSeed()).isEqualTo("414243");
 
 			assertThat(check.status()).isEqualTo(SATISFIED);
-			assertThat(allGeneratedInts).containsExactly(5, 22, 10, 4, 43, 70, -66, -75, -11, -65, 93, -61, -5, 37, -2, -9, -86, 10, -10, -4);
+			assertThat(allGeneratedInts).containsExactly(-70, -26, 26, -69, 2, -4, -9, -3, 9, -77, 48, 2, -31, -2, -69, 47, 5, 92, -3, 0);
+		}
+
+		@Example
+		void sameSeedReportsSameFalsifiedSampleRegardlessOfParallelism() {
+			PropertyCheckResult sequential = checkWithParallelism(1);
+			PropertyCheckResult parallel = checkWithParallelism(4);
+
+			assertThat(sequential.status()).isEqualTo(FALSIFIED);
+			assertThat(parallel.status()).isEqualTo(FALSIFIED);
+			assertThat(parallel.sample()).isEqualTo(sequential.sample());
+			assertThat(parallel.countTries()).isEqualTo(sequential.countTries());
+		}
+
+		private PropertyCheckResult checkWithParallelism(int parallelism) {
+			CheckedFunction largeSumFails = params -> ((int) params.get(0)) + ((int) params.get(1)) < 1500;
+			CheckedProperty checkedProperty = new CheckedProperty(
+				"prop2", largeSumFails, getParametersForMethod("prop2"),
+				p -> Collections.singleton(new GenericArbitrary(Arbitraries.integers().between(0, 1000))),
+				Optional.empty(),
+				aConfig().withSeed("414243").withTries(1000).withEdgeCaseTries(0)
+						 .withShrinking(ShrinkingMode.OFF).withParallelism(parallelism).build()
+			);
+			return checkedProperty.check(NULL_PUBLISHER, new Reporting[0]);
+		}
+
+		@Example
+		void valuesAreGeneratedWithConfiguredRandomAlgorithm() {
+			assertThat(randomClassesUsedBy(RandomAlgorithm.JAVA_UTIL_RANDOM)).isEqualTo(Collections.singleton(Random.class));
+			assertThat(randomClassesUsedBy(RandomAlgorithm.SPLIT_MIX)).isEqualTo(Collections.singleton(SplitMixRandom.class));
+		}
+
+		private Set<Object> randomClassesUsedBy(RandomAlgorithm randomAlgorithm) {
+			Set<Object> randomClasses = new HashSet<>();
+			CheckedFunction collectRandomClasses = params -> randomClasses.add(params.get(0)) || true;
+			CheckedProperty checkedProperty = new CheckedProperty(
+				"prop1", collectRandomClasses, getParametersForMethod("prop1"),
+				p -> Collections.singleton(new GenericArbitrary(Arbitraries.randomValue(Random::getClass))),
+				Optional.empty(),
+				aConfig().withTries(10).withRandomAlgorithm(randomAlgorithm).build()
+			);
+			checkedProperty.check(NULL_PUBLISHER, new Reporting[0]);
+			return randomClasses;
 		}
 
 		@Example
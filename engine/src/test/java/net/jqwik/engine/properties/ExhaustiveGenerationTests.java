@@ -754,6 +754,18 @@ class ExhaustiveGenerationTests {
 	@Group
 	@Label("Arbitraries.strings()")
 	class Strings {
+		@Example
+		void overlappingCharactersAreGeneratedOnce() {
+			Optional<ExhaustiveGenerator<String>> optionalGenerator =
+				Arbitraries.strings().withChars('a', 'b').withCharRange('a', 'c').ofLength(1)
+						   .exhaustive();
+			assertThat(optionalGenerator).isPresent();
+
+			ExhaustiveGenerator<String> generator = optionalGenerator.get();
+			assertThat(generator.maxCount()).isEqualTo(3);
+			assertThat(generator).containsExactly("a", "b", "c");
+		}
+
 		@Example
 		void generateAllPossibleStrings() {
 			Optional<ExhaustiveGenerator<String>> optionalGenerator =
@@ -11,6 +11,7 @@ import org.mockito.*;
 
 import net.jqwik.api.*;
 import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -53,6 +54,28 @@ class GenericPropertyTests {
 		StatisticsCollector.clearAll();
 	}
 
+	@Example
+	void reportFilterAcceptance() {
+		ForAllSpy forAllFunction = new ForAllSpy(value -> true, value -> true);
+
+		Arbitrary<Integer> arbitrary = Arbitraries.integers().between(1, 100).filter(anInt -> anInt % 10 == 0);
+		ShrinkablesGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+		GenericProperty property = new GenericProperty("filtered", aConfig().build(), shrinkablesGenerator, forAllFunction);
+		Consumer<ReportEntry> mockPublisher = mock(Consumer.class);
+
+		property.check(mockPublisher, new Reporting[0]);
+
+		ArgumentCaptor<ReportEntry> reportEntryCaptor = ArgumentCaptor.forClass(ReportEntry.class);
+		verify(mockPublisher, atLeast(2)).accept(reportEntryCaptor.capture());
+
+		Set<String> keys = reportEntryCaptor.getAllValues().stream() //
+											.flatMap(entry -> entry.getKeyValuePairs().keySet().stream()) //
+											.collect(Collectors.toSet());
+
+		Assertions.assertThat(keys).contains(FilterStatistics.KEY_FILTER_ACCEPTANCE);
+	}
+
 	@Group
 	class OneParameter {
 
@@ -453,6 +476,119 @@ class GenericPropertyTests {
 
 	}
 
+	@Group
+	class Parallel {
+
+		@Example
+		void satisfied() {
+			AtomicInteger countCalls = new AtomicInteger(0);
+			CheckedFunction checkedFunction = params -> {
+				countCalls.incrementAndGet();
+				return true;
+			};
+
+			Arbitrary<Integer> arbitrary = Arbitraries.integers().between(1, 100);
+			ShrinkablesGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(50).withParallelism(4).build();
+			GenericProperty property = new GenericProperty("satisfied property", configuration, shrinkablesGenerator, checkedFunction);
+			PropertyCheckResult result = property.check(NULL_PUBLISHER, new Reporting[0]);
+
+			assertThat(countCalls.get()).isEqualTo(50);
+			assertThat(result.status()).isEqualTo(PropertyCheckResult.Status.SATISFIED);
+			assertThat(result.countTries()).isEqualTo(50);
+			assertThat(result.countChecks()).isEqualTo(50);
+		}
+
+		@Example
+		void failureWithLowestTryIndexIsReported() {
+			CheckedFunction checkedFunction = params -> {
+				int value = (int) params.get(0);
+				// Let later tries finish first
+				sleep(40 - value);
+				return value % 7 != 0;
+			};
+
+			ShrinkablesGenerator shrinkablesGenerator = finiteShrinkablesGenerator(IntStream.rangeClosed(1, 40).toArray());
+
+			PropertyConfiguration configuration = aConfig().withTries(40).withParallelism(4).build();
+			GenericProperty property = new GenericProperty("falsified property", configuration, shrinkablesGenerator, checkedFunction);
+			PropertyCheckResult result = property.check(NULL_PUBLISHER, new Reporting[0]);
+
+			assertThat(result.status()).isEqualTo(PropertyCheckResult.Status.FALSIFIED);
+			assertThat(result.countTries()).isEqualTo(7);
+			assertThat(result.countChecks()).isEqualTo(7);
+			assertThat(result.originalSample().get()).containsExactly(7);
+		}
+
+		@Example
+		void sameSeedGivesSameSampleRegardlessOfParallelism() {
+			Arbitrary<Integer> arbitrary = Arbitraries.integers().between(1, 10000);
+			CheckedFunction checkedFunction = params -> ((int) params.get(0)) < 9000;
+
+			List<Object> originalSample = null;
+			for (int parallelism : new int[]{2, 3, 8}) {
+				ShrinkablesGenerator shrinkablesGenerator = perTryShrinkablesGenerator("4242", arbitrary);
+				PropertyConfiguration configuration = aConfig().withParallelism(parallelism).build();
+				GenericProperty property = new GenericProperty("falsified property", configuration, shrinkablesGenerator, checkedFunction);
+				PropertyCheckResult result = property.check(NULL_PUBLISHER, new Reporting[0]);
+
+				assertThat(result.status()).isEqualTo(PropertyCheckResult.Status.FALSIFIED);
+				assertThat(result.sample().get()).containsExactly(9000);
+				if (originalSample == null) {
+					originalSample = result.originalSample().get();
+				}
+				assertThat(result.originalSample().get()).isEqualTo(originalSample);
+			}
+		}
+
+		@Example
+		void statisticsAreCollectedFromAllThreads() {
+			CheckedFunction checkedFunction = params -> {
+				Statistics.collect(((int) params.get(0)) % 2 == 0);
+				return true;
+			};
+
+			ShrinkablesGenerator shrinkablesGenerator = finiteShrinkablesGenerator(IntStream.rangeClosed(1, 40).toArray());
+
+			PropertyConfiguration configuration = aConfig().withTries(40).withParallelism(4).build();
+			GenericProperty property = new GenericProperty("property with statistics", configuration, shrinkablesGenerator, checkedFunction);
+			property.check(NULL_PUBLISHER, new Reporting[0]);
+
+			Map<List<Object>, Integer> counts = StatisticsCollector.get().getCounts();
+			assertThat(counts.get(Collections.singletonList(true))).isEqualTo(20);
+			assertThat(counts.get(Collections.singletonList(false))).isEqualTo(20);
+
+			// Remove statistics from this test from ThreadLocal<Collector>:
+			StatisticsCollector.clearAll();
+		}
+
+		private void sleep(int millis) {
+			try {
+				Thread.sleep(millis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private ShrinkablesGenerator perTryShrinkablesGenerator(String seed, Arbitrary<?> arbitrary) {
+		Supplier<Random> randomPerTry = SourceOfRandomness.createPerTry(seed);
+		RandomGenerator<?> generator = arbitrary.generator(9999);
+
+		return new ShrinkablesGenerator() {
+			@Override
+			public boolean hasNext() {
+				return true;
+			}
+
+			@Override
+			public List<Shrinkable> next() {
+				return Collections.singletonList(generator.next(randomPerTry.get()));
+			}
+		};
+	}
+
 	private ShrinkablesGenerator randomizedShrinkablesGenerator(Arbitrary... arbitraries) {
 		Random random = SourceOfRandomness.current();
 		List<Arbitrary> arbitraryList = Arrays.stream(arbitraries).collect(Collectors.toList());
@@ -1,9 +1,11 @@
 package net.jqwik.engine.properties;
 
+import java.time.*;
 import java.util.*;
 
 import net.jqwik.api.*;
 import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 class PropertyConfigurationBuilder {
 
@@ -19,6 +21,12 @@ class PropertyConfigurationBuilder {
 	private ShrinkingMode shrinkingMode = ShrinkingMode.FULL;
 	private GenerationMode generationMode = GenerationMode.AUTO;
 	private AfterFailureMode afterFailureMode = AfterFailureMode.PREVIOUS_SEED;
+	private int parallelism = 1;
+	private Duration shrinkingTimeout = Duration.ZERO;
+	private int edgeCaseTries = 0;
+	private ShrinkingEngine shrinkingEngine = ShrinkingEngine.SHRINKABLES;
+	private RandomAlgorithm randomAlgorithm = RandomAlgorithm.DEFAULT;
+	private CandidateEvaluation candidateEvaluation = CandidateEvaluation.LAZY;
 
 
 	PropertyConfigurationBuilder withSeed(String seed) {
@@ -61,6 +69,36 @@ class PropertyConfigurationBuilder {
 		return this;
 	}
 
+	PropertyConfigurationBuilder withParallelism(int parallelism) {
+		this.parallelism = parallelism;
+		return this;
+	}
+
+	PropertyConfigurationBuilder withShrinkingTimeout(Duration shrinkingTimeout) {
+		this.shrinkingTimeout = shrinkingTimeout;
+		return this;
+	}
+
+	PropertyConfigurationBuilder withEdgeCaseTries(int edgeCaseTries) {
+		this.edgeCaseTries = edgeCaseTries;
+		return this;
+	}
+
+	PropertyConfigurationBuilder withShrinkingEngine(ShrinkingEngine shrinkingEngine) {
+		this.shrinkingEngine = shrinkingEngine;
+		return this;
+	}
+
+	PropertyConfigurationBuilder withRandomAlgorithm(RandomAlgorithm randomAlgorithm) {
+		this.randomAlgorithm = randomAlgorithm;
+		return this;
+	}
+
+	PropertyConfigurationBuilder withCandidateEvaluation(CandidateEvaluation candidateEvaluation) {
+		this.candidateEvaluation = candidateEvaluation;
+		return this;
+	}
+
 	PropertyConfiguration build() {
 		return new PropertyConfiguration(
 			"Property",
@@ -71,7 +109,13 @@ class PropertyConfigurationBuilder {
 			maxDiscardRatio,
 			shrinkingMode,
 			generationMode,
-			afterFailureMode
+			afterFailureMode,
+			parallelism,
+			shrinkingTimeout,
+			edgeCaseTries,
+			shrinkingEngine,
+			randomAlgorithm,
+			candidateEvaluation
 		);
 
 	}
@@ -228,10 +228,7 @@ class RandomGeneratorsTests {
 		}
 
 		private Shrinkable<Integer> createShrinkableInt(int value) {
-			return new ShrinkableBigInteger(
-				valueOf(value),
-				Range.of(valueOf(0), valueOf(1000))
-			).map(BigInteger::intValueExact);
+			return new ShrinkableInt(value, Range.of(0, 1000));
 		}
 	}
 
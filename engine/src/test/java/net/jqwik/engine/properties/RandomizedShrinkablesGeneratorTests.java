@@ -2,6 +2,8 @@ package net.jqwik.engine.properties;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
 import java.util.stream.*;
 
 import org.assertj.core.api.*;
@@ -10,6 +12,7 @@ import net.jqwik.api.*;
 import net.jqwik.api.domains.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.engine.support.*;
 
 import static java.util.Arrays.*;
@@ -107,6 +110,170 @@ class RandomizedShrinkablesGeneratorTests {
 		//assertNeverGenerated(shrinkablesGenerator, random, asList("b", asList("a")));
 	}
 
+	@Example
+	void generatorsAreCreatedOnlyOncePerParameterAndArbitrary(@ForAll Random random) {
+		AtomicInteger createdGenerators = new AtomicInteger(0);
+		ArbitraryResolver arbitraryResolver = new ArbitraryResolver() {
+			@Override
+			public Set<Arbitrary<?>> forParameter(MethodParameter parameter) {
+				Set<Arbitrary<?>> arbitraries = new HashSet<>();
+				arbitraries.add(countingArbitrary(Arbitraries.constant("a"), createdGenerators));
+				arbitraries.add(countingArbitrary(Arbitraries.constant("b"), createdGenerators));
+				return arbitraries;
+			}
+		};
+
+		RandomizedShrinkablesGenerator shrinkablesGenerator = createGenerator(random, "twiceTypeVariableT", arbitraryResolver);
+		for (int i = 0; i < 100; i++) {
+			shrinkablesGenerator.next();
+		}
+
+		assertThat(createdGenerators.get()).isBetween(2, 4);
+	}
+
+	@Example
+	void samplesAreContinuedAcrossTries(@ForAll Random random) {
+		ArbitraryResolver arbitraryResolver = parameter -> Collections.singleton(Arbitraries.of(0).withSamples(1, 2, 3));
+
+		RandomizedShrinkablesGenerator shrinkablesGenerator = createGenerator(random, "twiceTypeVariableT", arbitraryResolver);
+
+		assertThat(values(shrinkablesGenerator.next())).containsExactly(1, 1);
+		assertThat(values(shrinkablesGenerator.next())).containsExactly(2, 2);
+		assertThat(values(shrinkablesGenerator.next())).containsExactly(3, 3);
+		assertThat(values(shrinkablesGenerator.next())).containsExactly(0, 0);
+	}
+
+	@Example
+	void recordingChoicesAllowsToGenerateSameParametersAgain(@ForAll Random random) {
+		RandomizedShrinkablesGenerator shrinkablesGenerator = createGenerator(random, "simpleParameters").recordingChoices();
+
+		List<Shrinkable> shrinkables = shrinkablesGenerator.next();
+
+		assertThat(shrinkables).isInstanceOf(ShrinkablesFromChoices.class);
+		ShrinkablesFromChoices fromChoices = (ShrinkablesFromChoices) shrinkables;
+		Optional<ShrinkablesFromChoices> replayed = fromChoices.replay(fromChoices.choices(), fromChoices.choices().size());
+		assertThat(values(replayed.get())).isEqualTo(values(shrinkables));
+	}
+
+	@Group
+	class EdgeCaseTries {
+
+		private final List<Object> intEdgeCases = asList(0, 1, 2, 3, 4, 5, 10);
+
+		@Example
+		void allCombinationsOfEdgeCasesAreGeneratedFirst(@ForAll Random random) {
+			ArbitraryResolver arbitraryResolver = parameter -> Collections.singleton(Arbitraries.integers().between(0, 10));
+			RandomizedShrinkablesGenerator shrinkablesGenerator = createGenerator(random, "twiceTypeVariableT", arbitraryResolver, 100);
+
+			Set<List<Object>> generated = new HashSet<>();
+			for (int i = 0; i < 49; i++) {
+				generated.add(values(shrinkablesGenerator.next()));
+			}
+
+			assertThat(generated).hasSize(49);
+			for (Object first : intEdgeCases) {
+				for (Object second : intEdgeCases) {
+					assertThat(generated).contains(asList(first, second));
+				}
+			}
+		}
+
+		@Example
+		void tooManyCombinationsAreSampledWithinBudget(@ForAll Random random) {
+			ArbitraryResolver arbitraryResolver = parameter -> Collections.singleton(Arbitraries.integers().between(0, 10));
+			RandomizedShrinkablesGenerator shrinkablesGenerator = createGenerator(random, "twiceTypeVariableT", arbitraryResolver, 10);
+
+			List<List<Object>> generated = new ArrayList<>();
+			for (int i = 0; i < 10; i++) {
+				generated.add(values(shrinkablesGenerator.next()));
+			}
+
+			assertThat(new HashSet<>(generated)).hasSize(10);
+			assertThat(generated.stream().map(values -> values.get(0))).containsAll(intEdgeCases);
+			assertThat(generated.stream().map(values -> values.get(1))).containsAll(intEdgeCases);
+
+			RandomizedShrinkablesGenerator sameBudget = createGenerator(random, "twiceTypeVariableT", arbitraryResolver, 10);
+			for (int i = 0; i < 10; i++) {
+				assertThat(values(sameBudget.next())).isEqualTo(generated.get(i));
+			}
+		}
+
+		@Example
+		void parametersWithoutEdgeCasesAreGeneratedRandomly(@ForAll Random random) {
+			ArbitraryResolver arbitraryResolver = parameter -> {
+				if (parameter.getType().equals(String.class)) {
+					return Collections.singleton(Arbitraries.of("a", "b"));
+				}
+				return Collections.singleton(Arbitraries.integers().between(0, 10));
+			};
+			RandomizedShrinkablesGenerator shrinkablesGenerator = createGenerator(random, "simpleParameters", arbitraryResolver, 100);
+
+			List<Object> generatedInts = new ArrayList<>();
+			for (int i = 0; i < 7; i++) {
+				List<Object> values = values(shrinkablesGenerator.next());
+				assertThat(values.get(0)).isIn("a", "b");
+				generatedInts.add(values.get(1));
+			}
+
+			assertThat(generatedInts).containsExactlyInAnyOrderElementsOf(intEdgeCases);
+		}
+
+		@Example
+		void mappedAndFilteredArbitrariesKeepTheirEdgeCases(@ForAll Random random) {
+			ArbitraryResolver arbitraryResolver =
+				parameter -> Collections.singleton(Arbitraries.integers().between(0, 10).filter(i -> i > 3).map(i -> i * 10));
+			RandomizedShrinkablesGenerator shrinkablesGenerator = createGenerator(random, "twiceTypeVariableT", arbitraryResolver, 100);
+
+			assertThat(values(shrinkablesGenerator.next())).containsExactly(100, 100);
+			assertThat(values(shrinkablesGenerator.next())).containsExactly(100, 50);
+			assertThat(values(shrinkablesGenerator.next())).containsExactly(100, 40);
+		}
+
+		@Example
+		void laterTriesWithRandomPerTryDoNotDependOnEdgeCaseTries() {
+			ArbitraryResolver arbitraryResolver = parameter -> Collections.singleton(Arbitraries.integers().between(0, 10000));
+			List<MethodParameter> parameters = TestHelper.getParameters(createDescriptor("twiceTypeVariableT"));
+			RandomizedShrinkablesGenerator withEdgeCases = RandomizedShrinkablesGenerator.forParameters(
+				parameters, arbitraryResolver, SourceOfRandomness.createPerTry("42"), 1000, 10
+			);
+			RandomizedShrinkablesGenerator withoutEdgeCases = RandomizedShrinkablesGenerator.forParameters(
+				parameters, arbitraryResolver, SourceOfRandomness.createPerTry("42"), 1000, 0
+			);
+
+			for (int i = 0; i < 10; i++) {
+				withEdgeCases.next();
+				withoutEdgeCases.next();
+			}
+
+			for (int i = 0; i < 10; i++) {
+				assertThat(values(withEdgeCases.next())).isEqualTo(values(withoutEdgeCases.next()));
+			}
+		}
+
+		@Example
+		void noEdgeCaseTriesWithoutBudget(@ForAll Random random) {
+			ArbitraryResolver arbitraryResolver = parameter -> Collections.singleton(Arbitraries.integers().between(0, 10000));
+			RandomizedShrinkablesGenerator shrinkablesGenerator = createGenerator(random, "twiceTypeVariableT", arbitraryResolver, 0);
+
+			assertAtLeastOneGenerated(shrinkablesGenerator, values -> values.stream().allMatch(value -> (int) value > 10));
+		}
+	}
+
+	private static <T> Arbitrary<T> countingArbitrary(Arbitrary<T> arbitrary, AtomicInteger createdGenerators) {
+		return new Arbitrary<T>() {
+			@Override
+			public RandomGenerator<T> generator(int genSize) {
+				createdGenerators.incrementAndGet();
+				return arbitrary.generator(genSize);
+			}
+
+			@Override
+			public Optional<ExhaustiveGenerator<T>> exhaustive() {
+				return arbitrary.exhaustive();
+			}
+		};
+	}
+
 	private void assertAtLeastOneGenerated(ShrinkablesGenerator generator, List expected) {
 		for (int i = 0; i < 500; i++) {
 			List<Shrinkable> shrinkables = generator.next();
@@ -116,6 +283,15 @@ class RandomizedShrinkablesGeneratorTests {
 		fail("Failed to generate at least once");
 	}
 
+	private void assertAtLeastOneGenerated(ShrinkablesGenerator generator, Predicate<List<Object>> condition) {
+		for (int i = 0; i < 500; i++) {
+			List<Shrinkable> shrinkables = generator.next();
+			if (condition.test(values(shrinkables)))
+				return;
+		}
+		fail("Failed to generate at least once");
+	}
+
 	private void assertNeverGenerated(ShrinkablesGenerator generator, List expected) {
 		for (int i = 0; i < 500; i++) {
 			List<Shrinkable> shrinkables = generator.next();
@@ -137,10 +313,19 @@ class RandomizedShrinkablesGeneratorTests {
 	}
 
 	private RandomizedShrinkablesGenerator createGenerator(Random random, String methodName, ArbitraryResolver arbitraryResolver) {
+		return createGenerator(random, methodName, arbitraryResolver, 0);
+	}
+
+	private RandomizedShrinkablesGenerator createGenerator(
+		Random random,
+		String methodName,
+		ArbitraryResolver arbitraryResolver,
+		int edgeCaseTries
+	) {
 		PropertyMethodDescriptor methodDescriptor = createDescriptor(methodName);
 		List<MethodParameter> parameters = TestHelper.getParameters(methodDescriptor);
 
-		return RandomizedShrinkablesGenerator.forParameters(parameters, arbitraryResolver, random, 1000);
+		return RandomizedShrinkablesGenerator.forParameters(parameters, arbitraryResolver, random, 1000, edgeCaseTries);
 	}
 
 	private PropertyMethodDescriptor createDescriptor(String methodName) {
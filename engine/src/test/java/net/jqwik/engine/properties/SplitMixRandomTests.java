@@ -0,0 +1,70 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SplitMixRandomTests {
+
+	@Property
+	void sameSeedProducesSameValues(@ForAll long seed) {
+		Random random1 = new SplitMixRandom(seed);
+		Random random2 = new SplitMixRandom(seed);
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(random1.nextLong()).isEqualTo(random2.nextLong());
+			assertThat(random1.nextInt(100)).isEqualTo(random2.nextInt(100));
+			assertThat(random1.nextDouble()).isEqualTo(random2.nextDouble());
+		}
+	}
+
+	@Property
+	void producesSameValuesAsSplittableRandom(@ForAll long seed) {
+		SplitMixRandom random = new SplitMixRandom(seed);
+		SplittableRandom splittableRandom = new SplittableRandom(seed);
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(random.nextLong()).isEqualTo(splittableRandom.nextLong());
+			assertThat(random.nextInt()).isEqualTo(splittableRandom.nextInt());
+		}
+
+		SplitMixRandom split = random.split();
+		SplittableRandom splitSplittable = splittableRandom.split();
+		for (int i = 0; i < 10; i++) {
+			assertThat(split.nextLong()).isEqualTo(splitSplittable.nextLong());
+		}
+	}
+
+	@Property
+	void splitRandomIsDeterministicAndIndependentOfParent(@ForAll long seed) {
+		SplitMixRandom parent = new SplitMixRandom(seed);
+		SplitMixRandom split = parent.split();
+		SplitMixRandom splitAgain = new SplitMixRandom(seed).split();
+
+		long[] splitValues = {split.nextLong(), split.nextLong(), split.nextLong()};
+		assertThat(new long[]{splitAgain.nextLong(), splitAgain.nextLong(), splitAgain.nextLong()}).isEqualTo(splitValues);
+		assertThat(new long[]{parent.nextLong(), parent.nextLong(), parent.nextLong()}).isNotEqualTo(splitValues);
+	}
+
+	@Example
+	void setSeedRestartsSequence() {
+		Random random = new SplitMixRandom(42);
+		long first = random.nextLong();
+		random.nextLong();
+
+		random.setSeed(42);
+		assertThat(random.nextLong()).isEqualTo(first);
+	}
+
+	@Property
+	void boundedValuesStayWithinBounds(@ForAll long seed) {
+		Random random = new SplitMixRandom(seed);
+		for (int i = 0; i < 100; i++) {
+			assertThat(random.nextInt(7)).isBetween(0, 6);
+			assertThat(random.nextDouble()).isGreaterThanOrEqualTo(0.0).isLessThan(1.0);
+			assertThat(random.nextFloat()).isGreaterThanOrEqualTo(0.0f).isLessThan(1.0f);
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package net.jqwik.engine.properties.arbitraries;
 
+import java.util.*;
+
 import org.assertj.core.api.*;
 
 import net.jqwik.api.*;
@@ -132,4 +134,17 @@ class DefaultStringArbitraryTests {
 		assertAtLeastOneGenerated(stringArbitrary.generator(10), s -> s.contains(Character.toString('\t')));
 	}
 
+	@Example
+	void charactersShrinkTowardsSmallestCharacterOfAllRanges(@ForAll Random random) {
+		StringArbitrary stringArbitrary = this.arbitrary.alpha().ofLength(3);
+		assertAllValuesAreShrunkTo("AAA", stringArbitrary, random);
+	}
+
+	@Example
+	void charactersAndRangesAreMerged(@ForAll Random random) {
+		StringArbitrary stringArbitrary = this.arbitrary.withChars('x', 'c', 'b').withCharRange('c', 'z').ofLength(2);
+		assertAllGenerated(stringArbitrary.generator(10), s -> s.chars().allMatch(c -> c >= 'b' && c <= 'z'));
+		assertAllValuesAreShrunkTo("bb", stringArbitrary, random);
+	}
+
 }
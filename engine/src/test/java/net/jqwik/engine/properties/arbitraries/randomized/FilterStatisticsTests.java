@@ -0,0 +1,105 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.function.*;
+
+import org.junit.platform.engine.reporting.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FilterStatisticsTests {
+
+	private final Random random = SourceOfRandomness.current();
+
+	@Example
+	void countAcceptedAndRejectedValuesPerFilter() {
+		Predicate<Integer> even = anInt -> anInt % 2 == 0;
+		RandomGenerator<Integer> generator = new FilteredGenerator<>(RandomGenerators.samples(new Integer[]{1, 2, 3, 4}), even);
+
+		double acceptanceRatio = FilterStatistics.runInScope(() -> {
+			for (int i = 0; i < 10; i++) {
+				generator.next(random);
+			}
+			return FilterStatistics.current().get().acceptanceRatio(even);
+		});
+
+		assertThat(acceptanceRatio).isEqualTo(0.5);
+	}
+
+	@Example
+	void reportFiltersWithLowAcceptance() {
+		Predicate<Integer> rare = anInt -> anInt == 20;
+		// Samples are generated in order, so 19 values are rejected before 20 is accepted
+		RandomGenerator<Integer> generator = new FilteredGenerator<>(RandomGenerators.samples(oneTo(20)), rare);
+
+		List<ReportEntry> entries = FilterStatistics.runInScope(() -> {
+			generator.next(random);
+			List<ReportEntry> reported = new ArrayList<>();
+			FilterStatistics.report(reported::add);
+			return reported;
+		});
+
+		assertThat(entries).hasSize(1);
+		String report = entries.get(0).getKeyValuePairs().get(FilterStatistics.KEY_FILTER_ACCEPTANCE);
+		assertThat(report).contains("FilterStatisticsTests").contains("consider constraining the arbitrary");
+	}
+
+	@Example
+	void nothingIsReportedWithoutRejections() {
+		RandomGenerator<Integer> generator = new FilteredGenerator<>(RandomGenerators.integers(1, 20), anInt -> true);
+
+		List<ReportEntry> entries = FilterStatistics.runInScope(() -> {
+			generator.next(random);
+			List<ReportEntry> reported = new ArrayList<>();
+			FilterStatistics.report(reported::add);
+			return reported;
+		});
+
+		assertThat(entries).isEmpty();
+	}
+
+	@Example
+	void nestedScopeDoesNotChangeEnclosingScope() {
+		Predicate<Integer> outerFilter = anInt -> anInt % 2 == 0;
+		Predicate<Integer> innerFilter = anInt -> anInt > 2;
+		RandomGenerator<Integer> outerGenerator = new FilteredGenerator<>(RandomGenerators.samples(new Integer[]{1, 2}), outerFilter);
+		RandomGenerator<Integer> innerGenerator = new FilteredGenerator<>(RandomGenerators.samples(new Integer[]{1, 2, 3}), innerFilter);
+
+		FilterStatistics.runInScope(() -> {
+			FilterStatistics outerStatistics = FilterStatistics.current().get();
+			outerGenerator.next(random);
+
+			FilterStatistics innerStatistics = FilterStatistics.runInScope(() -> {
+				innerGenerator.next(random);
+				return FilterStatistics.current().get();
+			});
+
+			assertThat(FilterStatistics.current().get()).isSameAs(outerStatistics);
+			assertThat(outerStatistics.acceptanceRatio(outerFilter)).isEqualTo(0.5);
+			assertThat(outerStatistics.acceptanceRatio(innerFilter)).isEqualTo(1.0);
+			assertThat(innerStatistics.acceptanceRatio(innerFilter)).isEqualTo(1.0 / 3);
+			return null;
+		});
+	}
+
+	@Example
+	void enclosingStateIsRestoredAfterScope() {
+		Optional<FilterStatistics> enclosing = FilterStatistics.current();
+
+		FilterStatistics scoped = FilterStatistics.runInScope(() -> FilterStatistics.current().get());
+
+		assertThat(scoped).isNotSameAs(enclosing.orElse(null));
+		assertThat(FilterStatistics.current()).isEqualTo(enclosing);
+	}
+
+	private static Integer[] oneTo(int max) {
+		Integer[] values = new Integer[max];
+		for (int i = 0; i < max; i++) {
+			values[i] = i + 1;
+		}
+		return values;
+	}
+}
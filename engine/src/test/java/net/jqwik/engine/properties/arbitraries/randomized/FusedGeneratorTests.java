@@ -0,0 +1,77 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FusedGeneratorTests {
+
+	private final Random random = SourceOfRandomness.current();
+
+	@Example
+	void consecutiveStagesAreFusedIntoOneGenerator() {
+		RandomGenerator<String> generator = RandomGenerators.integers(1, 100)
+															.filter(anInt -> anInt % 2 == 0)
+															.map(anInt -> anInt * 3)
+															.map(anInt -> "v" + anInt);
+
+		assertThat(generator).isInstanceOf(FusedGenerator.class);
+
+		Shrinkable<String> shrinkable = generator.next(random);
+		assertThat(shrinkable).isInstanceOf(FusedShrinkable.class);
+		assertThat(shrinkable.value()).matches("v\\d+");
+		assertThat(Integer.parseInt(shrinkable.value().substring(1)) % 6).isEqualTo(0);
+	}
+
+	@Example
+	void fusedStagesGenerateSameValuesAsNestedStages() {
+		RandomGenerator<Integer> integers = RandomGenerators.integers(1, 1000);
+		RandomGenerator<Integer> fused = integers.map(anInt -> anInt + 1).filter(anInt -> anInt % 3 == 0).map(anInt -> anInt / 3);
+		RandomGenerator<Integer> nested = nestedMap(new FilteredGenerator<>(nestedMap(integers, anInt -> anInt + 1), anInt -> anInt % 3 == 0), anInt -> anInt / 3);
+
+		long seed = random.nextLong();
+		Random fusedRandom = new Random(seed);
+		Random nestedRandom = new Random(seed);
+		for (int i = 0; i < 100; i++) {
+			assertThat(fused.next(fusedRandom).value()).isEqualTo(nested.next(nestedRandom).value());
+		}
+	}
+
+	@Example
+	void shrinkingAppliesAllStagesToShrunkSource() {
+		RandomGenerator<String> generator = RandomGenerators.integers(0, 1000)
+															.filter(anInt -> anInt % 5 == 0)
+															.map(anInt -> anInt + 1)
+															.map(String::valueOf);
+		Shrinkable<String> shrinkable = ArbitraryTestHelper.generateValueUntil(generator, aString -> aString.length() == 3);
+
+		ShrinkingSequence<String> sequence = shrinkable.shrink(aString -> aString.length() < 3);
+		while (sequence.next(() -> {}, ignore -> {})) ;
+
+		assertThat(sequence.current().value()).isEqualTo("101");
+	}
+
+	@Example
+	void filterStagesAreCountedInFilterStatistics() {
+		Predicate<Integer> even = anInt -> anInt % 2 == 0;
+		RandomGenerator<Integer> generator = RandomGenerators.samples(new Integer[]{1, 2, 3, 4}).map(anInt -> anInt + 1).filter(even);
+
+		double acceptanceRatio = FilterStatistics.runInScope(() -> {
+			for (int i = 0; i < 10; i++) {
+				generator.next(random);
+			}
+			return FilterStatistics.current().get().acceptanceRatio(even);
+		});
+
+		assertThat(acceptanceRatio).isEqualTo(0.5);
+	}
+
+	private static <T, U> RandomGenerator<U> nestedMap(RandomGenerator<T> generator, Function<T, U> mapper) {
+		return random -> generator.next(random).map(mapper);
+	}
+}
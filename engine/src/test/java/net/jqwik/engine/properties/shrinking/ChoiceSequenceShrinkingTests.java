@@ -0,0 +1,180 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Label("Choice Sequence Shrinking")
+class ChoiceSequenceShrinkingTests {
+
+	@Example
+	void replayingRecordedChoicesGeneratesSameValues() {
+		Arbitrary<List<String>> strings = Arbitraries.strings().alpha().list();
+		ShrinkablesFromChoices parameters = generateFalsifying(strings, list -> list.size() < 3);
+
+		ShrinkablesFromChoices replayed = parameters.replay(parameters.choices(), parameters.choices().size()).get();
+
+		assertThat(replayed.get(0).value()).isEqualTo(parameters.get(0).value());
+		assertThat(replayed.choices()).isEqualTo(parameters.choices());
+	}
+
+	@Example
+	void shrinkIntegerToBoundary() {
+		List<Object> shrunk = shrinkToEnd(Arbitraries.integers(), anInt -> anInt < 1000);
+		assertThat(shrunk).containsExactly(1000);
+	}
+
+	@Example
+	void shrinkLongToBoundary() {
+		List<Object> shrunk = shrinkToEnd(Arbitraries.longs(), aLong -> aLong <= 1000000000000L);
+		assertThat(shrunk).containsExactly(1000000000001L);
+	}
+
+	@Example
+	void shrinkListToSingleFalsifyingElement() {
+		Arbitrary<List<Integer>> lists = Arbitraries.integers().between(0, 100).list();
+		List<Object> shrunk = shrinkToEnd(lists, list -> list.stream().allMatch(anInt -> anInt < 50));
+		assertThat(shrunk).containsExactly(Collections.singletonList(50));
+	}
+
+	@Example
+	void shrinkListOfListsToMinimalSizes() {
+		Arbitrary<List<List<Integer>>> lists = Arbitraries.integers().between(0, 10).list().list();
+		List<Object> shrunk = shrinkToEnd(lists, list -> list.stream().mapToInt(List::size).sum() < 5);
+		assertThat(shrunk).containsExactly(Collections.singletonList(Arrays.asList(0, 0, 0, 0, 0)));
+	}
+
+	@Example
+	void flatMappedValuesAreShrunkTogetherWithTheirSource() {
+		Arbitrary<List<Integer>> sizedLists = Arbitraries.integers().between(1, 10)
+														 .flatMap(size -> Arbitraries.integers().between(0, 100).list().ofSize(size));
+		List<Object> shrunk = shrinkToEnd(sizedLists, list -> list.stream().allMatch(anInt -> anInt <= 90));
+		assertThat(shrunk).containsExactly(Collections.singletonList(91));
+	}
+
+	@Example
+	void filteredValuesAreGeneratedAgain() {
+		Arbitrary<String> strings = Arbitraries.strings().alpha().ofMinLength(1)
+											   .filter(aString -> Character.isUpperCase(aString.charAt(0)));
+		List<Object> shrunk = shrinkToEnd(strings, aString -> aString.length() < 5);
+		assertThat(shrunk).containsExactly("AAAAA");
+	}
+
+	@Example
+	void candidatesThatAreNotSmallerAreNotEvaluated() {
+		ShrinkablesFromChoices parameters = generateFalsifying(Arbitraries.integers(), anInt -> anInt < 1000);
+		List<List<Object>> evaluated = new ArrayList<>();
+		Falsifier<List<Object>> falsifier = params -> {
+			evaluated.add(params);
+			return (int) params.get(0) < 1000;
+		};
+
+		ChoiceSequenceShrinkingSequence sequence = new ChoiceSequenceShrinkingSequence(parameters, falsifier);
+		while (sequence.next(() -> {}, ignore -> {})) ;
+
+		int start = (int) parameters.get(0).value();
+		assertThat(evaluated).allMatch(params -> Math.abs((int) params.get(0)) <= Math.abs(start));
+	}
+
+	@Group
+	class Sequences {
+
+		@Example
+		void shorterSequencesAreSmaller() {
+			ChoiceSequence shorter = new ChoiceSequence(new long[]{100, 100});
+			ChoiceSequence longer = new ChoiceSequence(new long[]{0, 0, 0});
+
+			assertThat(shorter.compareTo(longer)).isLessThan(0);
+			assertThat(longer.compareTo(shorter)).isGreaterThan(0);
+		}
+
+		@Example
+		void sequencesOfSameLengthAreComparedChoiceByChoice() {
+			ChoiceSequence lower = new ChoiceSequence(new long[]{1, 5, 9});
+			ChoiceSequence higher = new ChoiceSequence(new long[]{1, 6, 0});
+
+			assertThat(lower.compareTo(higher)).isLessThan(0);
+			assertThat(lower.compareTo(new ChoiceSequence(new long[]{1, 5, 9}))).isEqualTo(0);
+		}
+
+		@Example
+		void changingSpans() {
+			ChoiceSequence choices = new ChoiceSequence(new long[]{5, 4, 3, 2, 1});
+
+			assertThat(choices.withoutSpan(1, 3)).isEqualTo(new ChoiceSequence(new long[]{5, 2, 1}));
+			assertThat(choices.withZeroedSpan(1, 3)).isEqualTo(new ChoiceSequence(new long[]{5, 0, 0, 2, 1}));
+			assertThat(choices.withSortedSpan(1, 4)).isEqualTo(new ChoiceSequence(new long[]{5, 2, 3, 4, 1}));
+			assertThat(choices.withChoice(4, 7)).isEqualTo(new ChoiceSequence(new long[]{5, 4, 3, 2, 7}));
+		}
+	}
+
+	@Group
+	class Replaying {
+
+		@Example
+		void choicesAreCappedToRequestedMaximum() {
+			ChoiceSequenceRandom random = ChoiceSequenceRandom.replaying(new ChoiceSequence(new long[]{42, 3}), 10);
+
+			assertThat(random.nextInt(10)).isEqualTo(9);
+			assertThat(random.nextInt(10)).isEqualTo(3);
+		}
+
+		@Example
+		void choicesBeyondTheEndAreZero() {
+			ChoiceSequenceRandom random = ChoiceSequenceRandom.replaying(new ChoiceSequence(new long[]{3}), 10);
+
+			assertThat(random.nextInt(10)).isEqualTo(3);
+			assertThat(random.nextInt(10)).isEqualTo(0);
+			assertThat(random.nextLong()).isEqualTo(0L);
+			assertThat(random.choices().size()).isEqualTo(4);
+		}
+
+		@Example
+		void drawingMoreThanMaxChoicesFails() {
+			ChoiceSequenceRandom random = ChoiceSequenceRandom.replaying(new ChoiceSequence(new long[]{1, 2}), 2);
+			random.nextInt(10);
+			random.nextInt(10);
+
+			assertThatThrownBy(() -> random.nextInt(10)).isInstanceOf(ChoiceSequenceRandom.ChoicesExhaustedException.class);
+		}
+
+		@Example
+		void lowerChoicesGiveLowerLongs() {
+			ChoiceSequenceRandom higher = ChoiceSequenceRandom.replaying(new ChoiceSequence(new long[]{1, 0}), 2);
+			ChoiceSequenceRandom lower = ChoiceSequenceRandom.replaying(new ChoiceSequence(new long[]{0, 0xFFFFFFFFL}), 2);
+
+			assertThat(lower.nextLong()).isLessThan(higher.nextLong());
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> List<Object> shrinkToEnd(Arbitrary<T> arbitrary, Predicate<T> property) {
+		ShrinkablesFromChoices parameters = generateFalsifying(arbitrary, property);
+		Falsifier<List<Object>> falsifier = params -> property.test((T) params.get(0));
+
+		ChoiceSequenceShrinkingSequence sequence = new ChoiceSequenceShrinkingSequence(parameters, falsifier);
+		while (sequence.next(() -> {}, ignore -> {})) ;
+
+		return sequence.current().value();
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> ShrinkablesFromChoices generateFalsifying(Arbitrary<T> arbitrary, Predicate<T> property) {
+		RandomGenerator<T> generator = arbitrary.generator(1000);
+		Random source = SourceOfRandomness.newRandom(42L);
+		for (int i = 0; i < 1000; i++) {
+			ShrinkablesFromChoices parameters = ShrinkablesFromChoices.generate(
+				source,
+				random -> Collections.singletonList(generator.next(random))
+			);
+			if (!property.test((T) parameters.get(0).value())) {
+				return parameters;
+			}
+		}
+		throw new AssertionError("Property was not falsified");
+	}
+}
@@ -259,4 +259,52 @@ class DeepSearchShrinkingTests {
 
 	}
 
+	@Group
+	class EvaluationOfCandidates {
+
+		private final AtomicInteger evaluations = new AtomicInteger(0);
+
+		private final Falsifier<Integer> countingFalsifier = anInt -> {
+			evaluations.incrementAndGet();
+			return anInt < 3;
+		};
+
+		@Example
+		void lazyEvaluationStopsAtSmallestFalsifyingCandidate() {
+			Shrinkable<Integer> shrinkable = new FullShrinkable(10);
+
+			ShrinkingSequence<Integer> sequence = shrinkable.shrink(countingFalsifier);
+
+			assertThat(sequence.next(count, ignore -> {})).isTrue();
+			assertThat(sequence.current().value()).isEqualTo(3);
+			// Candidates 0, 1 and 2 do not falsify, 3 does
+			assertThat(evaluations.get()).isEqualTo(4);
+		}
+
+		@Example
+		void exhaustiveEvaluationTriesAllCandidatesButShrinksToSameValue() {
+			CandidateEvaluation.EXHAUSTIVE.runInScope(() -> {
+				Shrinkable<Integer> shrinkable = new FullShrinkable(10);
+
+				ShrinkingSequence<Integer> sequence = shrinkable.shrink(countingFalsifier);
+
+				assertThat(sequence.next(count, ignore -> {})).isTrue();
+				assertThat(sequence.current().value()).isEqualTo(3);
+				assertThat(evaluations.get()).isEqualTo(10);
+			});
+			assertThat(CandidateEvaluation.current()).isEqualTo(CandidateEvaluation.LAZY);
+		}
+
+		@Example
+		void lazyEvaluationKeepsSmallerFilteredOutCandidateAsSearchBase() {
+			Shrinkable<Integer> shrinkable = new OneStepShrinkable(10);
+
+			Falsifier<Integer> falsifier = anInt -> anInt < 6;
+			Predicate<Integer> onlyEvenNumbers = anInt -> anInt % 2 == 0;
+			ShrinkingSequence<Integer> sequence = shrinkable.shrink(falsifier.withFilter(onlyEvenNumbers));
+
+			while (sequence.next(count, ignore -> {})) ;
+			assertThat(sequence.current().value()).isEqualTo(6);
+		}
+	}
 }
@@ -0,0 +1,99 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+@Label("Delta Debugging Shrinking")
+class DeltaDebuggingShrinkingTests {
+
+	private AtomicInteger counter = new AtomicInteger(0);
+	private Runnable count = counter::incrementAndGet;
+
+	@Example
+	void removeChunksFromTheMiddle() {
+		AtomicInteger evaluations = new AtomicInteger(0);
+		Falsifier<List<Integer>> falsifier = list -> {
+			evaluations.incrementAndGet();
+			return !(list.contains(10) && list.contains(9000));
+		};
+
+		ShrinkingSequence<List<Integer>> sequence = shrinkSequence(listFromZeroTo(10000), 0, falsifier);
+		while (sequence.next(count, ignore -> {})) ;
+
+		assertThat(sequence.current().value()).containsExactly(10, 9000);
+		assertThat(evaluations.get()).isLessThan(200);
+	}
+
+	@Example
+	void resultIsOneMinimal() {
+		Falsifier<List<Integer>> falsifier = list -> list.stream().filter(i -> i % 3 == 0).count() < 3;
+
+		ShrinkingSequence<List<Integer>> sequence = shrinkSequence(listFromZeroTo(20), 0, falsifier);
+		while (sequence.next(count, ignore -> {})) ;
+
+		assertThat(sequence.current().value()).containsExactly(0, 3, 6);
+	}
+
+	@Example
+	void falsifyingChunkIsReportedAsNewCurrent() {
+		Falsifier<List<Integer>> falsifier = list -> !list.contains(5);
+
+		ShrinkingSequence<List<Integer>> sequence = shrinkSequence(listFromZeroTo(8), 0, falsifier);
+
+		assertThat(sequence.next(count, ignore -> {})).isTrue();
+		assertThat(sequence.current().value()).containsExactly(4, 5, 6, 7);
+		assertThat(sequence.next(count, ignore -> {})).isTrue();
+		assertThat(sequence.current().value()).containsExactly(4, 5);
+		assertThat(sequence.next(count, ignore -> {})).isTrue();
+		assertThat(sequence.current().value()).containsExactly(5);
+		assertThat(sequence.next(count, ignore -> {})).isFalse();
+
+		assertThat(counter.get()).isEqualTo(3);
+	}
+
+	@Example
+	void neverGoesBelowMinSize() {
+		ShrinkingSequence<List<Integer>> sequence = shrinkSequence(listFromZeroTo(10), 3, list -> false);
+		while (sequence.next(count, ignore -> {})) ;
+
+		assertThat(sequence.current().value()).hasSize(3);
+	}
+
+	@Example
+	void continueFromFilteredOutCandidates() {
+		Falsifier<List<Integer>> falsifier = list -> false;
+		Falsifier<List<Integer>> onlyEvenSizes = falsifier.withFilter(list -> list.size() % 2 == 0);
+
+		ShrinkingSequence<List<Integer>> sequence = shrinkSequence(asList(0, 1, 2, 3), 0, onlyEvenSizes);
+
+		assertThat(sequence.next(count, ignore -> {})).isTrue();
+		assertThat(sequence.current().value()).containsExactly(0, 1);
+
+		// [0] is filtered out but removing its only element falsifies
+		assertThat(sequence.next(count, ignore -> {})).isTrue();
+		assertThat(sequence.current().value()).containsExactly(0, 1);
+		assertThat(sequence.next(count, ignore -> {})).isTrue();
+		assertThat(sequence.current().value()).isEmpty();
+		assertThat(sequence.next(count, ignore -> {})).isFalse();
+	}
+
+	private List<Integer> listFromZeroTo(int size) {
+		return IntStream.range(0, size).boxed().collect(Collectors.toList());
+	}
+
+	private ShrinkingSequence<List<Integer>> shrinkSequence(List<Integer> list, int minSize, Falsifier<List<Integer>> falsifier) {
+		return new DeltaDebuggingShrinkingSequence<>(
+			Shrinkable.unshrinkable(list),
+			Shrinkable::value,
+			elements -> new ShrinkableList<>(elements.stream().map(Shrinkable::unshrinkable).collect(Collectors.toList()), 0),
+			minSize,
+			falsifier
+		);
+	}
+}
@@ -0,0 +1,141 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import net.jqwik.api.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class FalsificationCacheTests {
+
+	@Example
+	void equalParametersAreEvaluatedOnlyOnce() {
+		AtomicInteger evaluations = new AtomicInteger(0);
+		FalsificationCache cache = new FalsificationCache();
+		Falsifier<List> falsifier = cache.cached(params -> {
+			evaluations.incrementAndGet();
+			return (int) params.get(0) < 10;
+		});
+
+		assertThat(falsifier.test(asList(5, "a"))).isTrue();
+		assertThat(falsifier.test(asList(15, "a"))).isFalse();
+		assertThat(falsifier.test(asList(5, "a"))).isTrue();
+		assertThat(falsifier.test(asList(15, "a"))).isFalse();
+
+		assertThat(evaluations.get()).isEqualTo(2);
+		assertThat(cache.hits()).isEqualTo(2);
+	}
+
+	@Example
+	void thrownExceptionIsReplayed() {
+		AtomicInteger evaluations = new AtomicInteger(0);
+		AssertionError error = new AssertionError("failed");
+		FalsificationCache cache = new FalsificationCache();
+		Falsifier<List> falsifier = cache.cached(params -> {
+			evaluations.incrementAndGet();
+			throw error;
+		});
+
+		FalsificationResult<List> first = falsifier.falsify(Shrinkable.unshrinkable(asList(1)));
+		FalsificationResult<List> second = falsifier.falsify(Shrinkable.unshrinkable(asList(1)));
+
+		assertThat(first.status()).isEqualTo(FalsificationResult.Status.FALSIFIED);
+		assertThat(second.status()).isEqualTo(FalsificationResult.Status.FALSIFIED);
+		assertThat(second.throwable()).hasValue(error);
+		assertThat(evaluations.get()).isEqualTo(1);
+	}
+
+	@Example
+	void arraysAreComparedByContent() {
+		AtomicInteger evaluations = new AtomicInteger(0);
+		FalsificationCache cache = new FalsificationCache();
+		Falsifier<List> falsifier = cache.cached(params -> {
+			evaluations.incrementAndGet();
+			return true;
+		});
+
+		falsifier.test(asList((Object) new int[]{1, 2}));
+		falsifier.test(asList((Object) new int[]{1, 2}));
+		falsifier.test(asList((Object) new int[]{2, 1}));
+
+		assertThat(evaluations.get()).isEqualTo(2);
+	}
+
+	@Example
+	void parametersMutatedByPropertyDoNotChangeCachedOutcomes() {
+		AtomicInteger evaluations = new AtomicInteger(0);
+		FalsificationCache cache = new FalsificationCache();
+		Falsifier<List> falsifier = cache.cached(params -> {
+			evaluations.incrementAndGet();
+			List<?> aList = (List<?>) params.get(0);
+			boolean result = aList.isEmpty();
+			aList.clear();
+			return result;
+		});
+
+		assertThat(falsifier.test(asList(new ArrayList<>(asList(1, 2))))).isFalse();
+		assertThat(falsifier.test(asList(new ArrayList<>()))).isTrue();
+		assertThat(falsifier.test(asList(new ArrayList<>(asList(1, 2))))).isFalse();
+
+		assertThat(evaluations.get()).isEqualTo(2);
+	}
+
+	@Example
+	void parametersOfPossiblyMutableTypesAreNotCached() {
+		AtomicInteger evaluations = new AtomicInteger(0);
+		FalsificationCache cache = new FalsificationCache();
+		Falsifier<List> falsifier = cache.cached(params -> {
+			evaluations.incrementAndGet();
+			return true;
+		});
+
+		falsifier.test(asList(new StringBuilder("a")));
+		falsifier.test(asList(new StringBuilder("a")));
+		falsifier.test(asList(asList(1, new StringBuilder("a"))));
+		falsifier.test(asList(asList(1, new StringBuilder("a"))));
+
+		assertThat(evaluations.get()).isEqualTo(4);
+		assertThat(cache.hits()).isEqualTo(0);
+	}
+
+	@Example
+	void leastRecentlyUsedOutcomeIsEvicted() {
+		AtomicInteger evaluations = new AtomicInteger(0);
+		FalsificationCache cache = new FalsificationCache(2, FalsificationCache::defaultKey);
+		Falsifier<List> falsifier = cache.cached(params -> {
+			evaluations.incrementAndGet();
+			return true;
+		});
+
+		falsifier.test(asList(1));
+		falsifier.test(asList(2));
+		falsifier.test(asList(1));
+		falsifier.test(asList(3));
+		assertThat(evaluations.get()).isEqualTo(3);
+
+		falsifier.test(asList(1));
+		assertThat(evaluations.get()).isEqualTo(3);
+
+		falsifier.test(asList(2));
+		assertThat(evaluations.get()).isEqualTo(4);
+	}
+
+	@Example
+	void keyFunctionCanExcludeParametersFromCaching() {
+		AtomicInteger evaluations = new AtomicInteger(0);
+		FalsificationCache cache = new FalsificationCache(100, params -> null);
+		Falsifier<List> falsifier = cache.cached(params -> {
+			evaluations.incrementAndGet();
+			return true;
+		});
+
+		falsifier.test(asList(1));
+		falsifier.test(asList(1));
+
+		assertThat(evaluations.get()).isEqualTo(2);
+		assertThat(cache.hits()).isEqualTo(0);
+	}
+
+}
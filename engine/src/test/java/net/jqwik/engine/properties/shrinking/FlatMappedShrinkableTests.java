@@ -1,11 +1,13 @@
 package net.jqwik.engine.properties.shrinking;
 
+import java.util.*;
 import java.util.concurrent.atomic.*;
 import java.util.function.*;
 
 import org.mockito.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
 import net.jqwik.engine.properties.shrinking.ShrinkableTypesForTest.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -32,6 +34,23 @@ class FlatMappedShrinkableTests {
 		assertThat(shrinkable.value()).hasSize(3);
 	}
 
+	@Example
+	void shrunkValuesAreGeneratedWithAlgorithmOfGeneratingRandom() {
+		RandomGenerator<Integer> sizes = random -> new OneStepShrinkable(4);
+		RandomGenerator<String> randomNames = sizes.flatMap(
+			size -> random -> Shrinkable.unshrinkable(random.getClass().getSimpleName() + size)
+		);
+
+		assertThat(firstShrinkingStep(randomNames.next(new Random(42L)))).isEqualTo("Random3");
+		assertThat(firstShrinkingStep(randomNames.next(SourceOfRandomness.newRandom(42L)))).isEqualTo("SplitMixRandom3");
+	}
+
+	private String firstShrinkingStep(Shrinkable<String> shrinkable) {
+		ShrinkingSequence<String> sequence = shrinkable.shrink(ignore -> false);
+		sequence.next(count, reporter);
+		return sequence.current().value();
+	}
+
 	@Property(tries = 50)
 	void shrinkingEmbeddedShrinkable(@ForAll long seed) {
 		//noinspection unchecked
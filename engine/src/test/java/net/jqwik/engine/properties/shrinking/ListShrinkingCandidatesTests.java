@@ -0,0 +1,54 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class ListShrinkingCandidatesTests {
+
+	@Example
+	void shortListsAreCutByOneElementFromBothSides() {
+		ListShrinkingCandidates<Integer> candidates = new ListShrinkingCandidates<>(0);
+
+		assertThat(candidates.candidatesFor(asList(1, 2, 3))).containsExactlyInAnyOrder(
+			asList(1, 2),
+			asList(2, 3)
+		);
+	}
+
+	@Example
+	void longListsAreCutInHalf() {
+		ListShrinkingCandidates<Integer> candidates = new ListShrinkingCandidates<>(0);
+		List<Integer> toShrink = new ArrayList<>();
+		for (int i = 0; i < 10_000; i++) {
+			toShrink.add(i);
+		}
+
+		Set<List<Integer>> lists = candidates.candidatesFor(toShrink);
+
+		assertThat(lists).hasSize(2);
+		assertThat(lists).contains(toShrink.subList(0, 5000), toShrink.subList(5000, 10_000));
+	}
+
+	@Example
+	void equalCutsAreOnlyOneCandidate() {
+		ListShrinkingCandidates<Integer> candidates = new ListShrinkingCandidates<>(0);
+
+		assertThat(candidates.candidatesFor(asList(7, 7, 7))).containsExactly(asList(7, 7));
+	}
+
+	@Example
+	void minSizeIsRespected() {
+		ListShrinkingCandidates<Integer> candidates = new ListShrinkingCandidates<>(2);
+
+		assertThat(candidates.candidatesFor(asList(1, 2))).isEmpty();
+		assertThat(candidates.candidatesFor(asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22)))
+			.allMatch(list -> list.size() == 11);
+		assertThat(candidates.candidatesFor(asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15)))
+			.allMatch(list -> list.size() == 9);
+	}
+
+}
@@ -0,0 +1,57 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongShrinkingCandidatesTests {
+
+	@Example
+	void shrinkFrom0DoesNotShrink() {
+		ShrinkingCandidates<Long> shrinker = new LongShrinkingCandidates(0);
+		assertThat(shrinker.candidatesFor(0L)).isEmpty();
+	}
+
+	@Example
+	void shrinkPositiveValueTowards0If0isInRange() {
+		ShrinkingCandidates<Long> shrinker = new LongShrinkingCandidates(0);
+		Set<Long> allShrunkValues = shrinker.candidatesFor(10L);
+		assertThat(allShrunkValues).containsExactlyInAnyOrder(9L, 8L, 7L, 5L, 3L, 2L, 1L, 0L);
+	}
+
+	@Example
+	void shrinkNegativeValueTowards0If0isInRange() {
+		ShrinkingCandidates<Long> shrinker = new LongShrinkingCandidates(0);
+		Set<Long> allShrunkValues = shrinker.candidatesFor(-10L);
+		assertThat(allShrunkValues).containsExactlyInAnyOrder(-9L, -8L, -7L, -5L, -3L, -2L, -1L, 0L);
+	}
+
+	@Example
+	void shrinkNegativeValueTowardMaxIf0IsOutsideRange() {
+		ShrinkingCandidates<Long> shrinker = new LongShrinkingCandidates(-5);
+		Set<Long> allShrunkValues = shrinker.candidatesFor(-10L);
+		assertThat(allShrunkValues).containsExactlyInAnyOrder(-9L, -8L, -7L, -6L, -5L);
+	}
+
+	@Example
+	void shrinkCandidatesApproachTargetAndShrinkValueWithFibbonacciDistance() {
+		ShrinkingCandidates<Long> shrinker = new LongShrinkingCandidates(0);
+		Set<Long> allShrunkValues = shrinker.candidatesFor(90L);
+		assertThat(allShrunkValues)
+			.containsExactlyInAnyOrder(
+				0L, 1L, 2L, 3L, 5L, 8L, 13L, 21L, 34L, 55L,
+				90L - 1, 90L - 2, 90L - 3, 90L - 5, 90L - 8, 90L - 13, 90L - 21, 90L - 34, 90L - 55
+			);
+	}
+
+	@Example
+	void distanceBeyondLongMaxValueDoesNotOverflow() {
+		ShrinkingCandidates<Long> shrinker = new LongShrinkingCandidates(Long.MAX_VALUE);
+		Set<Long> allShrunkValues = shrinker.candidatesFor(Long.MIN_VALUE);
+		assertThat(allShrunkValues).contains(Long.MAX_VALUE, Long.MIN_VALUE + 1, Long.MAX_VALUE - 1);
+		assertThat(allShrunkValues).doesNotContain(Long.MIN_VALUE);
+	}
+
+}
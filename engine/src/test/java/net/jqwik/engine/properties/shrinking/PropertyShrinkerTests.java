@@ -1,6 +1,8 @@
 package net.jqwik.engine.properties.shrinking;
 
+import java.time.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 
 import org.junit.platform.engine.reporting.*;
@@ -110,6 +112,27 @@ class PropertyShrinkerTests {
 		assertThat(result.throwable()).isPresent();
 	}
 
+	@Example
+	void falsificationCacheAvoidsEvaluatingSameParametersTwice() {
+		List<Shrinkable> parameters = asList(
+			new FullShrinkable(5),
+			new FullShrinkable(5)
+		);
+
+		List<List> evaluatedParams = new ArrayList<>();
+		Falsifier<List> listFalsifier = params -> {
+			evaluatedParams.add(params);
+			return ((int) params.get(0)) + ((int) params.get(1)) < 4;
+		};
+
+		PropertyShrinker shrinker = new PropertyShrinker(parameters, ShrinkingMode.FULL, reporter, new Reporting[0]);
+		PropertyShrinkingResult result = shrinker.shrink(listFalsifier, null);
+
+		assertThat(result.values()).isEqualTo(asList(0, 4));
+		assertThat(evaluatedParams).doesNotHaveDuplicates();
+		assertThat(result.cacheHits()).isGreaterThan(0);
+	}
+
 	@Example
 	void withBoundedShrinkingBreakOffAfter1000Steps() {
 		List<Shrinkable> parameters = asList(
@@ -129,4 +152,200 @@ class PropertyShrinkerTests {
 		assertThat(entryCaptor.getValue().getKeyValuePairs()).containsKeys("shrinking bound reached");
 	}
 
+	@Example
+	void withShrinkingTimeoutStopWithBestSampleSoFar() {
+		List<Shrinkable> parameters = asList(
+			new OneStepShrinkable(1000),
+			new OneStepShrinkable(1000)
+		);
+
+		SteppingClock clock = new SteppingClock();
+		PropertyShrinker shrinker = new PropertyShrinker(
+			parameters, ShrinkingMode.FULL, Duration.ofMillis(100), reporter, new Reporting[0], new FalsificationCache(),
+			1, ShrinkingEngine.SHRINKABLES, CandidateEvaluation.LAZY, clock
+		);
+
+		AtomicInteger evaluations = new AtomicInteger(0);
+		Falsifier<List> slowFalsifier = params -> {
+			evaluations.incrementAndGet();
+			clock.advance(Duration.ofMillis(5));
+			return false;
+		};
+		PropertyShrinkingResult result = shrinker.shrink(slowFalsifier, null);
+
+		// Each step takes one evaluation of 5 ms, so the timeout is reached after 20 steps
+		assertThat(result.values()).isEqualTo(asList(980, 1000));
+		assertThat(result.steps()).isEqualTo(20);
+		assertThat(evaluations.get()).isEqualTo(20);
+
+		ArgumentCaptor<ReportEntry> entryCaptor = ArgumentCaptor.forClass(ReportEntry.class);
+		verify(reporter, times(1)).accept(entryCaptor.capture());
+
+		Map<String, String> reportEntries = entryCaptor.getValue().getKeyValuePairs();
+		assertThat(reportEntries).containsKeys("shrinking timeout reached");
+		assertThat(reportEntries.get("shrinking timeout reached"))
+			.contains("elapsed     : 100ms")
+			.contains("evaluations : 20");
+	}
+
+	@Example
+	void shrinkingTimeoutNotReached() {
+		List<Shrinkable> parameters = asList(
+			new OneStepShrinkable(5),
+			new OneStepShrinkable(10)
+		);
+
+		PropertyShrinker shrinker = new PropertyShrinker(
+			parameters, ShrinkingMode.FULL, Duration.ofSeconds(60), reporter, new Reporting[0], new FalsificationCache()
+		);
+		PropertyShrinkingResult result = shrinker.shrink(ignore -> false, null);
+
+		assertThat(result.values()).isEqualTo(asList(0, 0));
+		verifyZeroInteractions(reporter);
+	}
+
+	@Example
+	void parallelShrinkingGivesSameResultAsSequentialShrinking() {
+		Falsifier<List> falsifier = params -> ((int) params.get(0)) + ((int) params.get(1)) < 7;
+
+		PropertyShrinkingResult sequentialResult = new PropertyShrinker(
+			asList(new FullShrinkable(20), new FullShrinkable(20)),
+			ShrinkingMode.FULL, Duration.ZERO, ignore -> {}, new Reporting[0], new FalsificationCache(), 1
+		).shrink(falsifier, null);
+
+		PropertyShrinkingResult parallelResult = new PropertyShrinker(
+			asList(new FullShrinkable(20), new FullShrinkable(20)),
+			ShrinkingMode.FULL, Duration.ZERO, reporter, new Reporting[0], new FalsificationCache(), 4
+		).shrink(falsifier, null);
+
+		assertThat(parallelResult.values()).isEqualTo(asList(0, 7));
+		assertThat(parallelResult.values()).isEqualTo(sequentialResult.values());
+		assertThat(parallelResult.steps()).isEqualTo(sequentialResult.steps());
+	}
+
+	@Example
+	void parallelShrinkingReportsWastedEvaluationsAndSpeedup() {
+		List<Shrinkable> parameters = asList(new FullShrinkable(10));
+
+		PropertyShrinker shrinker = new PropertyShrinker(
+			parameters, ShrinkingMode.FULL, Duration.ZERO, reporter, new Reporting[0], new FalsificationCache(), 4
+		);
+
+		Set<Thread> evaluatingThreads = Collections.synchronizedSet(new HashSet<>());
+		AtomicInteger evaluations = new AtomicInteger(0);
+		Falsifier<List> falsifier = params -> {
+			evaluatingThreads.add(Thread.currentThread());
+			evaluations.incrementAndGet();
+			return ((int) params.get(0)) < 1;
+		};
+		PropertyShrinkingResult result = shrinker.shrink(falsifier, null);
+
+		assertThat(result.values()).isEqualTo(asList(1));
+		assertThat(evaluatingThreads).doesNotContain(Thread.currentThread());
+
+		// The first batch 0, 1, 2, 3 falsifies with 1, so 2 and 3 are wasted. The only candidate of 1, 0, is cached.
+		assertThat(evaluations.get()).isEqualTo(4);
+
+		ArgumentCaptor<ReportEntry> entryCaptor = ArgumentCaptor.forClass(ReportEntry.class);
+		verify(reporter, times(1)).accept(entryCaptor.capture());
+
+		String report = entryCaptor.getValue().getKeyValuePairs().get("parallel shrinking");
+		assertThat(report).contains("threads            : 4");
+		assertThat(report).contains("steps              : 1");
+		assertThat(report).contains("evaluations        : 4");
+		assertThat(report).contains("wasted evaluations : 2");
+		assertThat(report).contains("speedup            : ");
+	}
+
+	@Example
+	void candidateEvaluationIsTakenFromShrinker() {
+		AtomicInteger lazyEvaluations = new AtomicInteger(0);
+		AtomicInteger exhaustiveEvaluations = new AtomicInteger(0);
+
+		PropertyShrinkingResult lazyResult = shrinkWithCandidateEvaluation(CandidateEvaluation.LAZY, lazyEvaluations);
+		PropertyShrinkingResult exhaustiveResult = shrinkWithCandidateEvaluation(CandidateEvaluation.EXHAUSTIVE, exhaustiveEvaluations);
+
+		assertThat(lazyResult.values()).isEqualTo(asList(3));
+		assertThat(exhaustiveResult.values()).isEqualTo(asList(3));
+		assertThat(exhaustiveEvaluations.get()).isGreaterThan(lazyEvaluations.get());
+	}
+
+	private PropertyShrinkingResult shrinkWithCandidateEvaluation(CandidateEvaluation candidateEvaluation, AtomicInteger evaluations) {
+		List<Shrinkable> parameters = asList(new FullShrinkable(10));
+		Falsifier<List> falsifier = params -> {
+			evaluations.incrementAndGet();
+			return (int) params.get(0) < 3;
+		};
+		PropertyShrinker shrinker = new PropertyShrinker(
+			parameters, ShrinkingMode.FULL, Duration.ZERO, reporter, new Reporting[0], new FalsificationCache(), 1,
+			ShrinkingEngine.SHRINKABLES, candidateEvaluation
+		);
+		return shrinker.shrink(falsifier, null);
+	}
+
+	@Example
+	void choiceSequenceEngineShrinksRecordedChoices() {
+		RandomGenerator<Integer> generator = Arbitraries.integers().between(0, 100).generator(1000);
+		Falsifier<List> falsifier = params -> ((int) params.get(0)) + ((int) params.get(1)) < 50;
+		List<Shrinkable> parameters = generateFalsifying(generator, falsifier);
+
+		PropertyShrinker shrinker = new PropertyShrinker(
+			parameters, ShrinkingMode.FULL, Duration.ZERO, reporter, new Reporting[0], new FalsificationCache(), 1,
+			ShrinkingEngine.CHOICE_SEQUENCE
+		);
+		PropertyShrinkingResult result = shrinker.shrink(falsifier, null);
+
+		assertThat(result.values()).isEqualTo(asList(0, 50));
+		assertThat(result.steps()).isGreaterThan(0);
+	}
+
+	@Example
+	void choiceSequenceEngineShrinksParametersWithoutChoicesThroughShrinkables() {
+		List<Shrinkable> parameters = asList(new OneStepShrinkable(5), new OneStepShrinkable(10));
+
+		PropertyShrinker shrinker = new PropertyShrinker(
+			parameters, ShrinkingMode.FULL, Duration.ZERO, reporter, new Reporting[0], new FalsificationCache(), 1,
+			ShrinkingEngine.CHOICE_SEQUENCE
+		);
+		PropertyShrinkingResult result = shrinker.shrink(ignore -> false, null);
+
+		assertThat(result.values()).isEqualTo(asList(0, 0));
+	}
+
+	private static List<Shrinkable> generateFalsifying(RandomGenerator<Integer> generator, Falsifier<List> falsifier) {
+		Random source = new Random(42L);
+		while (true) {
+			ShrinkablesFromChoices parameters = ShrinkablesFromChoices.generate(
+				source,
+				random -> asList(generator.next(random), generator.next(random))
+			);
+			List<Object> values = asList(parameters.get(0).value(), parameters.get(1).value());
+			if (!falsifier.test(values)) {
+				return parameters;
+			}
+		}
+	}
+
+	private static class SteppingClock extends Clock {
+		private Instant now = Instant.EPOCH;
+
+		private void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
 }
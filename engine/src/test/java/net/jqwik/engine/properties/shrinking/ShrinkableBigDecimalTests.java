@@ -85,12 +85,24 @@ class ShrinkableBigDecimalTests {
 		ShrinkingSequence<BigDecimal> sequence = shrinkable.shrink(aBigDecimal -> aBigDecimal.compareTo(BigDecimal.valueOf(10)) < 0);
 
 		assertThat(sequence.next(count, reporter)).isTrue();
-		assertThat(sequence.current().value()).isEqualTo(new BigDecimal("13"));
-		verify(valueReporter).accept(new BigDecimal("13"));
+		assertThat(sequence.current().value()).isEqualTo(new BigDecimal("15.27"));
+		verify(valueReporter).accept(new BigDecimal("15.27"));
 
 		assertThat(sequence.next(count, reporter)).isTrue();
-		assertThat(sequence.current().value()).isEqualTo(new BigDecimal("10"));
-		verify(valueReporter).accept(new BigDecimal("10"));
+		assertThat(sequence.current().value()).isEqualTo(new BigDecimal("11.45"));
+		verify(valueReporter).accept(new BigDecimal("11.45"));
+
+		assertThat(sequence.next(count, reporter)).isTrue();
+		assertThat(sequence.current().value()).isEqualTo(new BigDecimal("10.49"));
+		verify(valueReporter).accept(new BigDecimal("10.49"));
+
+		assertThat(sequence.next(count, reporter)).isTrue();
+		assertThat(sequence.current().value()).isEqualTo(new BigDecimal("10.01"));
+		verify(valueReporter).accept(new BigDecimal("10.01"));
+
+		assertThat(sequence.next(count, reporter)).isTrue();
+		assertThat(sequence.current().value()).isEqualTo(new BigDecimal("10.00"));
+		verify(valueReporter).accept(new BigDecimal("10.00"));
 
 		assertThat(sequence.next(count, reporter)).isFalse();
 		verifyNoMoreInteractions(valueReporter);
@@ -110,7 +122,7 @@ class ShrinkableBigDecimalTests {
 		}
 
 		assertThat(sequence.current().value().longValueExact()).isEqualTo(25);
-		assertThat(counter.get()).isEqualTo(6);
+		assertThat(counter.get()).isEqualTo(4);
 	}
 
 
@@ -74,8 +74,12 @@ class ShrinkableBigIntegerTests {
 		ShrinkingSequence<BigInteger> sequence = shrinkable.shrink(aBigInteger -> aBigInteger.compareTo(BigInteger.valueOf(10)) < 0);
 
 		assertThat(sequence.next(count, reporter)).isTrue();
-		assertThat(sequence.current().value()).isEqualTo(BigInteger.valueOf(13));
-		verify(valueReporter).accept(BigInteger.valueOf(13));
+		assertThat(sequence.current().value()).isEqualTo(BigInteger.valueOf(15));
+		verify(valueReporter).accept(BigInteger.valueOf(15));
+
+		assertThat(sequence.next(count, reporter)).isTrue();
+		assertThat(sequence.current().value()).isEqualTo(BigInteger.valueOf(11));
+		verify(valueReporter).accept(BigInteger.valueOf(11));
 
 		assertThat(sequence.next(count, reporter)).isTrue();
 		assertThat(sequence.current().value()).isEqualTo(BigInteger.valueOf(10));
@@ -98,7 +102,7 @@ class ShrinkableBigIntegerTests {
 			while (sequence.next(count, reporter));
 
 			assertThat(sequence.current().value()).isEqualTo(BigInteger.valueOf(1001));
-			assertThat(counter.get()).isEqualTo(7);
+			assertThat(counter.get()).isEqualTo(12);
 		}
 
 		@Example
@@ -113,7 +117,7 @@ class ShrinkableBigIntegerTests {
 			while (sequence.next(count, reporter));
 
 			assertThat(sequence.current().value()).isEqualTo(100);
-			assertThat(counter.get()).isEqualTo(8);
+			assertThat(counter.get()).isEqualTo(15);
 		}
 
 	}
@@ -0,0 +1,173 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Group
+@Label("ShrinkableCharArrayString")
+class ShrinkableCharArrayStringTests {
+
+	private AtomicInteger counter = new AtomicInteger(0);
+	private Runnable count = counter::incrementAndGet;
+	private Consumer<FalsificationResult<String>> reporter = ignore -> {};
+
+	private CharacterDomain lowerAndUpperCase = new CharacterDomain(Arrays.asList(
+		CharacterDomain.range('a', 'z'),
+		CharacterDomain.range('A', 'Z')
+	));
+
+	@Example
+	void creation() {
+		Shrinkable<String> shrinkable = new ShrinkableCharArrayString("abcD".toCharArray(), lowerAndUpperCase, 0);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(4, 84));
+		assertThat(shrinkable.value()).isEqualTo("abcD");
+	}
+
+	@Example
+	void equalStringsHaveEqualHashCodes() {
+		Shrinkable<String> shrinkable = new ShrinkableCharArrayString("abcD".toCharArray(), lowerAndUpperCase, 0);
+		Shrinkable<String> equalShrinkable = new ShrinkableCharArrayString("abcD".toCharArray(), lowerAndUpperCase, 0);
+
+		assertThat(shrinkable).isEqualTo(equalShrinkable);
+		assertThat(shrinkable.hashCode()).isEqualTo(equalShrinkable.hashCode());
+	}
+
+	@Example
+	void stringsOfSameLengthHaveDifferentHashCodes() {
+		Set<Integer> hashCodes = new HashSet<>();
+		for (char c = 'a'; c <= 'z'; c++) {
+			hashCodes.add(new ShrinkableCharArrayString(new char[]{'x', c, 'y'}, lowerAndUpperCase, 0).hashCode());
+		}
+		assertThat(hashCodes.size()).isEqualTo(26);
+	}
+
+	@Example
+	void generatedCharactersAreTakenFromAllParts() {
+		CharacterDomain characters = new CharacterDomain(Arrays.asList(
+			CharacterDomain.range('0', '9'),
+			CharacterDomain.chars(new char[]{'x', 'y'})
+		));
+		RandomGenerator<String> generator = RandomGenerators.strings(characters, 5, 10, 10);
+
+		ArbitraryTestHelper.assertAllGenerated(generator, (Predicate<String>) aString -> aString.matches("[0-9xy]+"));
+		ArbitraryTestHelper.assertAtLeastOneGenerated(generator, aString -> aString.contains("0"));
+		ArbitraryTestHelper.assertAtLeastOneGenerated(generator, aString -> aString.contains("9"));
+		ArbitraryTestHelper.assertAtLeastOneGenerated(generator, aString -> aString.contains("x"));
+		ArbitraryTestHelper.assertAtLeastOneGenerated(generator, aString -> aString.contains("y"));
+	}
+
+	@Example
+	void overlappingPartsAreMerged() {
+		CharacterDomain characters = new CharacterDomain(Arrays.asList(
+			CharacterDomain.range('a', 'm'),
+			CharacterDomain.chars(new char[]{'x', 'c', 'x'}),
+			CharacterDomain.range('k', 'z')
+		));
+
+		Shrinkable<String> shrinkable = new ShrinkableCharArrayString("amnz".toCharArray(), characters, 0);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(4, 0 + 12 + 13 + 25));
+	}
+
+	@Example
+	void filteredRangeExcludesCharacters() {
+		CharacterDomain characters = new CharacterDomain(Collections.singletonList(
+			CharacterDomain.filteredRange('a', 'z', c -> "aeiou".indexOf(c) < 0)
+		));
+		RandomGenerator<String> generator = RandomGenerators.strings(characters, 5, 10, 10);
+
+		ArbitraryTestHelper.assertAllGenerated(generator, (Predicate<String>) aString -> aString.matches("[^aeiou]+"));
+	}
+
+	@Group
+	class Shrinking {
+
+		@Example
+		void downToMinLength() {
+			Shrinkable<String> shrinkable = new ShrinkableCharArrayString("abcde".toCharArray(), lowerAndUpperCase, 2);
+
+			ShrinkingSequence<String> sequence = shrinkable.shrink(aString -> false);
+
+			assertThat(sequence.next(count, reporter)).isTrue();
+			assertThat(sequence.current().value()).isEqualTo("ab");
+
+			while (sequence.next(count, reporter)) ;
+			assertThat(sequence.current().value()).isEqualTo("AA");
+		}
+
+		@Example
+		void allCharactersShrinkTowardsFirstCharacterOfDomain() {
+			CharacterDomain characters = new CharacterDomain(Arrays.asList(
+				CharacterDomain.chars(new char[]{'x', 'c', 'b'}),
+				CharacterDomain.range('q', 's')
+			));
+			Shrinkable<String> shrinkable = new ShrinkableCharArrayString("xrc".toCharArray(), characters, 0);
+
+			ShrinkingSequence<String> sequence = shrinkable.shrink(aString -> aString.length() < 3);
+
+			while (sequence.next(count, reporter)) ;
+			assertThat(sequence.current().value()).isEqualTo("bbb");
+		}
+
+		@Example
+		void charactersOutsideOfTableAreShrunkToo() {
+			CharacterDomain characters = new CharacterDomain(Arrays.asList(
+				CharacterDomain.range('\u1000', '\u2000'),
+				CharacterDomain.range('\u0100', '\u0200')
+			));
+			Shrinkable<String> shrinkable = new ShrinkableCharArrayString("\u1234\u0150".toCharArray(), characters, 0);
+
+			ShrinkingSequence<String> sequence = shrinkable.shrink(aString -> aString.length() < 2);
+
+			while (sequence.next(count, reporter)) ;
+			assertThat(sequence.current().value()).isEqualTo("\u0100\u0100");
+		}
+
+		@Example
+		void shrinkingResultHasValueAndThrowable() {
+			Shrinkable<String> shrinkable = new ShrinkableCharArrayString("bbb".toCharArray(), lowerAndUpperCase, 0);
+
+			ShrinkingSequence<String> sequence = shrinkable.shrink(aString -> {
+				if (aString.length() > 1) throw new IllegalArgumentException("my reason");
+				return true;
+			});
+
+			while (sequence.next(count, reporter)) ;
+
+			assertThat(sequence.current().value()).isEqualTo("AA");
+			assertThat(sequence.current().throwable()).isPresent();
+			assertThat(sequence.current().throwable().get()).hasMessage("my reason");
+		}
+
+		@Example
+		void charactersAreRemovedFromAnywhere() {
+			Shrinkable<String> shrinkable = new ShrinkableCharArrayString("abXcdefYgh".toCharArray(), lowerAndUpperCase, 0);
+
+			ShrinkingSequence<String> sequence = shrinkable.shrink(aString -> !(aString.contains("X") && aString.contains("Y")));
+
+			while (sequence.next(count, reporter)) ;
+			assertThat(sequence.current().value()).isEqualTo("XY");
+			assertThat(sequence.current().shrinkable()).isEqualTo(new ShrinkableCharArrayString("XY".toCharArray(), lowerAndUpperCase, 0));
+			assertThat(sequence.current().shrinkable().hashCode())
+				.isEqualTo(new ShrinkableCharArrayString("XY".toCharArray(), lowerAndUpperCase, 0).hashCode());
+		}
+
+		@Example
+		void longString() {
+			char[] chars = new char[1000];
+			Arrays.fill(chars, 'q');
+			Shrinkable<String> shrinkable = new ShrinkableCharArrayString(chars, lowerAndUpperCase, 5);
+
+			ShrinkingSequence<String> sequence = shrinkable.shrink(String::isEmpty);
+
+			while (sequence.next(count, reporter)) ;
+			assertThat(sequence.current().value()).isEqualTo("AAAAA");
+		}
+	}
+}
@@ -0,0 +1,125 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+import net.jqwik.engine.properties.arbitraries.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ShrinkableDoubleTests {
+
+	private AtomicInteger counter = new AtomicInteger(0);
+	private Runnable count = counter::incrementAndGet;
+
+	@SuppressWarnings("unchecked")
+	private Consumer<Double> valueReporter = mock(Consumer.class);
+	private Consumer<FalsificationResult<Double>> reporter = result -> valueReporter.accept(result.value());
+
+	@Example
+	void creation() {
+		Shrinkable<Double> shrinkable = new ShrinkableDouble(25.23, Range.of(-100.0, 100.0), 2);
+		assertThat(shrinkable.value()).isEqualTo(25.23);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(25, 23));
+	}
+
+	@Example
+	void cannotCreateValueOutsideRange() {
+		assertThatThrownBy( //
+			() -> new ShrinkableDouble(25.0, Range.of(50.0, 100.0), 2)) //
+			.isInstanceOf(JqwikException.class);
+	}
+
+	@Example
+	void shrinkingDistances() {
+		assertThat(new ShrinkableDouble(25.23, Range.of(20.0, 100.0), 2).distance())
+			.isEqualTo(ShrinkingDistance.of(5, 23));
+
+		assertThat(new ShrinkableDouble(-52.32, Range.of(-100.0, 100.0), 2).distance())
+			.isEqualTo(ShrinkingDistance.of(52, 32));
+
+		assertThat(new ShrinkableDouble(-52.32, Range.of(-100.0, -50.0), 2).distance())
+			.isEqualTo(ShrinkingDistance.of(2, 32));
+
+		assertThat(new ShrinkableDouble(25.0, Range.of(-100.0, 100.0), 3).distance())
+			.isEqualTo(ShrinkingDistance.of(25, 0));
+	}
+
+	@Example
+	void shrinkingDistanceOutsideLongRange() {
+		Range<Double> range = Range.of(-Double.MAX_VALUE, Double.MAX_VALUE);
+
+		assertThat(new ShrinkableDouble(1.0e300, range, 2).distance())
+			.isEqualTo(ShrinkingDistance.of(Long.MAX_VALUE, 0));
+
+		assertThat(new ShrinkableDouble(-1.0e300, range, 2).distance())
+			.isEqualTo(ShrinkingDistance.of(Long.MAX_VALUE, 0));
+	}
+
+	@Example
+	@Label("report all falsified")
+	void reportFalsified() {
+		Shrinkable<Double> shrinkable = new ShrinkableDouble(30.55, Range.of(-100.0, 100.0), 2);
+
+		ShrinkingSequence<Double> sequence = shrinkable.shrink(aDouble -> aDouble < 10);
+
+		assertThat(sequence.next(count, reporter)).isTrue();
+		assertThat(sequence.current().value()).isEqualTo(15.27);
+		verify(valueReporter).accept(15.27);
+
+		assertThat(sequence.next(count, reporter)).isTrue();
+		assertThat(sequence.current().value()).isEqualTo(11.45);
+		verify(valueReporter).accept(11.45);
+
+		assertThat(sequence.next(count, reporter)).isTrue();
+		assertThat(sequence.current().value()).isEqualTo(10.49);
+		verify(valueReporter).accept(10.49);
+
+		assertThat(sequence.next(count, reporter)).isTrue();
+		assertThat(sequence.current().value()).isEqualTo(10.01);
+		verify(valueReporter).accept(10.01);
+
+		assertThat(sequence.next(count, reporter)).isTrue();
+		assertThat(sequence.current().value()).isEqualTo(10.0);
+		verify(valueReporter).accept(10.0);
+
+		assertThat(sequence.next(count, reporter)).isFalse();
+		verifyNoMoreInteractions(valueReporter);
+	}
+
+	@Example
+	void shrinkDecimals() {
+		Shrinkable<Double> shrinkable = new ShrinkableDouble(0.37, Range.of(-1.0, 1.0), 2);
+
+		ShrinkingSequence<Double> sequence = shrinkable.shrink(aDouble -> aDouble < 0.1);
+
+		while (sequence.next(count, reporter)) {
+		}
+
+		assertThat(sequence.current().value()).isEqualTo(0.1);
+	}
+
+	@Example
+	void shrinkValuesBeyondLongRange() {
+		Shrinkable<Double> shrinkable = new ShrinkableDouble(1.2e300, Range.of(-Double.MAX_VALUE, Double.MAX_VALUE), 2);
+
+		ShrinkingSequence<Double> sequence = shrinkable.shrink(aDouble -> aDouble < 1000.5);
+
+		while (sequence.next(count, reporter)) {
+		}
+
+		assertThat(sequence.current().value()).isEqualTo(1000.5);
+	}
+
+	@Property
+	void shrinkingWillAlwaysConvergeToZero(@ForAll @DoubleRange(min = -1000000000, max = 1000000000) @Scale(5) double aValue) {
+		Shrinkable<Double> shrinkable = new ShrinkableDouble(aValue, Range.of(-1000000000.0, 1000000000.0), 5);
+		ShrinkingSequence<Double> sequence = shrinkable.shrink(ignore -> false);
+		while (sequence.next(count, reporter)) ;
+		assertThat(Math.abs(sequence.current().value())).isEqualTo(0.0);
+	}
+
+}
@@ -0,0 +1,40 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.concurrent.atomic.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.arbitraries.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Label("ShrinkableInt")
+class ShrinkableIntTests {
+
+	private AtomicInteger counter = new AtomicInteger(0);
+	private Runnable count = counter::incrementAndGet;
+
+	@Example
+	void unitStepsContinueShrinkingBelowThreshold() {
+		Shrinkable<Integer> shrinkable = new ShrinkableInt(1001, Range.of(0, 5000));
+
+		ShrinkingSequence<Integer> sequence = shrinkable.shrink(anInt -> anInt % 2 == 0);
+
+		while (sequence.next(count, ignore -> {}));
+
+		assertThat(sequence.current().value()).isEqualTo(1);
+	}
+
+	@Example
+	void nonMonotonePropertyCanEndInLocalMinimum() {
+		Shrinkable<Integer> shrinkable = new ShrinkableInt(1000, Range.of(0, 5000));
+
+		// Fails for multiples of 5 above 100
+		ShrinkingSequence<Integer> sequence = shrinkable.shrink(anInt -> anInt <= 100 || anInt % 5 != 0);
+
+		while (sequence.next(count, ignore -> {}));
+
+		// Bisection goes 1000, 500, 250, 125 and no value up to 3 unit steps below 125 fails.
+		// The smallest falsifying value would be 105.
+		assertThat(sequence.current().value()).isEqualTo(125);
+	}
+}
@@ -32,6 +32,41 @@ class ShrinkableListTests {
 		assertThat(shrinkable.value()).isEqualTo(asList(0, 1, 2, 3));
 	}
 
+	@Example
+	void valueIsOnlyCreatedWhenNeeded() {
+		AtomicInteger valueCalls = new AtomicInteger(0);
+		Shrinkable<Integer> element = new OneStepShrinkable(5) {
+			@Override
+			public Integer value() {
+				valueCalls.incrementAndGet();
+				return super.value();
+			}
+		};
+		Shrinkable<List<Integer>> shrinkable = new ShrinkableList<>(asList(element, element), 0);
+		assertThat(valueCalls.get()).isEqualTo(0);
+
+		assertThat(shrinkable.value()).isEqualTo(asList(5, 5));
+		assertThat(shrinkable.value()).isEqualTo(asList(5, 5));
+		assertThat(valueCalls.get()).isEqualTo(2);
+	}
+
+	@Example
+	void equalListsHaveEqualHashCodes() {
+		Shrinkable<List<Integer>> shrinkable = createShrinkableList(0, 1, 2, 3);
+
+		assertThat(shrinkable).isEqualTo(createShrinkableList(0, 1, 2, 3));
+		assertThat(shrinkable.hashCode()).isEqualTo(createShrinkableList(0, 1, 2, 3).hashCode());
+	}
+
+	@Example
+	void listsOfSameSizeHaveDifferentHashCodes() {
+		Set<Integer> hashCodes = new HashSet<>();
+		for (int i = 0; i < 10; i++) {
+			hashCodes.add(createShrinkableList(i, 0, 1).hashCode());
+		}
+		assertThat(hashCodes.size()).isEqualTo(10);
+	}
+
 	@Group
 	class ReportFalsified {
 
@@ -42,10 +77,6 @@ class ShrinkableListTests {
 
 			ShrinkingSequence<List<Integer>> sequence = shrinkable.shrink(aList -> false);
 
-			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value()).isEqualTo(asList(0, 1));
-			verify(valueReporter).accept(asList(0, 1));
-
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value()).isEqualTo(asList(0));
 			verify(valueReporter).accept(asList(0));
@@ -65,10 +96,6 @@ class ShrinkableListTests {
 
 			ShrinkingSequence<List<Integer>> sequence = shrinkable.shrink(List::isEmpty);
 
-			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value()).isEqualTo(asList(3, 3));
-			verify(valueReporter).accept(asList(3, 3));
-
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value()).isEqualTo(asList(3));
 			verify(valueReporter).accept(asList(3));
@@ -100,15 +127,13 @@ class ShrinkableListTests {
 
 			ShrinkingSequence<List<Integer>> sequence = shrinkable.shrink(aList -> false);
 
-			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value().size()).isEqualTo(2);
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value().size()).isEqualTo(1);
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value().size()).isEqualTo(0);
 			assertThat(sequence.next(count, reporter)).isFalse();
 
-			Assertions.assertThat(counter.get()).isEqualTo(3);
+			Assertions.assertThat(counter.get()).isEqualTo(2);
 		}
 
 		@Example
@@ -120,14 +145,10 @@ class ShrinkableListTests {
 			ShrinkingSequence<List<Integer>> sequence = shrinkable.shrink(aList -> false);
 
 			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value().size()).isEqualTo(4);
-			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value().size()).isEqualTo(3);
-			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value().size()).isEqualTo(2);
+			assertThat(sequence.current().value()).isEqualTo(asList(0, 1));
 			assertThat(sequence.next(count, reporter)).isFalse();
 
-			Assertions.assertThat(counter.get()).isEqualTo(3);
+			Assertions.assertThat(counter.get()).isEqualTo(1);
 		}
 
 		@Example
@@ -136,13 +157,11 @@ class ShrinkableListTests {
 
 			ShrinkingSequence<List<Integer>> sequence = shrinkable.shrink(List::isEmpty);
 
-			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value().size()).isEqualTo(2);
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value().size()).isEqualTo(1);
 			assertThat(sequence.next(count, reporter)).isFalse();
 
-			Assertions.assertThat(counter.get()).isEqualTo(2);
+			Assertions.assertThat(counter.get()).isEqualTo(1);
 		}
 
 		@Example
@@ -153,14 +172,13 @@ class ShrinkableListTests {
 
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value()).isEqualTo(asList(1, 1));
+			// Equal elements are shrunk together
 			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value().size()).isEqualTo(2);
-			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value().size()).isEqualTo(2);
+			assertThat(sequence.current().value()).isEqualTo(asList(0, 0));
 			assertThat(sequence.next(count, reporter)).isFalse();
 			assertThat(sequence.current().value()).isEqualTo(asList(0, 0));
 
-			Assertions.assertThat(counter.get()).isEqualTo(3);
+			Assertions.assertThat(counter.get()).isEqualTo(2);
 		}
 
 		@Example
@@ -200,12 +218,10 @@ class ShrinkableListTests {
 				elements -> elements.size() % 2 == 0);
 			ShrinkingSequence<List<Integer>> sequence = shrinkable.shrink(filteredFalsifier);
 
-			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value()).isEqualTo(asList(3, 3, 3, 3));
-
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value()).isEqualTo(asList(3, 3));
 
+			// Continues from filtered out [3]
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value()).isEqualTo(asList(3, 3));
 
@@ -214,7 +230,7 @@ class ShrinkableListTests {
 
 			assertThat(sequence.next(count, reporter)).isFalse();
 
-			Assertions.assertThat(counter.get()).isEqualTo(4);
+			Assertions.assertThat(counter.get()).isEqualTo(3);
 		}
 
 		@Example
@@ -226,8 +242,6 @@ class ShrinkableListTests {
 				elements -> elements.stream().allMatch(i -> i % 2 == 1));
 			ShrinkingSequence<List<Integer>> sequence = shrinkable.shrink(filteredFalsifier);
 
-			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value()).isEqualTo(asList(3, 3));
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value()).isEqualTo(asList(3));
 			assertThat(sequence.next(count, reporter)).isTrue();
@@ -238,7 +252,7 @@ class ShrinkableListTests {
 			assertThat(sequence.current().value()).isEqualTo(asList(1));
 			assertThat(sequence.next(count, reporter)).isFalse();
 
-			Assertions.assertThat(counter.get()).isEqualTo(5);
+			Assertions.assertThat(counter.get()).isEqualTo(4);
 		}
 
 		@Example
@@ -253,36 +267,24 @@ class ShrinkableListTests {
 			ShrinkingSequence<List<Integer>> sequence = shrinkable.shrink(falsifier);
 
 			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value()).hasSize(100);
-			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value()).hasSize(50);
+			assertThat(sequence.current().value()).hasSize(99);
 			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value()).hasSize(25);
+			assertThat(sequence.current().value()).hasSize(49);
 			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value()).hasSize(13);
+			assertThat(sequence.current().value()).hasSize(24);
 			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value()).hasSize(9);
-			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value()).hasSize(8);
-			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value()).hasSize(7);
+			assertThat(sequence.current().value()).hasSize(12);
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value()).hasSize(6);
 			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value()).hasSize(5);
-			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value()).hasSize(4);
-			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value()).hasSize(3);
 			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value()).hasSize(2);
-			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value()).hasSize(1);
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value()).hasSize(1);
 			assertThat(sequence.next(count, reporter)).isFalse();
 
-			Assertions.assertThat(counter.get()).isEqualTo(14);
+			Assertions.assertThat(counter.get()).isEqualTo(8);
 		}
 	}
 
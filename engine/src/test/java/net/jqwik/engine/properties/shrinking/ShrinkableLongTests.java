@@ -0,0 +1,173 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.arbitraries.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Group
+@Label("ShrinkableLong and ShrinkableInt")
+class ShrinkableLongTests {
+
+	private AtomicInteger counter = new AtomicInteger(0);
+	private Runnable count = counter::incrementAndGet;
+
+	@SuppressWarnings("unchecked")
+	private Consumer<Long> valueReporter = mock(Consumer.class);
+	private Consumer<FalsificationResult<Long>> reporter = result -> valueReporter.accept(result.value());
+
+	@Example
+	void creation() {
+		Shrinkable<Long> shrinkable = new ShrinkableLong(25, Range.of(-100L, 100L));
+		assertThat(shrinkable.value()).isEqualTo(25L);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(25));
+	}
+
+	@Example
+	void cannotCreateValueOutsideRange() {
+		assertThatThrownBy( //
+			() -> new ShrinkableLong(25, Range.of(50L, 100L))) //
+			.isInstanceOf(JqwikException.class);
+		assertThatThrownBy( //
+			() -> new ShrinkableInt(25, Range.of(50, 100))) //
+			.isInstanceOf(JqwikException.class);
+	}
+
+	@Example
+	void shrinkingDistanceIsDistanceToShrinkingTarget() {
+		assertThat(new ShrinkableLong(-25, Range.of(-100L, 100L)).distance()).isEqualTo(ShrinkingDistance.of(25));
+		assertThat(new ShrinkableLong(25, Range.of(5L, 100L)).distance()).isEqualTo(ShrinkingDistance.of(20));
+		assertThat(new ShrinkableLong(-25, Range.of(-100L, -5L)).distance()).isEqualTo(ShrinkingDistance.of(20));
+		assertThat(new ShrinkableInt(-25, Range.of(-100, -5)).distance()).isEqualTo(ShrinkingDistance.of(20));
+	}
+
+	@Example
+	void shrinkingDistanceOutsideLongRange() {
+		Range<Long> fullRange = Range.of(Long.MIN_VALUE, Long.MAX_VALUE);
+		assertThat(new ShrinkableLong(Long.MIN_VALUE, fullRange).distance()).isEqualTo(ShrinkingDistance.of(Long.MAX_VALUE));
+
+		Range<Integer> fullIntRange = Range.of(Integer.MIN_VALUE, Integer.MAX_VALUE);
+		assertThat(new ShrinkableInt(Integer.MIN_VALUE, fullIntRange).distance()).isEqualTo(ShrinkingDistance.of(-(long) Integer.MIN_VALUE));
+	}
+
+	@Example
+	@Label("report all falsified")
+	void reportFalsified() {
+		Shrinkable<Long> shrinkable = new ShrinkableLong(30, Range.of(-100L, 100L));
+
+		ShrinkingSequence<Long> sequence = shrinkable.shrink(aLong -> aLong < 10);
+
+		assertThat(sequence.next(count, reporter)).isTrue();
+		assertThat(sequence.current().value()).isEqualTo(15L);
+		verify(valueReporter).accept(15L);
+
+		assertThat(sequence.next(count, reporter)).isTrue();
+		assertThat(sequence.current().value()).isEqualTo(11L);
+		verify(valueReporter).accept(11L);
+
+		assertThat(sequence.next(count, reporter)).isTrue();
+		assertThat(sequence.current().value()).isEqualTo(10L);
+		verify(valueReporter).accept(10L);
+
+		assertThat(sequence.next(count, reporter)).isFalse();
+		verifyNoMoreInteractions(valueReporter);
+	}
+
+	@Group
+	class Shrinking {
+
+		@Example
+		void downAllTheWay() {
+			Shrinkable<Long> shrinkable = new ShrinkableLong(100000, Range.of(5L, 500000L));
+
+			ShrinkingSequence<Long> sequence = shrinkable.shrink(aLong -> aLong <= 1000);
+
+			while (sequence.next(count, reporter));
+
+			assertThat(sequence.current().value()).isEqualTo(1001L);
+			assertThat(counter.get()).isEqualTo(12);
+		}
+
+		@Example
+		void intDownAllTheWay() {
+			Shrinkable<Integer> shrinkable = new ShrinkableInt(100000, Range.of(5, 500000));
+
+			ShrinkingSequence<Integer> sequence = shrinkable.shrink(anInt -> anInt <= 1000);
+
+			while (sequence.next(count, ignore -> {}));
+
+			assertThat(sequence.current().value()).isEqualTo(1001);
+			assertThat(counter.get()).isEqualTo(12);
+		}
+
+		@Example
+		void fromLongMinValue() {
+			Shrinkable<Long> shrinkable = new ShrinkableLong(Long.MIN_VALUE, Range.of(Long.MIN_VALUE, Long.MAX_VALUE));
+
+			ShrinkingSequence<Long> sequence = shrinkable.shrink(aLong -> aLong > -1000);
+
+			while (sequence.next(count, reporter));
+
+			assertThat(sequence.current().value()).isEqualTo(-1000L);
+		}
+
+		@Example
+		void withFilter() {
+			Shrinkable<Long> shrinkable = new ShrinkableLong(100000, Range.of(0L, 1000000L));
+
+			Falsifier<Long> falsifier = aLong -> aLong < 99;
+			Falsifier<Long> filteredFalsifier = falsifier.withFilter(aLong -> aLong % 2 == 0);
+
+			ShrinkingSequence<Long> sequence = shrinkable.shrink(filteredFalsifier);
+
+			while (sequence.next(count, reporter));
+
+			assertThat(sequence.current().value()).isEqualTo(100L);
+			assertThat(counter.get()).isEqualTo(15);
+		}
+
+		@Example
+		void evaluationsAreLogarithmicInDistanceToTarget() {
+			Shrinkable<Long> shrinkable = new ShrinkableLong(987654321987654321L, Range.of(Long.MIN_VALUE, Long.MAX_VALUE));
+
+			AtomicInteger evaluations = new AtomicInteger(0);
+			ShrinkingSequence<Long> sequence = shrinkable.shrink(aLong -> {
+				evaluations.incrementAndGet();
+				return aLong < 123456789L;
+			});
+
+			while (sequence.next(count, reporter));
+
+			assertThat(sequence.current().value()).isEqualTo(123456789L);
+			assertThat(evaluations.get()).isLessThanOrEqualTo(64 + 3);
+		}
+
+		@Example
+		void probesAreEvaluatedConcurrently() {
+			Shrinkable<Long> shrinkable = new ShrinkableLong(100000, Range.of(5L, 500000L));
+
+			Set<Thread> evaluatingThreads = ConcurrentHashMap.newKeySet();
+			ShrinkingSequence<Long> sequence = shrinkable.shrink(aLong -> {
+				evaluatingThreads.add(Thread.currentThread());
+				return aLong <= 1000;
+			});
+
+			ConcurrentCandidateEvaluation.runInScope(4, () -> {
+				while (sequence.next(count, reporter)) ;
+			});
+
+			assertThat(sequence.current().value()).isEqualTo(1001L);
+			assertThat(evaluatingThreads).anyMatch(thread -> thread != Thread.currentThread());
+			// Five parts per step instead of two
+			assertThat(counter.get()).isLessThan(12);
+		}
+
+	}
+
+}
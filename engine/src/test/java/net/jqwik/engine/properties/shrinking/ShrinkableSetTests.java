@@ -40,10 +40,6 @@ class ShrinkableSetTests {
 
 		ShrinkingSequence<Set<Integer>> sequence = shrinkable.shrink(Set::isEmpty);
 
-		assertThat(sequence.next(count, reporter)).isTrue();
-		assertThat(sequence.current().value()).containsExactly(0, 1, 2);
-		verifyLastReporterCall(0, 1, 2);
-
 		assertThat(sequence.next(count, reporter)).isTrue();
 		assertThat(sequence.current().value()).containsExactly(0, 1);
 		verifyLastReporterCall(0, 1);
@@ -74,15 +70,13 @@ class ShrinkableSetTests {
 
 			ShrinkingSequence<Set<Integer>> sequence = shrinkable.shrink(aSet -> false);
 
-			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value().size()).isEqualTo(2);
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value().size()).isEqualTo(1);
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value().size()).isEqualTo(0);
 			assertThat(sequence.next(count, reporter)).isFalse();
 
-			assertThat(counter.get()).isEqualTo(3);
+			assertThat(counter.get()).isEqualTo(2);
 		}
 
 		@Example
@@ -92,17 +86,12 @@ class ShrinkableSetTests {
 			ShrinkingSequence<Set<Integer>> sequence = shrinkable.shrink(aSet -> false);
 
 			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value().size()).isEqualTo(4);
-			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value().size()).isEqualTo(3);
-			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value().size()).isEqualTo(2);
 			assertThat(sequence.current().value()).containsExactly(0, 1);
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value()).containsExactly(0, 1);
 			assertThat(sequence.next(count, reporter)).isFalse();
 
-			assertThat(counter.get()).isEqualTo(4);
+			assertThat(counter.get()).isEqualTo(2);
 		}
 
 		@Example
@@ -111,15 +100,13 @@ class ShrinkableSetTests {
 
 			ShrinkingSequence<Set<Integer>> sequence = shrinkable.shrink(Set::isEmpty);
 
-			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value()).containsExactly(0, 1, 2);
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value()).containsExactly(0, 1);
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value()).containsExactly(0);
 			assertThat(sequence.next(count, reporter)).isFalse();
 
-			assertThat(counter.get()).isEqualTo(3);
+			assertThat(counter.get()).isEqualTo(2);
 		}
 
 		@Example
@@ -130,9 +117,13 @@ class ShrinkableSetTests {
 			ShrinkingSequence<Set<Integer>> sequence = shrinkable.shrink(aSet -> aSet.size() <= 1);
 
 			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value()).containsExactly(2, 3);
+			assertThat(sequence.current().value()).containsExactly(3, 4);
+			assertThat(sequence.next(count, reporter)).isTrue();
+			assertThat(sequence.current().value()).containsExactly(2, 4);
 			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value()).containsExactly(1, 3);
+			assertThat(sequence.current().value()).containsExactly(1, 4);
+			assertThat(sequence.next(count, reporter)).isTrue();
+			assertThat(sequence.current().value()).containsExactly(0, 4);
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value()).containsExactly(0, 3);
 			assertThat(sequence.next(count, reporter)).isTrue();
@@ -141,7 +132,7 @@ class ShrinkableSetTests {
 			assertThat(sequence.current().value()).containsExactly(0, 1);
 			assertThat(sequence.next(count, reporter)).isFalse();
 
-			assertThat(counter.get()).isEqualTo(5);
+			assertThat(counter.get()).isEqualTo(7);
 		}
 
 		@Example
@@ -171,17 +162,16 @@ class ShrinkableSetTests {
 
 			ShrinkingSequence<Set<Integer>> sequence = shrinkable.shrink(filteredFalsifier);
 
-			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value()).containsExactly(1, 2, 3, 4);
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value()).containsExactly(1, 2);
+			// Continues from filtered out [1]
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value()).containsExactly(1, 2);
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value()).isEmpty();
 			assertThat(sequence.next(count, reporter)).isFalse();
 
-			assertThat(counter.get()).isEqualTo(4);
+			assertThat(counter.get()).isEqualTo(3);
 		}
 
 		@Example
@@ -195,7 +185,7 @@ class ShrinkableSetTests {
 			while (sequence.next(count, reporter));
 			assertThat(sequence.current().value()).containsExactly(2);
 
-			assertThat(counter.get()).isEqualTo(6);
+			assertThat(counter.get()).isEqualTo(5);
 		}
 
 		@Example
@@ -208,7 +198,7 @@ class ShrinkableSetTests {
 			while (sequence.next(count, reporter));
 			assertThat(sequence.current().value()).hasSize(5);
 
-			assertThat(counter.get()).isEqualTo(21);
+			assertThat(counter.get()).isEqualTo(18);
 		}
 
 	}
@@ -37,10 +37,6 @@ public class ShrinkableStringTests {
 
 		ShrinkingSequence<String> sequence = shrinkable.shrink(String::isEmpty);
 
-		assertThat(sequence.next(count, reporter)).isTrue();
-		assertThat(sequence.current().value()).isEqualTo("bc");
-		verify(valueReporter).accept("bc");
-
 		assertThat(sequence.next(count, reporter)).isTrue();
 		assertThat(sequence.current().value()).isEqualTo("b");
 		verify(valueReporter).accept("b");
@@ -63,15 +59,13 @@ public class ShrinkableStringTests {
 
 			ShrinkingSequence<String> sequence = shrinkable.shrink(aString -> false);
 
-			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value().length()).isEqualTo(2);
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value().length()).isEqualTo(1);
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value().length()).isEqualTo(0);
 			assertThat(sequence.next(count, reporter)).isFalse();
 
-			assertThat(counter.get()).isEqualTo(3);
+			assertThat(counter.get()).isEqualTo(2);
 		}
 
 		@Example
@@ -80,15 +74,11 @@ public class ShrinkableStringTests {
 
 			ShrinkingSequence<String> sequence = shrinkable.shrink(aString -> false);
 
-			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value().length()).isEqualTo(4);
-			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value().length()).isEqualTo(3);
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value().length()).isEqualTo(2);
 			assertThat(sequence.next(count, reporter)).isFalse();
 
-			assertThat(counter.get()).isEqualTo(3);
+			assertThat(counter.get()).isEqualTo(1);
 		}
 
 		@Example
@@ -97,15 +87,13 @@ public class ShrinkableStringTests {
 
 			ShrinkingSequence<String> sequence = shrinkable.shrink(String::isEmpty);
 
-			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value().length()).isEqualTo(3);
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value().length()).isEqualTo(2);
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value().length()).isEqualTo(1);
 			assertThat(sequence.next(count, reporter)).isFalse();
 
-			assertThat(counter.get()).isEqualTo(3);
+			assertThat(counter.get()).isEqualTo(2);
 		}
 
 		@Example
@@ -117,14 +105,13 @@ public class ShrinkableStringTests {
 
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value()).isEqualTo("bb");
+			// Equal characters are shrunk together
 			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value().length()).isEqualTo(2);
-			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value().length()).isEqualTo(2);
+			assertThat(sequence.current().value()).isEqualTo("aa");
 			assertThat(sequence.next(count, reporter)).isFalse();
 			assertThat(sequence.current().value()).isEqualTo("aa");
 
-			assertThat(counter.get()).isEqualTo(3);
+			assertThat(counter.get()).isEqualTo(2);
 		}
 
 		@Example
@@ -155,17 +142,16 @@ public class ShrinkableStringTests {
 
 			ShrinkingSequence<String> sequence = shrinkable.shrink(filteredFalsifier);
 
-			assertThat(sequence.next(count, reporter)).isTrue();
-			assertThat(sequence.current().value()).isEqualTo("cccc");
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value()).isEqualTo("cc");
+			// Continues from filtered out "c"
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value()).isEqualTo("cc");
 			assertThat(sequence.next(count, reporter)).isTrue();
 			assertThat(sequence.current().value()).isEqualTo("");
 			assertThat(sequence.next(count, reporter)).isFalse();
 
-			assertThat(counter.get()).isEqualTo(4);
+			assertThat(counter.get()).isEqualTo(3);
 		}
 
 		@Example
@@ -180,7 +166,7 @@ public class ShrinkableStringTests {
 			while (sequence.next(count, reporter));
 			assertThat(sequence.current().value()).isEqualTo("b");
 
-			assertThat(counter.get()).isEqualTo(7);
+			assertThat(counter.get()).isEqualTo(6);
 		}
 
 		@Example
@@ -198,7 +184,7 @@ public class ShrinkableStringTests {
 			while (sequence.next(count, reporter));
 			assertThat(sequence.current().value()).hasSize(5);
 
-			assertThat(counter.get()).isEqualTo(21);
+			assertThat(counter.get()).isEqualTo(18);
 		}
 
 	}
@@ -69,14 +69,12 @@ class ShrinkableActionSequenceTests {
 		verify(valueReporter).accept(any(ActionSequence.class));
 		assertThat(sequence.next(count, reporter)).isTrue();
 		verify(valueReporter, times(2)).accept(any(ActionSequence.class));
-		assertThat(sequence.next(count, reporter)).isTrue();
-		verify(valueReporter, times(3)).accept(any(ActionSequence.class));
 		assertThat(sequence.next(count, reporter)).isFalse();
 
 		assertThat(sequence.current().value().runActions()).hasSize(1);
 		assertThat(sequence.current().value().run("")).isEqualTo("x");
 
-		assertThat(counter.get()).isEqualTo(3);
+		assertThat(counter.get()).isEqualTo(2);
 		verifyNoMoreInteractions(valueReporter);
 	}
 
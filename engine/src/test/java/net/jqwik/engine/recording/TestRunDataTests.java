@@ -0,0 +1,103 @@
+package net.jqwik.engine.recording;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.stream.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TestRunDataTests {
+
+	private final UniqueId id1 = methodId("property1");
+	private final UniqueId id2 = methodId("property2");
+
+	@Example
+	void runsAreFoundByUniqueId() {
+		TestRun run1 = new TestRun(id1, Status.SUCCESSFUL, "1", null);
+		TestRun run2 = new TestRun(id2, Status.FAILED, "2", null);
+		TestRunData data = new TestRunData(Arrays.asList(run1, run2));
+
+		assertThat(data.byUniqueId(methodId("property1"))).hasValue(run1);
+		assertThat(data.byUniqueId(methodId("property2"))).hasValue(run2);
+		assertThat(data.byUniqueId(methodId("unknown"))).isNotPresent();
+	}
+
+	@Example
+	void laterRunReplacesEarlierRunWithSameUniqueId() {
+		TestRunData data = new TestRunData();
+		data.add(new TestRun(id1, Status.FAILED, "1", null));
+		data.add(new TestRun(id2, Status.FAILED, "2", null));
+		TestRun successfulRun = new TestRun(id1, Status.SUCCESSFUL, "3", null);
+		data.add(successfulRun);
+
+		assertThat(data.byUniqueId(id1)).hasValue(successfulRun);
+		assertThat(data.allNonSuccessfulTests()).extracting(TestRun::getUniqueId).containsExactly(id2);
+	}
+
+	@Example
+	void runsWithUnparsableUniqueIdAreIgnored() {
+		TestRun brokenRun = new TestRun("no unique id", Status.FAILED, null, () -> null);
+		TestRunData data = new TestRunData(Collections.singletonList(brokenRun));
+
+		assertThat(data.allNonSuccessfulTests()).isEmpty();
+	}
+
+	@Example
+	void allOfManyStoredRunsAreFoundByUniqueId() {
+		int count = 20_000;
+		List<UniqueId> uniqueIds = IntStream.range(0, count)
+											.mapToObj(i -> methodId("property" + i))
+											.collect(Collectors.toList());
+		List<TestRun> runs = uniqueIds.stream()
+									  .map(uniqueId -> new TestRun(uniqueId, Status.SUCCESSFUL, "42", null))
+									  .collect(Collectors.toList());
+		TestRunData data = new TestRunData(runs);
+
+		long found = uniqueIds.stream().filter(uniqueId -> data.byUniqueId(uniqueId).isPresent()).count();
+
+		assertThat(found).isEqualTo(count);
+	}
+
+	@Example
+	void lookupsDoNotVisitStoredRuns() {
+		int count = 1_000;
+		AtomicInteger uniqueIdAccesses = new AtomicInteger(0);
+		List<UniqueId> uniqueIds = IntStream.range(0, count)
+											.mapToObj(i -> methodId("property" + i))
+											.collect(Collectors.toList());
+		List<TestRun> runs = uniqueIds.stream()
+									  .map(uniqueId -> new CountingTestRun(uniqueId, uniqueIdAccesses))
+									  .collect(Collectors.toList());
+		TestRunData data = new TestRunData(runs);
+
+		uniqueIds.forEach(data::byUniqueId);
+		data.allNonSuccessfulTests().forEach(ignore -> {});
+
+		// Only indexing reads a run's unique id; a linear scan per lookup would read it about half a million times
+		assertThat(uniqueIdAccesses.get()).isEqualTo(count);
+	}
+
+	private static class CountingTestRun extends TestRun {
+		private final AtomicInteger uniqueIdAccesses;
+
+		private CountingTestRun(UniqueId uniqueId, AtomicInteger uniqueIdAccesses) {
+			super(uniqueId, Status.SUCCESSFUL, "42", null);
+			this.uniqueIdAccesses = uniqueIdAccesses;
+		}
+
+		@Override
+		public UniqueId getUniqueId() {
+			uniqueIdAccesses.incrementAndGet();
+			return super.getUniqueId();
+		}
+	}
+
+	private static UniqueId methodId(String methodName) {
+		return UniqueId.forEngine("jqwik").append("class", "MyProperties").append("method", methodName + "()");
+	}
+}
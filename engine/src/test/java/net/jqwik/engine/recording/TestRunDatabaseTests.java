@@ -0,0 +1,184 @@
+package net.jqwik.engine.recording;
+
+import java.io.*;
+import java.nio.file.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TestRunDatabaseTests {
+
+	private final UniqueId id1 = UniqueId.root("engine", "jqwik").append("method", "property1()");
+	private final UniqueId id2 = UniqueId.root("engine", "jqwik").append("method", "property2()");
+
+	private final Path databasePath = createDatabasePath();
+
+	@Example
+	void nonExistingDatabaseHasNoPreviousRuns() {
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+
+		assertThat(database.previousRun().byUniqueId(id1)).isNotPresent();
+		assertThat(database.previousRun().allNonSuccessfulTests()).isEmpty();
+	}
+
+	@Example
+	void recordedRunsAreAvailableInNextRun() {
+		record(
+			new TestRun(id1, Status.FAILED, "42", Arrays.asList(1, "two")),
+			new TestRun(id2, Status.SUCCESSFUL, null, null)
+		);
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		TestRun run1 = previousRun.byUniqueId(id1).get();
+		assertThat(run1.getStatus()).isEqualTo(Status.FAILED);
+		assertThat(run1.randomSeed()).hasValue("42");
+		assertThat(run1.falsifiedSample()).hasValue(Arrays.asList(1, "two"));
+
+		TestRun run2 = previousRun.byUniqueId(id2).get();
+		assertThat(run2.getStatus()).isEqualTo(Status.SUCCESSFUL);
+		assertThat(run2.randomSeed()).isNotPresent();
+		assertThat(run2.falsifiedSample()).isNotPresent();
+	}
+
+	@Example
+	void laterRunsSupersedeEarlierRuns() {
+		record(new TestRun(id1, Status.FAILED, "42", Collections.singletonList(1)));
+		record(new TestRun(id2, Status.FAILED, "43", null));
+		record(new TestRun(id1, Status.SUCCESSFUL, "44", null));
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		assertThat(previousRun.byUniqueId(id1).get().getStatus()).isEqualTo(Status.SUCCESSFUL);
+		assertThat(previousRun.byUniqueId(id1).get().randomSeed()).hasValue("44");
+		assertThat(previousRun.allNonSuccessfulTests()).extracting(TestRun::getUniqueId).containsExactly(id2);
+	}
+
+	@Example
+	void databaseIsCompactedWhenMostRecordsAreSuperseded() throws IOException {
+		record(new TestRun(id2, Status.FAILED, "1", Collections.singletonList("sample")));
+		record(new TestRun(id1, Status.FAILED, "1", null));
+		long sizeWithTwoRuns = Files.size(databasePath);
+		TestRun[] supersedingRuns = new TestRun[8];
+		for (int i = 0; i < supersedingRuns.length; i++) {
+			supersedingRuns[i] = new TestRun(id1, Status.FAILED, Integer.toString(i + 2), null);
+		}
+		record(supersedingRuns);
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		assertThat(Files.size(databasePath)).isEqualTo(sizeWithTwoRuns);
+		assertThat(previousRun.byUniqueId(id1).get().randomSeed()).hasValue("9");
+		assertThat(previousRun.byUniqueId(id2).get().falsifiedSample()).hasValue(Collections.singletonList("sample"));
+	}
+
+	@Example
+	void incompleteLastRecordIsIgnored() throws IOException {
+		record(new TestRun(id1, Status.FAILED, "42", null));
+		try (OutputStream out = Files.newOutputStream(databasePath, StandardOpenOption.APPEND)) {
+			out.write(new byte[]{0, 0, 0, 50, 1, 2});
+		}
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		assertThat(database.previousRun().byUniqueId(id1)).isPresent();
+
+		record(database, new TestRun(id2, Status.FAILED, "43", null));
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.byUniqueId(id1)).isPresent();
+		assertThat(previousRun.byUniqueId(id2)).isPresent();
+	}
+
+	@Example
+	void runWithNonSerializableSampleIsRecordedWithoutSample() {
+		record(new TestRun(id1, Status.FAILED, "42", Collections.singletonList(new Object())));
+
+		TestRun run = new TestRunDatabase(databasePath).previousRun().byUniqueId(id1).get();
+		assertThat(run.randomSeed()).hasValue("42");
+		assertThat(run.falsifiedSample()).isNotPresent();
+	}
+
+	@Example
+	void databaseInUnknownFormatIsDiscarded() throws IOException {
+		try (ObjectOutputStream out = new ObjectOutputStream(Files.newOutputStream(databasePath))) {
+			out.writeObject("serialized by an older version");
+		}
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		assertThat(database.previousRun().allNonSuccessfulTests()).isEmpty();
+
+		record(database, new TestRun(id1, Status.FAILED, "42", null));
+		assertThat(new TestRunDatabase(databasePath).previousRun().byUniqueId(id1)).isPresent();
+	}
+
+	@Example
+	void runsNotRecordedWithinExpiryAreDropped() {
+		Clock now = Clock.systemUTC();
+		Clock beforeExpiry = Clock.offset(now, TestRunDatabase.EXPIRY.plusDays(1).negated());
+		record(new TestRunDatabase(databasePath, beforeExpiry), new TestRun(id1, Status.FAILED, "42", null));
+		record(new TestRunDatabase(databasePath, now), new TestRun(id2, Status.FAILED, "43", null));
+
+		TestRunData previousRun = new TestRunDatabase(databasePath, now).previousRun();
+
+		assertThat(previousRun.byUniqueId(id1)).isNotPresent();
+		assertThat(previousRun.byUniqueId(id2)).isPresent();
+	}
+
+	@Example
+	void sampleIsNotLoadedAfterDatabaseWasCompactedByAnotherInstance() {
+		record(new TestRun(id1, Status.FAILED, "42", Collections.singletonList("sample")));
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		TestRun[] supersedingRuns = new TestRun[4];
+		for (int i = 0; i < supersedingRuns.length; i++) {
+			supersedingRuns[i] = new TestRun(id2, Status.FAILED, Integer.toString(i), null);
+		}
+		record(supersedingRuns);
+		new TestRunDatabase(databasePath);
+
+		assertThat(previousRun.byUniqueId(id1).get().falsifiedSample()).isNotPresent();
+	}
+
+	@Example
+	void falsifiedSampleIsOnlyLoadedOnce() {
+		AtomicInteger countLoads = new AtomicInteger(0);
+		TestRun run = new TestRun(id1.toString(), Status.FAILED, "42", () -> {
+			countLoads.incrementAndGet();
+			return Collections.singletonList("sample");
+		});
+
+		assertThat(run.falsifiedSample()).hasValue(Collections.singletonList("sample"));
+		assertThat(run.falsifiedSample()).hasValue(Collections.singletonList("sample"));
+		assertThat(countLoads.get()).isEqualTo(1);
+	}
+
+	private void record(TestRun... testRuns) {
+		record(new TestRunDatabase(databasePath), testRuns);
+	}
+
+	private void record(TestRunDatabase database, TestRun... testRuns) {
+		try (TestRunRecorder recorder = database.recorder()) {
+			for (TestRun testRun : testRuns) {
+				recorder.record(testRun);
+			}
+		}
+	}
+
+	private static Path createDatabasePath() {
+		try {
+			Path directory = Files.createTempDirectory("jqwik");
+			directory.toFile().deleteOnExit();
+			Path databasePath = directory.resolve(".jqwik-database");
+			databasePath.toFile().deleteOnExit();
+			return databasePath;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package net.jqwik.engine.support;
+
+import java.time.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JqwikDurationSupportTests {
+
+	@Example
+	void parseDurationsWithUnit() {
+		assertThat(JqwikDurationSupport.parseDuration("500ms")).isEqualTo(Duration.ofMillis(500));
+		assertThat(JqwikDurationSupport.parseDuration("30s")).isEqualTo(Duration.ofSeconds(30));
+		assertThat(JqwikDurationSupport.parseDuration("2m")).isEqualTo(Duration.ofMinutes(2));
+		assertThat(JqwikDurationSupport.parseDuration("1h")).isEqualTo(Duration.ofHours(1));
+		assertThat(JqwikDurationSupport.parseDuration(" 10 s ")).isEqualTo(Duration.ofSeconds(10));
+	}
+
+	@Example
+	void numberWithoutUnitIsSeconds() {
+		assertThat(JqwikDurationSupport.parseDuration("0")).isEqualTo(Duration.ZERO);
+		assertThat(JqwikDurationSupport.parseDuration("42")).isEqualTo(Duration.ofSeconds(42));
+	}
+
+	@Example
+	void illegalDurationsAreRejected() {
+		assertThatThrownBy(() -> JqwikDurationSupport.parseDuration("")).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> JqwikDurationSupport.parseDuration("-1s")).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> JqwikDurationSupport.parseDuration("1d")).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> JqwikDurationSupport.parseDuration("1.5s")).isInstanceOf(JqwikException.class);
+	}
+
+	@Example
+	void displayString() {
+		assertThat(JqwikDurationSupport.displayString(Duration.ofMillis(1500))).isEqualTo("1500ms");
+		assertThat(JqwikDurationSupport.displayString(Duration.ofMinutes(2))).isEqualTo("120s");
+	}
+}